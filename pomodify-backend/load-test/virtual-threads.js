@@ -0,0 +1,73 @@
+// k6 load test: platform vs virtual threads at a fixed Hikari pool size.
+//
+// Run the backend twice with the same pool size, once per mode, and compare the k6 summaries
+// (http_reqs rate, http_req_duration p95/p99, http_req_failed):
+//
+//   SPRING_DATASOURCE_HIKARI_MAXIMUM_POOL_SIZE=10 VIRTUAL_THREADS_ENABLED=false java -jar target/*.jar
+//   SPRING_DATASOURCE_HIKARI_MAXIMUM_POOL_SIZE=10 VIRTUAL_THREADS_ENABLED=true  java -jar target/*.jar
+//
+//   k6 run -e BASE_URL=http://localhost:8081/api/v2 -e TOKEN=<access token> load-test/virtual-threads.js
+//
+// The mix is read-heavy DB traffic (dashboard, settings, sessions) plus a share of slow blocking
+// work (AI next-step suggestions, which wait on Gemini). With platform threads the slow calls occupy Tomcat
+// workers; with virtual threads they should not reduce throughput of the DB-bound endpoints.
+// Also watch /actuator/metrics/hikaricp.connections.pending and pomodify.vthreads.pinned (start the backend with
+// MANAGEMENT_ENDPOINTS_WEB_EXPOSURE_INCLUDE=health,info,metrics to expose them).
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081/api/v2';
+const TOKEN = __ENV.TOKEN;
+const ACTIVITY_ID = __ENV.ACTIVITY_ID || '1';
+
+export const options = {
+  scenarios: {
+    reads: {
+      executor: 'constant-arrival-rate',
+      rate: Number(__ENV.READ_RPS || 300),
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '2m',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      exec: 'reads',
+    },
+    slowCalls: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.SLOW_VUS || 50),
+      duration: __ENV.DURATION || '2m',
+      exec: 'slowCalls',
+    },
+  },
+  thresholds: {
+    'http_req_failed{scenario:reads}': ['rate<0.01'],
+    'http_req_duration{scenario:reads}': ['p(95)<500'],
+  },
+};
+
+const params = {
+  headers: { Authorization: `Bearer ${TOKEN}`, 'X-Timezone': 'Asia/Manila' },
+  timeout: '30s',
+};
+
+export function reads() {
+  const pick = Math.random();
+  let res;
+  if (pick < 0.4) {
+    res = http.get(`${BASE_URL}/dashboard`, params);
+  } else if (pick < 0.7) {
+    res = http.get(`${BASE_URL}/settings`, params);
+  } else {
+    res = http.get(`${BASE_URL}/activities/${ACTIVITY_ID}/sessions`, params);
+  }
+  check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function slowCalls() {
+  const body = JSON.stringify({ activityId: Number(ACTIVITY_ID), currentTodos: [] });
+  const res = http.post(`${BASE_URL}/ai/suggest`, body, {
+    headers: { ...params.headers, 'Content-Type': 'application/json' },
+    timeout: '60s',
+  });
+  check(res, { 'ai call answered': (r) => r.status < 500 });
+}
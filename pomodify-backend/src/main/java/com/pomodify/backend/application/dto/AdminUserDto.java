@@ -12,6 +12,7 @@ public class AdminUserDto {
     private String firstName;
     private String lastName;
     private String email;
+    private String profilePictureThumbUrl;
     
     @JsonProperty("isEmailVerified")
     private boolean isEmailVerified;
@@ -0,0 +1,15 @@
+package com.pomodify.backend.application.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class AdminUserPage {
+    private List<AdminUserDto> users;
+
+    /** Id to pass as the cursor for the next page; null on the last page. */
+    private Long nextCursor;
+}
@@ -0,0 +1,20 @@
+package com.pomodify.backend.application.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published by {@link com.pomodify.backend.application.service.PhaseTimerRegistry} when the
+ * in-memory timer of a running phase fires.
+ */
+public class PhaseDeadlineReachedEvent extends ApplicationEvent {
+    private final Long sessionId;
+
+    public PhaseDeadlineReachedEvent(Object source, Long sessionId) {
+        super(source);
+        this.sessionId = sessionId;
+    }
+
+    public Long getSessionId() {
+        return sessionId;
+    }
+}
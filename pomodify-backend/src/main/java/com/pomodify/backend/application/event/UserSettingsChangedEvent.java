@@ -5,11 +5,21 @@ import org.springframework.context.ApplicationEvent;
 public class UserSettingsChangedEvent extends ApplicationEvent {
     private final Long userId;
     private final boolean notificationsEnabled;
+    private final boolean notificationsToggled;
 
     public UserSettingsChangedEvent(Object source, Long userId, boolean notificationsEnabled) {
+        this(source, userId, notificationsEnabled, true);
+    }
+
+    /**
+     * @param notificationsToggled whether this change flipped {@code notificationsEnabled}; other
+     *                             changes (e.g. sound) only matter to cached notification profiles
+     */
+    public UserSettingsChangedEvent(Object source, Long userId, boolean notificationsEnabled, boolean notificationsToggled) {
         super(source);
         this.userId = userId;
         this.notificationsEnabled = notificationsEnabled;
+        this.notificationsToggled = notificationsToggled;
     }
 
     public Long getUserId() {
@@ -19,4 +29,8 @@ public class UserSettingsChangedEvent extends ApplicationEvent {
     public boolean isNotificationsEnabled() {
         return notificationsEnabled;
     }
+
+    public boolean isNotificationsToggled() {
+        return notificationsToggled;
+    }
 }
@@ -19,6 +19,9 @@ public class UserSettingsChangedListener {
 
     @EventListener
     public void onSettingsChanged(UserSettingsChangedEvent event) {
+        if (!event.isNotificationsToggled()) {
+            return;
+        }
         Long userId = event.getUserId();
         boolean enabled = event.isNotificationsEnabled();
 
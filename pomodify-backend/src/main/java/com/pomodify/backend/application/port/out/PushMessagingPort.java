@@ -0,0 +1,38 @@
+package com.pomodify.backend.application.port.out;
+
+import com.google.firebase.messaging.Message;
+
+import java.util.List;
+
+/**
+ * Outbound port for FCM delivery. Implementations send a whole batch at once and report one
+ * {@link SendOutcome} per message, in input order, so callers can handle each token individually.
+ */
+public interface PushMessagingPort {
+
+    /** Largest batch FCM accepts in a single sendEach call. */
+    int MAX_BATCH_SIZE = 500;
+
+    enum Status {
+        SENT,
+        /** Token is unregistered or malformed; it should be deleted. */
+        INVALID_TOKEN,
+        /** Transient failure (quota, unavailable, internal); worth retrying. */
+        RETRYABLE,
+        /** Messaging is not configured on this node (no Firebase app). */
+        UNAVAILABLE
+    }
+
+    record SendOutcome(Status status, String error) {
+        public static SendOutcome sent() {
+            return new SendOutcome(Status.SENT, null);
+        }
+    }
+
+    /**
+     * Sends {@code messages}, splitting into chunks of at most {@link #MAX_BATCH_SIZE}.
+     *
+     * @return one outcome per message, in the same order
+     */
+    List<SendOutcome> sendEach(List<Message> messages);
+}
@@ -0,0 +1,26 @@
+package com.pomodify.backend.application.port.out;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Cluster-wide channel for real-time user events (phase changes, completions, badges, settings).
+ * Every node subscribes, and every published event reaches every node's subscribers (including the
+ * publisher's own), so whichever node holds a client's SSE connection can forward the event.
+ */
+public interface UserEventBus {
+
+    /**
+     * @param id        assigned by the publisher; increases over time so clients can resume with
+     *                  {@code Last-Event-ID}
+     * @param type      SSE event name, e.g. {@code phase-change}
+     * @param sessionId the session concerned, or null for user-level events
+     * @param data      JSON-friendly payload (strings, numbers, booleans, nested maps)
+     */
+    record UserEvent(long id, String type, Long userId, Long sessionId, Map<String, Object> data) {
+    }
+
+    void publish(UserEvent event);
+
+    void subscribe(Consumer<UserEvent> listener);
+}
@@ -0,0 +1,18 @@
+package com.pomodify.backend.application.result;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Value
+@Builder
+public class HeatmapResult {
+    LocalDate from;
+    LocalDate to;
+    List<LocalDate> focusDays;
+    int focusDayCount;
+    int currentStreak;
+    int bestStreak;
+}
@@ -0,0 +1,22 @@
+package com.pomodify.backend.application.result;
+
+import org.springframework.core.io.Resource;
+
+import java.time.Instant;
+
+/**
+ * A stored profile picture ready to be served. {@code content} is either the file itself
+ * (streamed on write) or an in-memory copy from the hot-image cache.
+ *
+ * @param etag      strong entity tag, quoted
+ * @param immutable true for content-addressed file names, whose bytes never change
+ */
+public record ProfilePictureContent(
+        String fileName,
+        String contentType,
+        String etag,
+        Instant lastModified,
+        long size,
+        boolean immutable,
+        Resource content
+) {}
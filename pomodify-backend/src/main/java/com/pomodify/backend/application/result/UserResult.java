@@ -9,6 +9,8 @@ public record UserResult(
         String email,
         boolean isEmailVerified,
         String backupEmail,
-        String profilePictureUrl
+        String profilePictureUrl,
+        String profilePictureThumbUrl,
+        String profilePictureUploadId
 ) {
 }
@@ -4,7 +4,6 @@ import com.pomodify.backend.application.command.activity.*;
 import com.pomodify.backend.application.helper.DomainHelper;
 import com.pomodify.backend.application.helper.UserHelper;
 import com.pomodify.backend.application.result.ActivityResult;
-import com.pomodify.backend.domain.enums.SessionStatus;
 import com.pomodify.backend.domain.model.Activity;
 import com.pomodify.backend.domain.model.Category;
 import com.pomodify.backend.domain.model.User;
@@ -13,12 +12,13 @@ import com.pomodify.backend.domain.repository.PomodoroSessionRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -28,13 +28,10 @@ public class ActivityService {
     private final PomodoroSessionRepository sessionRepository;
     private final UserHelper userHelper;
     private final DomainHelper domainHelper;
+    private final UserCacheGenerations userCacheGenerations;
 
     /* -------------------- CREATE -------------------- */
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "activities", allEntries = true),
-            @CacheEvict(value = "categories", allEntries = true)
-    })
     public ActivityResult createActivity(CreateActivityCommand command) {
         User user = userHelper.getUserOrThrow(command.user());
         Category category = domainHelper
@@ -54,6 +51,7 @@ public class ActivityService {
         );
 
         log.info("Activity created with ID: {}", saved.getId());
+        userCacheGenerations.invalidate(command.user());
         return mapToResult(saved);
     }
 
@@ -61,7 +59,7 @@ public class ActivityService {
     @Transactional
     @Cacheable(
             value = "activities",
-            key = "{ #command.user(), #command.deleted(), #command.categoryId(), "
+            key = "{ #command.user(), @userCacheGenerations.of(#command.user()), #command.deleted(), #command.categoryId(), "
                     + "#command.pageable().pageNumber, #command.pageable().pageSize, "
                     + "#command.sortBy(), #command.sortOrder() }"
     )
@@ -76,10 +74,15 @@ public class ActivityService {
                         + " activities for user ID: "
                         + command.user());
 
-        return activitiesPage.map(this::mapToResult);
+        // One grouped query for the whole page instead of one history scan per activity
+        Map<Long, PomodoroSessionRepository.ActivityOutcomeCounts> outcomes = sessionRepository.countOutcomesByActivityIds(
+                activitiesPage.getContent().stream().map(Activity::getId).toList());
+
+        return activitiesPage.map(activity -> mapToResult(activity,
+                outcomes.getOrDefault(activity.getId(), PomodoroSessionRepository.ActivityOutcomeCounts.NONE)));
     }
 
-    @Cacheable(value = "activity", key = "{ #command.activityId(), #command.user() }")
+    @Cacheable(value = "activity", key = "{ #command.user(), @userCacheGenerations.of(#command.user()), #command.activityId() }")
     public ActivityResult getActivity(GetActivityCommand command) {
         Activity activity = domainHelper.getActivityOrThrow(command.activityId(), command.user());
 
@@ -89,13 +92,6 @@ public class ActivityService {
 
     /* -------------------- UPDATE -------------------- */
     @Transactional
-    @Caching(
-            evict = {
-                    @CacheEvict(value = "activity", key = "{#command.user(), #command.activityId()}"),
-                    @CacheEvict(value = "activities", allEntries = true),
-                    @CacheEvict(value = "categories", allEntries = true)
-            }
-    )
     public ActivityResult updateActivity(UpdateActivityCommand command) {
         User user = userHelper.getUserOrThrow(command.user());
         Activity activity = domainHelper.getActivityOrThrow(command.activityId(), command.user());
@@ -120,18 +116,12 @@ public class ActivityService {
         );
 
         log.info("Activity updated with ID: {}", updated.getId());
+        userCacheGenerations.invalidate(command.user());
         return mapToResult(updated);
     }
 
     /* -------------------- DELETE -------------------- */
     @Transactional
-    @Caching(
-            evict = {
-                    @CacheEvict(value = "activity", key = "{#command.user(), #command.activityId()}"),
-                    @CacheEvict(value = "activities", allEntries = true),
-                    @CacheEvict(value = "categories", allEntries = true)
-            }
-    )
     public ActivityResult deleteActivity(DeleteActivityCommand command) {
         User user = userHelper.getUserOrThrow(command.user());
         Activity activity = domainHelper.getActivityOrThrow(command.activityId(), command.user());
@@ -142,28 +132,32 @@ public class ActivityService {
 
         Activity deleted = activityRepository.save(user.deleteActivity(activity));
         log.info("Activity soft-deleted with ID: {}", deleted.getId());
+        userCacheGenerations.invalidate(command.user());
 
         return mapToResult(deleted);
     }
 
     /* -------------------- CLEAR ALL -------------------- */
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "activities", allEntries = true),
-            @CacheEvict(value = "activity", allEntries = true),
-            @CacheEvict(value = "categories", allEntries = true)
-    })
     public void clearAllActivities(Long userId) {
         userHelper.getUserOrThrow(userId); // ensure user exists
         activityRepository.deleteAllByUserId(userId);
+        userCacheGenerations.invalidate(userId);
         log.info("Cleared all activities for user {}", userId);
     }
 
     /* -------------------- HELPERS -------------------- */
     private ActivityResult mapToResult(Activity activity) {
-        // Calculate completion rate for this activity
-        int completionRate = calculateActivityCompletionRate(activity.getId(), activity.getUser().getId());
-        
+        PomodoroSessionRepository.ActivityOutcomeCounts outcome = sessionRepository
+                .countOutcomesByActivityIds(List.of(activity.getId()))
+                .getOrDefault(activity.getId(), PomodoroSessionRepository.ActivityOutcomeCounts.NONE);
+        return mapToResult(activity, outcome);
+    }
+
+    /**
+     * Completion rate = completed / (completed + abandoned) * 100, from pre-aggregated counts.
+     */
+    private ActivityResult mapToResult(Activity activity, PomodoroSessionRepository.ActivityOutcomeCounts outcome) {
         return ActivityResult.builder()
                 .activityId(activity.getId())
                 .categoryId(activity.getCategory() != null ? activity.getCategory().getId() : null)
@@ -173,32 +167,7 @@ public class ActivityService {
                 .color(activity.getColor())
                 .createdAt(activity.getCreatedAt())
                 .updatedAt(activity.getUpdatedAt())
-                .completionRate(completionRate)
+                .completionRate(outcome.completionRate())
                 .build();
     }
-
-    /**
-     * Calculate completion rate for a specific activity
-     * Formula: (completed sessions / total sessions) * 100
-     * Total sessions = COMPLETED + ABANDONED sessions
-     */
-    private int calculateActivityCompletionRate(Long activityId, Long userId) {
-        var allSessions = sessionRepository.findByUserId(userId).stream()
-                .filter(s -> s.getActivity().getId().equals(activityId))
-                .filter(s -> !s.isDeleted())
-                .filter(s -> s.getStatus() == SessionStatus.COMPLETED || s.getStatus() == SessionStatus.ABANDONED)
-                .toList();
-
-        long totalSessions = allSessions.size();
-        
-        if (totalSessions == 0) {
-            return 0;
-        }
-
-        long completedSessions = allSessions.stream()
-                .filter(s -> s.getStatus() == SessionStatus.COMPLETED)
-                .count();
-
-        return (int) Math.round((completedSessions * 100.0) / totalSessions);
-    }
 }
@@ -1,6 +1,7 @@
 package com.pomodify.backend.application.service;
 
 import com.pomodify.backend.application.dto.AdminUserDto;
+import com.pomodify.backend.application.dto.AdminUserPage;
 import com.pomodify.backend.domain.model.User;
 import com.pomodify.backend.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -25,37 +26,34 @@ public class AdminService {
     @Value("${ADMIN_PASSWORD:admin123}")
     private String adminPassword;
 
+    @Value("${app.admin.users.max-page-size:200}")
+    private int maxPageSize = 200;
+
     public boolean validateAdminCredentials(String username, String password) {
         return adminUsername.equals(username) && adminPassword.equals(password);
     }
 
+    /**
+     * One page of active users, newest first, optionally filtered by a case-insensitive match on
+     * first name, last name or email. Matching and paging run in the database; pass the returned
+     * {@code nextCursor} to fetch the following page.
+     */
     @Transactional(readOnly = true)
-    public List<AdminUserDto> searchUsers(String query) {
-        List<User> allUsers = userRepository.findAllActive();
-        
-        if (query == null || query.trim().isEmpty()) {
-            return allUsers.stream()
-                    .map(this::toDto)
-                    .collect(Collectors.toList());
-        }
-
-        String lowerQuery = query.toLowerCase().trim();
-        return allUsers.stream()
-                .filter(user -> 
-                    user.getFirstName().toLowerCase().contains(lowerQuery) ||
-                    user.getLastName().toLowerCase().contains(lowerQuery) ||
-                    user.getEmail().getValue().toLowerCase().contains(lowerQuery) ||
-                    (user.getFirstName() + " " + user.getLastName()).toLowerCase().contains(lowerQuery)
-                )
-                .map(this::toDto)
-                .collect(Collectors.toList());
+    public AdminUserPage searchUsers(String query, Long cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), maxPageSize);
+        // Fetch one extra row to learn whether another page exists
+        List<User> users = userRepository.findActivePage(query, cursor, pageSize + 1);
+        boolean hasMore = users.size() > pageSize;
+        List<User> page = hasMore ? users.subList(0, pageSize) : users;
+        return AdminUserPage.builder()
+                .users(page.stream().map(this::toDto).collect(Collectors.toList()))
+                .nextCursor(hasMore ? page.get(page.size() - 1).getId() : null)
+                .build();
     }
 
     @Transactional(readOnly = true)
-    public List<AdminUserDto> getAllUsers() {
-        return userRepository.findAllActive().stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+    public AdminUserPage getAllUsers(Long cursor, int limit) {
+        return searchUsers(null, cursor, limit);
     }
 
     @Transactional
@@ -73,6 +71,7 @@ public class AdminService {
                 .firstName(user.getFirstName())
                 .lastName(user.getLastName())
                 .email(user.getEmail().getValue())
+                .profilePictureThumbUrl(user.getProfilePictureThumbUrl())
                 .isEmailVerified(user.isEmailVerified())
                 .isActive(user.isActive())
                 .createdAt(user.getCreatedAt())
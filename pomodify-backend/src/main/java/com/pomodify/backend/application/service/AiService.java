@@ -26,13 +26,11 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.AsyncResult;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 
 
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Future;
 import java.util.UUID;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -55,21 +53,17 @@ public class AiService {
 
     /**
      * Initiates async AI blueprint generation and returns a requestId immediately.
+     * Throws {@link org.springframework.core.task.TaskRejectedException} when the AI executor is saturated.
      */
     public String generateBlueprintAsync(GenerateBlueprintCommand command) {
         String requestId = UUID.randomUUID().toString();
-        // Start async processing
-        generateBlueprintAsyncInternal(command, requestId);
+        aiExecutor.execute(() -> {
+            BlueprintResult result = generateBlueprint(command); // uses cache
+            blueprintResults.put(requestId, result);
+        });
         return requestId;
     }
 
-    @Async
-    public Future<Void> generateBlueprintAsyncInternal(GenerateBlueprintCommand command, String requestId) {
-        BlueprintResult result = generateBlueprint(command); // uses cache
-        blueprintResults.put(requestId, result);
-        return AsyncResult.forValue(null);
-    }
-
     /**
      * Poll for blueprint result by requestId.
      */
@@ -79,20 +73,17 @@ public class AiService {
 
     /**
      * Initiates async AI dual blueprint generation and returns a requestId immediately.
+     * Throws {@link org.springframework.core.task.TaskRejectedException} when the AI executor is saturated.
      */
     public String generateDualBlueprintsAsync(String topic, List<String> previousSuggestions) {
         String requestId = UUID.randomUUID().toString();
-        generateDualBlueprintsAsyncInternal(topic, previousSuggestions, requestId);
+        aiExecutor.execute(() -> {
+            DualBlueprintResult result = aiGenerationPort.generateDualBlueprints(sanitizeTopic(topic), previousSuggestions);
+            dualBlueprintResults.put(requestId, result);
+        });
         return requestId;
     }
 
-    @Async
-    public Future<Void> generateDualBlueprintsAsyncInternal(String topic, List<String> previousSuggestions, String requestId) {
-        DualBlueprintResult result = aiGenerationPort.generateDualBlueprints(sanitizeTopic(topic), previousSuggestions);
-        dualBlueprintResults.put(requestId, result);
-        return AsyncResult.forValue(null);
-    }
-
     /**
      * Poll for dual blueprint result by requestId.
      */
@@ -105,6 +96,10 @@ public class AiService {
     private final AiGenerationPort aiGenerationPort;
     private final UserHelper userHelper;
     private final DomainHelper domainHelper;
+    private final UserCacheGenerations userCacheGenerations;
+    // Submitted to directly: an @Async method called from inside this class would bypass the proxy
+    @Qualifier("aiExecutor")
+    private final TaskExecutor aiExecutor;
 
     /* -------------------- EXISTING: GENERATE NEXT STEP -------------------- */
     @Transactional
@@ -165,9 +160,9 @@ public class AiService {
 
     /* -------------------- SMART-ACTION: CONFIRM BLUEPRINT -------------------- */
     @Transactional
-    @CacheEvict(value = "activities", allEntries = true)
     public ConfirmBlueprintResult confirmBlueprint(ConfirmBlueprintCommand command) {
         logger.info("[AiService] confirmBlueprint for user: {}", command.userId());
+        userCacheGenerations.invalidate(command.userId());
 
         int focusMinutes = clamp(command.focusMinutes(), 5, 120);
         int breakMinutes = clamp(command.breakMinutes(), 2, 30);
@@ -240,9 +235,9 @@ public class AiService {
 
     /* -------------------- SMART-ACTION: QUICK FOCUS -------------------- */
     @Transactional
-    @CacheEvict(value = "activities", allEntries = true)
     public QuickFocusResult quickFocus(QuickFocusCommand command) {
         logger.info("[AiService] quickFocus for user: {}", command.userId());
+        userCacheGenerations.invalidate(command.userId());
 
         User user = userHelper.getUserOrThrow(command.userId());
         Activity activity = findOrCreateQuickFocusActivity(user);
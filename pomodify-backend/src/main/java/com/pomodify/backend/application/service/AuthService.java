@@ -42,6 +42,7 @@ public class AuthService {
     private final JwtService jwtService;
 
     private final RevokedTokenRepository revokedTokenRepository;
+    private final RevokedTokenIndex revokedTokenIndex;
 
     private final EmailPort emailPort;
     private final VerificationTokenRepository tokenRepository;
@@ -86,6 +87,7 @@ public class AuthService {
             .isEmailVerified(savedUser.isEmailVerified())
             .backupEmail(savedUser.getBackupEmail())
             .profilePictureUrl(savedUser.getProfilePictureUrl())
+            .profilePictureThumbUrl(savedUser.getProfilePictureThumbUrl())
             .build();
 
     }
@@ -332,7 +334,7 @@ public class AuthService {
 
         String refreshToken = command.refreshToken();
 
-        if (!jwtService.validateToken(command.refreshToken())) {
+        if (!jwtService.validateToken(command.refreshToken()) || revokedTokenIndex.isRevoked(refreshToken)) {
             throw new BadCredentialsException("Invalid refresh token");
         }
 
@@ -361,14 +363,28 @@ public class AuthService {
     // Logout
     @Transactional
     public String logout(LogoutCommand command) {
-        RevokedToken revokedToken = RevokedToken.builder()
-                .token(command.token())
-                .build();
-        revokedTokenRepository.save(revokedToken);
+        revoke(command.token());
 
         return "Logout successful";
     }
 
+    private void revoke(String token) {
+        java.time.Instant expiresAt = jwtService.extractExpirationOrNull(token);
+        if (expiresAt == null) {
+            // Not signed by us (or malformed): it can never authenticate, nothing to revoke
+            return;
+        }
+        String tokenHash = RevokedToken.hashOf(token);
+        if (revokedTokenRepository.existsByTokenHash(tokenHash)) {
+            return;
+        }
+        RevokedToken saved = revokedTokenRepository.save(RevokedToken.builder()
+                .tokenHash(tokenHash)
+                .expiresAt(java.time.LocalDateTime.ofInstant(expiresAt, java.time.ZoneId.systemDefault()))
+                .build());
+        revokedTokenIndex.revoke(saved);
+    }
+
     // Get Current User
     @Transactional(readOnly = true)
     public UserResult getCurrentUser(String email) {
@@ -387,6 +403,8 @@ public class AuthService {
             .isEmailVerified(user.isEmailVerified())
             .backupEmail(user.getBackupEmail())
             .profilePictureUrl(user.getProfilePictureUrl())
+            .profilePictureThumbUrl(user.getProfilePictureThumbUrl())
+            .profilePictureUploadId(user.getProfilePictureUploadId())
             .build();
     }
 
@@ -431,6 +449,7 @@ public class AuthService {
             .isEmailVerified(savedUser.isEmailVerified())
             .backupEmail(savedUser.getBackupEmail())
             .profilePictureUrl(savedUser.getProfilePictureUrl())
+            .profilePictureThumbUrl(savedUser.getProfilePictureThumbUrl())
             .build();
     }
 }
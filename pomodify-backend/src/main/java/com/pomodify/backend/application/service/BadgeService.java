@@ -1,15 +1,13 @@
 package com.pomodify.backend.application.service;
 
 import com.pomodify.backend.domain.model.UserBadge;
+import com.pomodify.backend.domain.model.UserStreak;
 import com.pomodify.backend.domain.repository.UserBadgeRepository;
-import com.pomodify.backend.domain.repository.PomodoroSessionRepository;
-import com.pomodify.backend.domain.model.User;
-import com.pomodify.backend.domain.repository.UserRepository;
+import com.pomodify.backend.domain.repository.UserStreakRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -20,8 +18,8 @@ import java.util.stream.Collectors;
 public class BadgeService {
 
     private final UserBadgeRepository userBadgeRepository;
-    private final PomodoroSessionRepository sessionRepository;
-    private final UserRepository userRepository;
+    private final UserStreakRepository streakRepository;
+    private final UserEventPublisher userEventPublisher;
 
     private static final List<Integer> MILESTONES = Arrays.asList(3, 7, 14, 30, 100, 365);
     private static final List<String> BADGE_NAMES = Arrays.asList(
@@ -33,15 +31,11 @@ public class BadgeService {
     }
 
     public UserBadge awardBadgesIfEligible(Long userId) {
-        // Compute current streak for the user using sessions
-        User user = userRepository.findUser(userId).orElse(null);
-        if (user == null) return null;
-        // get distinct days the user had completed sessions
-        java.util.Set<java.time.LocalDate> focusDays = sessionRepository.findCompletedByUserId(userId).stream()
-                .filter(ss -> ss.getCompletedAt() != null)
-                .map(ss -> ss.getCompletedAt().toLocalDate())
-                .collect(Collectors.toSet());
-        int currentStreak = user.getCurrentStreak(focusDays, java.time.LocalDate.now());
+        // Streak state is kept up to date by FocusStatsService on every completion
+        UserStreak streak = streakRepository.findByUserId(userId).orElse(null);
+        if (streak == null) return null;
+        int currentStreak = streak.currentStreakOn(LocalDate.now());
+        if (currentStreak < MILESTONES.get(0)) return null;
         // Award any milestones not yet awarded; return the last awarded badge if any
         Set<Integer> existing = userBadgeRepository.findByUserId(userId).stream().map(UserBadge::getMilestoneDays).collect(Collectors.toSet());
         UserBadge lastAwarded = null;
@@ -55,6 +49,7 @@ public class BadgeService {
                         .dateAwarded(LocalDate.now())
                         .build();
                 lastAwarded = userBadgeRepository.save(badge);
+                userEventPublisher.badgeAwarded(lastAwarded);
             }
         }
         return lastAwarded;
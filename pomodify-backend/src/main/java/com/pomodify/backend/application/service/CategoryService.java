@@ -11,7 +11,6 @@ import com.pomodify.backend.domain.repository.CategoryRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -26,12 +25,13 @@ public class CategoryService {
     private final ActivityRepository activityRepository;
     private final UserHelper userHelper;
     private final DomainHelper domainHelper;
+    private final UserCacheGenerations userCacheGenerations;
 
     /* -------------------- CREATE -------------------- */
     @Transactional
-    @CacheEvict(value = "categories", allEntries = true)
     public CategoryResult createCategory(CreateCategoryCommand command) {
         User user = userHelper.getUserOrThrow(command.user());
+        userCacheGenerations.invalidate(command.user());
 
         domainHelper.checkForExistingCategory(command.user(), command.createCategory());
 
@@ -43,9 +43,9 @@ public class CategoryService {
 
     /* -------------------- UPDATE -------------------- */
     @Transactional
-    @CacheEvict(value = "categories", allEntries = true)
     public CategoryResult updateCategory(UpdateCategoryCommand command) {
         User user = userHelper.getUserOrThrow(command.user());
+        userCacheGenerations.invalidate(command.user());
 
         Category category = domainHelper.getCategoryOrThrow(command.categoryId(), command.user());
         domainHelper.checkForExistingCategory(command.user(), command.changeCategoryName());
@@ -58,9 +58,9 @@ public class CategoryService {
 
     /* -------------------- DELETE -------------------- */
     @Transactional
-    @CacheEvict(value = "categories", allEntries = true)
     public CategoryResult deleteCategory(DeleteCategoryCommand command) {
         User user = userHelper.getUserOrThrow(command.user());
+        userCacheGenerations.invalidate(command.user());
         Category category = domainHelper.getCategoryOrThrow(command.categoryId(), command.user());
 
         if (category.isDeleted()) {
@@ -73,7 +73,7 @@ public class CategoryService {
     }
 
     /* -------------------- GET ALL -------------------- */
-    @Cacheable(value = "categories", key = "#command.user")
+    @Cacheable(value = "categories", key = "{ #command.user(), @userCacheGenerations.of(#command.user()) }")
     public List<CategoryResult> getAllCategories(GetAllCategoryCommand command) {
         List<Category> categories = categoryRepository.findAllCategories(command.user());
         return categories.stream()
@@ -2,55 +2,75 @@ package com.pomodify.backend.application.service;
 
 import com.pomodify.backend.application.command.dashboard.DashboardCommand;
 import com.pomodify.backend.application.result.DashboardResult;
+import com.pomodify.backend.application.result.HeatmapResult;
 import com.pomodify.backend.domain.model.PomodoroSession;
-import com.pomodify.backend.domain.model.User;
+import com.pomodify.backend.domain.model.UserStreak;
 import com.pomodify.backend.domain.enums.CyclePhase;
-import com.pomodify.backend.domain.repository.ActivityRepository;
+import com.pomodify.backend.domain.repository.DashboardReadRepository;
 import com.pomodify.backend.domain.repository.PomodoroSessionRepository;
-import com.pomodify.backend.domain.repository.UserRepository;
+import com.pomodify.backend.domain.repository.UserStreakRepository;
+import com.pomodify.backend.domain.valueobject.FocusCalendar;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.*;
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * Builds the dashboard from {@link DashboardReadRepository}: one aggregate query for every window and
+ * the streaks, one projection for the recent list, plus the (small) active-session and badge lookups.
+ * The heatmap is read from the user's focus-day bitmap alone.
+ */
 @Service
 @RequiredArgsConstructor
 public class DashboardService {
 
-    private final UserRepository userRepository;
-    private final ActivityRepository activityRepository;
+    private final DashboardReadRepository dashboardReadRepository;
     private final PomodoroSessionRepository sessionRepository;
     private final com.pomodify.backend.application.service.BadgeService badgeService;
+    private final UserStreakRepository streakRepository;
+
+    private static final int HEATMAP_DAYS = 365;
+
+    /** Focus days of the last year (ending today in {@code zone}) with the streak counters. */
+    public HeatmapResult getHeatmap(Long userId, ZoneId zone) {
+        LocalDate today = LocalDate.now(zone);
+        LocalDate from = today.minusDays(HEATMAP_DAYS - 1);
+        Optional<UserStreak> streak = streakRepository.findByUserId(userId);
+        FocusCalendar calendar = streak.map(UserStreak::calendar).orElseGet(FocusCalendar::empty);
+        return HeatmapResult.builder()
+                .from(from)
+                .to(today)
+                .focusDays(calendar.focusDaysBetween(from, today))
+                .focusDayCount(calendar.countInRange(from, today))
+                .currentStreak(streak.map(s -> s.currentStreakOn(today)).orElse(0))
+                .bestStreak(streak.map(UserStreak::getBestStreak).orElse(0))
+                .build();
+    }
 
     public DashboardResult getDashboard(DashboardCommand cmd) {
         ZoneId zone = cmd.getZoneId();
         Long userId = cmd.getUserId();
         int limit = cmd.getRecentLimit();
 
-        User user = userRepository.findUser(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
         // Date boundaries
         LocalDate today = LocalDate.now(zone);
-        LocalDateTime startOfDay = today.atStartOfDay();
-        LocalDateTime endOfDay = today.plusDays(1).atStartOfDay().minusNanos(1);
-
         LocalDate startOfWeekDate = today.with(java.time.DayOfWeek.MONDAY); // ISO week
-        LocalDateTime startOfWeek = startOfWeekDate.atStartOfDay();
-        LocalDateTime endOfWeek = startOfWeek.plusDays(7).minusNanos(1);
+        LocalDate endOfWeekDate = startOfWeekDate.plusDays(6);
+        LocalDate last7Start = today.minusDays(6); // 7 day window inclusive
 
-        // Data fetch
-        long totalActivities = Optional.ofNullable(activityRepository.countActivities(userId, false, null)).orElse(0L);
-        List<PomodoroSession> sessionsToday = sessionRepository.findCompletedByUserIdBetween(userId, startOfDay, endOfDay);
+        DashboardReadRepository.DashboardTotals totals = dashboardReadRepository
+                .loadTotals(userId, new DashboardReadRepository.Windows(today, startOfWeekDate, endOfWeekDate, last7Start))
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        if (!totals.userActive()) {
+            throw new IllegalStateException("Inactive user cannot perform operations");
+        }
         // Include in-progress session elapsed time if an active session exists for today
         List<PomodoroSession> activeSessions = sessionRepository.findActiveByUserId(userId);
-        List<PomodoroSession> sessionsThisWeek = sessionRepository.findCompletedByUserIdBetween(userId, startOfWeek, endOfWeek);
-        List<PomodoroSession> sessionsAll = sessionRepository.findCompletedByUserId(userId);
-        List<PomodoroSession> recent = sessionRepository.findRecentCompletedByUserId(userId, limit);
+        List<DashboardReadRepository.RecentSession> recent = dashboardReadRepository.findRecentCompleted(userId, limit);
+
+        long focusSecondsToday = totals.focusSecondsToday();
 
-        long focusSecondsToday = sumFocusSeconds(sessionsToday);
         // add in-progress elapsed focusSeconds if any in-progress session exists
         for (PomodoroSession s : activeSessions) {
             if (s.getStatus() != null && s.getStatus().name().equals("IN_PROGRESS")) {
@@ -61,56 +81,32 @@ public class DashboardService {
                 }
             }
         }
-        long focusSecondsWeek = sumFocusSeconds(sessionsThisWeek);
-        long focusSecondsAll = sumFocusSeconds(sessionsAll);
-        long totalSessions = sessionsAll.size();
-
-        // Focus days for streaks
-        Set<LocalDate> focusDays = sessionsAll.stream()
-            .filter(s -> s.getCompletedAt() != null)
-            .map(s -> s.getCompletedAt().atZone(zone).toLocalDate())
-            .collect(Collectors.toSet());
 
-        int currentStreak = user.getCurrentStreak(focusDays, today);
-        int bestStreak = user.getBestStreak(focusDays);
+        int currentStreak = totals.currentStreak();
+        int bestStreak = totals.bestStreak();
 
         // Compute additional metrics: consistency score, top activity
-        LocalDate nowDate = today;
-        LocalDate last7Start = nowDate.minusDays(6); // 7 day window inclusive
-        long daysWithCompletedInWindow = sessionRepository.findCompletedByUserIdBetween(userId, last7Start.atStartOfDay(), endOfDay)
-                .stream().map(sess -> sess.getCompletedAt().atZone(zone).toLocalDate()).distinct().count();
-
-        double consistencyScore = (double) daysWithCompletedInWindow / 7.0 * 100.0;
+        double consistencyScore = (double) totals.focusDaysLast7() / 7.0 * 100.0;
         if (currentStreak > 0) { // small boost
             consistencyScore = Math.min(100.0, consistencyScore + 10.0);
         }
 
         // top activity for the last 7 days
-        Map<Long, Long> activitySeconds = new HashMap<>();
-        for (PomodoroSession ss : sessionRepository.findCompletedByUserIdBetween(userId, last7Start.atStartOfDay(), endOfDay)) {
-            long sec = focusSecondsOf(ss);
-            Long prev = activitySeconds.getOrDefault(ss.getActivity().getId(), 0L);
-            activitySeconds.put(ss.getActivity().getId(), prev + sec);
-        }
         String topActivityName = null;
-        double topActivityHours = 0.0;
-        if (!activitySeconds.isEmpty()) {
-            Long topActivityId = activitySeconds.entrySet().stream().max(Map.Entry.comparingByValue()).get().getKey();
-            Long topSeconds = activitySeconds.get(topActivityId);
-            // Lookup activity name
-            topActivityName = activityRepository.findActivity(topActivityId, userId).map(a -> a.getTitle() + " (" + Math.round((topSeconds / 3600.0) * 10.0) / 10.0 + "h)").orElse(null);
-            topActivityHours = Math.round((topSeconds / 3600.0) * 10.0) / 10.0;
+        if (totals.topActivityTitle() != null) {
+            double topActivityHours = Math.round((totals.topActivitySeconds() / 3600.0) * 10.0) / 10.0;
+            topActivityName = totals.topActivityTitle() + " (" + topActivityHours + "h)";
         }
 
         List<DashboardResult.RecentSession> recentItems = recent.stream().map(s ->
                 DashboardResult.RecentSession.builder()
-                        .id(s.getId())
-                        .activityId(s.getActivity().getId())
-                        .activityName(s.getActivity().getTitle())
-                        .completedAt(s.getCompletedAt())
-                        .cyclesCompleted(s.getCyclesCompleted())
-                        .focusSeconds(focusSecondsOf(s))
-                        .notePreview(s.getNote() != null ? s.getNote().getContent() : null)
+                        .id(s.id())
+                        .activityId(s.activityId())
+                        .activityName(s.activityName())
+                        .completedAt(s.completedAt())
+                        .cyclesCompleted(s.cyclesCompleted())
+                        .focusSeconds(s.focusSeconds())
+                        .notePreview(s.notePreview())
                         .build()
         ).toList();
 
@@ -185,11 +181,11 @@ public class DashboardService {
         return DashboardResult.builder()
                 .currentStreak(currentStreak)
                 .bestStreak(bestStreak)
-                .totalActivities(totalActivities)
-                .totalSessions(totalSessions)
+                .totalActivities(totals.totalActivities())
+                .totalSessions(totals.totalSessions())
                 .focusSecondsToday(focusSecondsToday)
-                .focusSecondsThisWeek(focusSecondsWeek)
-                .focusSecondsAllTime(focusSecondsAll)
+                .focusSecondsThisWeek(totals.focusSecondsThisWeek())
+                .focusSecondsAllTime(totals.focusSecondsAllTime())
             .streakProgressPercent(Math.round(streakProgressPercent * 10.0) / 10.0)
             .consistencyScore(Math.round(consistencyScore * 10.0) / 10.0)
             .topActivityName(topActivityName)
@@ -199,14 +195,4 @@ public class DashboardService {
                 .recentSessions(recentItems)
                 .build();
     }
-
-    private long sumFocusSeconds(List<PomodoroSession> sessions) {
-        return sessions.stream().mapToLong(this::focusSecondsOf).sum();
-    }
-
-    private long focusSecondsOf(PomodoroSession s) {
-        // Approximate focus time by cyclesCompleted * focusDuration seconds
-        long focusPerCycle = s.getFocusDuration() != null ? s.getFocusDuration().getSeconds() : 0L;
-        return (long) s.getCyclesCompleted() * focusPerCycle;
-    }
 }
@@ -0,0 +1,49 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.domain.model.User;
+import com.pomodify.backend.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * One-off job that populates the focus rollup, and the streak state derived from it, from
+ * existing session history. Enable with {@code app.stats.backfill-on-startup=true} for the first
+ * deploy after the rollup table is introduced; each user is rebuilt in its own transactions.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.stats.backfill-on-startup", havingValue = "true")
+public class FocusStatsBackfillJob {
+
+    private final UserRepository userRepository;
+    private final FocusStatsService focusStatsService;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long started = System.currentTimeMillis();
+        int users = 0;
+        int rows = 0;
+        int streaks = 0;
+        for (User user : userRepository.findAllActive()) {
+            try {
+                rows += focusStatsService.rebuildForUser(user.getId());
+                // Streaks are derived from the rollup, so rebuild them once the user's rows exist
+                streaks += focusStatsService.rebuildStreaks(List.of(user.getId()));
+                users++;
+            } catch (Exception e) {
+                log.error("Focus stats backfill failed for user {}: {}", user.getId(), e.getMessage(), e);
+            }
+        }
+        log.info("Focus stats backfill finished: {} users, {} rollup rows, {} streaks in {} ms",
+                users, rows, streaks, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,146 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.domain.enums.SessionStatus;
+import com.pomodify.backend.domain.model.FocusDailyStat;
+import com.pomodify.backend.domain.model.PomodoroSession;
+import com.pomodify.backend.domain.model.UserStreak;
+import com.pomodify.backend.domain.repository.FocusDailyStatRepository;
+import com.pomodify.backend.domain.repository.PomodoroSessionRepository;
+import com.pomodify.backend.domain.repository.UserStreakRepository;
+import com.pomodify.backend.domain.valueobject.FocusCalendar;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the per-day focus rollup ({@link FocusDailyStat}) and, on completion, the user's
+ * streak state ({@link com.pomodify.backend.domain.model.UserStreak}).
+ * Callers invoke the record methods inside the same transaction that moves a session
+ * into COMPLETED or ABANDONED, so the rollup commits or rolls back with the session.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FocusStatsService {
+
+    private final FocusDailyStatRepository focusStatRepository;
+    private final PomodoroSessionRepository sessionRepository;
+    private final UserStreakRepository streakRepository;
+
+    @Transactional
+    public void recordSessionCompleted(PomodoroSession session) {
+        LocalDate day = session.getCompletedAt() != null ? session.getCompletedAt().toLocalDate() : LocalDate.now();
+        Long userId = ownerIdOf(session);
+        focusStatRepository.increment(userId, day, session.getActivity().getId(),
+                focusSecondsOf(session), breakSecondsOf(session), 1, 0);
+        streakRepository.recordFocusDay(userId, day);
+    }
+
+    @Transactional
+    public void recordSessionAbandoned(PomodoroSession session) {
+        focusStatRepository.increment(ownerIdOf(session), LocalDate.now(), session.getActivity().getId(),
+                0L, 0L, 0, 1);
+    }
+
+    /** Records sessions abandoned in bulk (e.g. by the expiry sweep) for one activity. */
+    @Transactional
+    public void recordSessionsAbandoned(Long userId, Long activityId, int count) {
+        if (count <= 0) return;
+        focusStatRepository.increment(userId, LocalDate.now(), activityId, 0L, 0L, 0, count);
+    }
+
+    /**
+     * Recomputes all rollup rows for a user from their session history.
+     * Used by the backfill job; safe to re-run since existing rows are replaced.
+     */
+    @Transactional
+    public int rebuildForUser(Long userId) {
+        Map<String, FocusDailyStat> rows = new HashMap<>();
+        for (PomodoroSession s : sessionRepository.findByUserId(userId)) {
+            if (s.getStatus() == SessionStatus.COMPLETED) {
+                LocalDate day = s.getCompletedAt() != null ? s.getCompletedAt().toLocalDate() : dayOf(s);
+                FocusDailyStat row = rowFor(rows, userId, day, s.getActivity().getId());
+                row.setFocusSeconds(row.getFocusSeconds() + focusSecondsOf(s));
+                row.setBreakSeconds(row.getBreakSeconds() + breakSecondsOf(s));
+                row.setCompletedSessions(row.getCompletedSessions() + 1);
+            } else if (s.getStatus() == SessionStatus.ABANDONED) {
+                FocusDailyStat row = rowFor(rows, userId, dayOf(s), s.getActivity().getId());
+                row.setAbandonedSessions(row.getAbandonedSessions() + 1);
+            }
+        }
+        focusStatRepository.deleteAllByUserId(userId);
+        focusStatRepository.saveAll(new ArrayList<>(rows.values()));
+        return rows.size();
+    }
+
+    /**
+     * Recomputes the streak rows of the given users from the focus rollup (calendar, current and
+     * best streak). Users without any focus day are skipped; {@link #purgeStaleStreaks()} drops them.
+     * Existing rows are locked before they are read, so a completion recorded meanwhile waits for
+     * the rebuild instead of being overwritten by it.
+     */
+    @Transactional
+    public int rebuildStreaks(List<Long> userIds) {
+        // Lock first, then read the rollup, so it includes every completion committed before the lock
+        Map<Long, UserStreak> existing = streakRepository.findAllByUserIdsForUpdate(userIds).stream()
+                .collect(Collectors.toMap(UserStreak::getUserId, Function.identity()));
+        Map<Long, List<LocalDate>> daysByUser = new LinkedHashMap<>();
+        for (FocusDailyStatRepository.UserFocusDay d : focusStatRepository.findFocusDays(userIds)) {
+            daysByUser.computeIfAbsent(d.userId(), k -> new ArrayList<>()).add(d.day());
+        }
+        daysByUser.forEach((userId, days) -> {
+            UserStreak streak = existing.getOrDefault(userId, UserStreak.builder().userId(userId).build());
+            // Days arrive ascending, so the last one is the most recent focus day
+            streak.resetTo(FocusCalendar.of(days), days.get(days.size() - 1));
+            streakRepository.save(streak);
+        });
+        return daysByUser.size();
+    }
+
+    @Transactional
+    public int purgeStaleStreaks() {
+        return streakRepository.deleteWithoutFocusDays();
+    }
+
+    public static long focusSecondsOf(PomodoroSession s) {
+        // Approximate focus time by cyclesCompleted * focusDuration seconds
+        long focusPerCycle = s.getFocusDuration() != null ? s.getFocusDuration().getSeconds() : 0L;
+        int cycles = s.getCyclesCompleted() != null ? s.getCyclesCompleted() : 0;
+        return (long) cycles * focusPerCycle;
+    }
+
+    private static long breakSecondsOf(PomodoroSession s) {
+        long breakPerCycle = s.getBreakDuration() != null ? s.getBreakDuration().getSeconds() : 0L;
+        int cycles = s.getCyclesCompleted() != null ? s.getCyclesCompleted() : 0;
+        return (long) cycles * breakPerCycle;
+    }
+
+    private static Long ownerIdOf(PomodoroSession session) {
+        return session.getActivity().getUser().getId();
+    }
+
+    private static LocalDate dayOf(PomodoroSession s) {
+        LocalDateTime ts = s.getUpdatedAt() != null ? s.getUpdatedAt() : s.getCreatedAt();
+        return ts != null ? ts.toLocalDate() : LocalDate.now();
+    }
+
+    private static FocusDailyStat rowFor(Map<String, FocusDailyStat> rows, Long userId, LocalDate day, Long activityId) {
+        return rows.computeIfAbsent(day + ":" + activityId, k -> FocusDailyStat.builder()
+                .userId(userId)
+                .statDate(day)
+                .activityId(activityId)
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+}
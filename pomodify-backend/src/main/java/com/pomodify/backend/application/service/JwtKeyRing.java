@@ -0,0 +1,240 @@
+package com.pomodify.backend.application.service;
+
+import com.nimbusds.jose.JWSObject;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.util.*;
+
+/**
+ * Holds the HMAC keys used to sign and verify JWTs, together with the decoders and parser
+ * built from them. Everything is constructed once per key set and published as an immutable
+ * snapshot, so the per-request path only reads a volatile field.
+ *
+ * <p>Tokens are signed with the current key and carry its {@code kid}. Previous keys listed in
+ * {@code jwt.previous-secrets} stay valid for verification, which allows rotating
+ * {@code jwt.secret} without invalidating live sessions. When {@code jwt.keys-file} is set, the
+ * file (properties format: {@code current=...}, {@code previous=a,b}) is polled and changes are
+ * applied without a restart.
+ */
+@Component
+@Slf4j
+public class JwtKeyRing {
+
+    private static final MacAlgorithm ALGORITHM = MacAlgorithm.HS512;
+
+    private final Path keysFile;
+    private volatile Snapshot snapshot;
+    private volatile long keysFileModified = -1L;
+
+    public JwtKeyRing(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.previous-secrets:}") List<String> previousSecrets,
+                      @Value("${jwt.keys-file:}") String keysFile) {
+        this.keysFile = keysFile == null || keysFile.isBlank() ? null : Path.of(keysFile);
+        this.snapshot = Snapshot.of(secret, previousSecrets);
+        reloadFromFile();
+    }
+
+    /** Key id (kid) and key used for signing new tokens. */
+    public String currentKeyId() {
+        return snapshot.currentKid;
+    }
+
+    public SecretKey currentKey() {
+        return snapshot.keys.get(snapshot.currentKid);
+    }
+
+    /**
+     * Verifies the token with jjwt, resolving the key from its kid. Like {@link #decode}, tokens
+     * issued before kids were introduced are tried against every active key, current first.
+     */
+    public Jws<Claims> parseSignedClaims(String token) {
+        Snapshot current = snapshot;
+        try {
+            return current.parser.parseSignedClaims(token);
+        } catch (SignatureException e) {
+            // The locator verified a kid-less token with the current key; it may predate the last rotation
+            if (peekKeyId(token) != null) {
+                throw e;
+            }
+            for (JwtParser previous : current.previousKeyParsers) {
+                try {
+                    return previous.parseSignedClaims(token);
+                } catch (SignatureException ignored) {
+                    // try the next key
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Validates signature and expiry with the cached Nimbus decoder for the token's kid.
+     * Tokens issued before kids were introduced are tried against every active key, current first.
+     */
+    public Jwt decode(String token) throws JwtException {
+        Snapshot current = snapshot;
+        String kid = peekKeyId(token);
+        if (kid != null) {
+            JwtDecoder decoder = current.decoders.get(kid);
+            if (decoder == null) {
+                throw new BadJwtException("Unknown signing key: " + kid);
+            }
+            return decoder.decode(token);
+        }
+        JwtException first = null;
+        for (JwtDecoder decoder : current.decoders.values()) {
+            try {
+                return decoder.decode(token);
+            } catch (JwtException e) {
+                if (first == null) first = e;
+            }
+        }
+        throw first != null ? first : new BadJwtException("No signing keys configured");
+    }
+
+    /**
+     * Replaces the active key set. The new current key signs from now on; every listed previous key
+     * keeps verifying until it is removed in a later rotation.
+     */
+    public void rotate(String currentSecret, List<String> previousSecrets) {
+        Snapshot next = Snapshot.of(currentSecret, previousSecrets);
+        this.snapshot = next;
+        log.info("JWT key ring updated: current kid={}, verification kids={}", next.currentKid, next.keys.keySet());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.keys-file-poll-ms:30000}")
+    public void reloadFromFile() {
+        if (keysFile == null || !Files.isRegularFile(keysFile)) {
+            return;
+        }
+        try {
+            long modified = Files.getLastModifiedTime(keysFile).toMillis();
+            if (modified == keysFileModified) {
+                return;
+            }
+            Properties props = new Properties();
+            try (InputStream in = Files.newInputStream(keysFile)) {
+                props.load(in);
+            }
+            String current = props.getProperty("current");
+            if (current == null || current.isBlank()) {
+                log.warn("Ignoring JWT keys file {}: no 'current' entry", keysFile);
+                return;
+            }
+            List<String> previous = Arrays.stream(props.getProperty("previous", "").split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .toList();
+            rotate(current.trim(), previous);
+            keysFileModified = modified;
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Failed to reload JWT keys from {}: {}", keysFile, e.getMessage());
+        }
+    }
+
+    /** Reads the kid from the (unverified) JOSE header; the signature is checked by the decoder. */
+    private static String peekKeyId(String token) {
+        try {
+            return JWSObject.parse(token).getHeader().getKeyID();
+        } catch (ParseException e) {
+            throw new BadJwtException("Malformed token", e);
+        }
+    }
+
+    static String keyIdFor(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class Snapshot {
+        private final String currentKid;
+        private final Map<String, SecretKey> keys;
+        private final Map<String, JwtDecoder> decoders;
+        private final JwtParser parser;
+        private final List<JwtParser> previousKeyParsers;
+
+        private Snapshot(String currentKid, Map<String, SecretKey> keys) {
+            this.currentKid = currentKid;
+            this.keys = keys;
+            Map<String, JwtDecoder> built = new LinkedHashMap<>();
+            keys.forEach((kid, key) -> built.put(kid, NimbusJwtDecoder.withSecretKey(key)
+                    .macAlgorithm(ALGORITHM)
+                    .build()));
+            this.decoders = Collections.unmodifiableMap(built);
+            this.parser = Jwts.parser().keyLocator(new KeyRingLocator(currentKid, keys)).build();
+            this.previousKeyParsers = keys.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(currentKid))
+                    .map(entry -> Jwts.parser().verifyWith(entry.getValue()).build())
+                    .toList();
+        }
+
+        static Snapshot of(String currentSecret, List<String> previousSecrets) {
+            if (currentSecret == null || currentSecret.isBlank()) {
+                throw new IllegalArgumentException("JWT secret must not be blank");
+            }
+            // Insertion order matters: the current key is tried first for tokens without a kid
+            Map<String, SecretKey> keys = new LinkedHashMap<>();
+            String currentKid = keyIdFor(currentSecret);
+            keys.put(currentKid, Keys.hmacShaKeyFor(currentSecret.getBytes(StandardCharsets.UTF_8)));
+            if (previousSecrets != null) {
+                for (String previous : previousSecrets) {
+                    if (previous == null || previous.isBlank()) continue;
+                    keys.putIfAbsent(keyIdFor(previous), Keys.hmacShaKeyFor(previous.getBytes(StandardCharsets.UTF_8)));
+                }
+            }
+            return new Snapshot(currentKid, Collections.unmodifiableMap(keys));
+        }
+    }
+
+    private static final class KeyRingLocator extends LocatorAdapter<Key> {
+        private final String currentKid;
+        private final Map<String, SecretKey> keys;
+
+        private KeyRingLocator(String currentKid, Map<String, SecretKey> keys) {
+            this.currentKid = currentKid;
+            this.keys = keys;
+        }
+
+        @Override
+        protected Key locate(ProtectedHeader header) {
+            String kid = header.getKeyId();
+            // Tokens issued before kids were added were signed with the then-current secret
+            Key key = keys.get(kid != null ? kid : currentKid);
+            if (key == null) {
+                throw new io.jsonwebtoken.security.SecurityException("Unknown signing key: " + kid);
+            }
+            return key;
+        }
+    }
+}
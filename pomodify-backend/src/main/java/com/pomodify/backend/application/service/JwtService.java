@@ -5,11 +5,11 @@ import com.pomodify.backend.application.exception.JwtExpiredException;
 import com.pomodify.backend.domain.model.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
 import java.util.function.Function;
 
@@ -17,10 +17,10 @@ import java.util.function.Function;
  * Service for JWT token operations: generation, validation, and claims extraction.
  */
 @Service
+@RequiredArgsConstructor
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final JwtKeyRing keyRing;
 
     @Value("${jwt.access-token-expiration}")
     private long accessTokenExpiration;
@@ -28,17 +28,14 @@ public class JwtService {
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
-    }
-
     public String generateAccessToken(User user) {
         return Jwts.builder()
                 .subject(user.getEmail().getValue())
                 .claim("user", user.getId())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
-                .signWith(getSigningKey(), Jwts.SIG.HS512)
+                .header().keyId(keyRing.currentKeyId()).and()
+                .signWith(keyRing.currentKey(), Jwts.SIG.HS512)
                 .compact();
     }
 
@@ -48,7 +45,8 @@ public class JwtService {
                 .claim("user", user.getId())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
-                .signWith(getSigningKey(), Jwts.SIG.HS512)
+                .header().keyId(keyRing.currentKeyId()).and()
+                .signWith(keyRing.currentKey(), Jwts.SIG.HS512)
                 .compact();
     }
 
@@ -60,7 +58,7 @@ public class JwtService {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token);
+            keyRing.parseSignedClaims(token);
             return !isTokenExpired(token);
         } catch (Exception e) {
             return false;
@@ -100,6 +98,21 @@ public class JwtService {
         return extractExpiration(token).before(new Date());
     }
 
+    /**
+     * Expiration of a token signed by one of our keys, including tokens that have already expired.
+     *
+     * @return the exp claim, or null if the token cannot be verified
+     */
+    public Instant extractExpirationOrNull(String token) {
+        try {
+            return extractExpiration(token).toInstant();
+        } catch (io.jsonwebtoken.ExpiredJwtException e) {
+            return e.getClaims().getExpiration().toInstant();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     private Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
@@ -110,6 +123,6 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+        return keyRing.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,236 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.application.port.out.PushMessagingPort;
+import com.pomodify.backend.domain.enums.OutboxStatus;
+import com.pomodify.backend.domain.model.NotificationOutbox;
+import com.pomodify.backend.domain.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains {@code notification_outbox} and delivers each message through {@link PushNotificationService}.
+ *
+ * <p>Due messages are leased and then sent in FCM batches of up to
+ * {@link PushMessagingPort#MAX_BATCH_SIZE}, one batch per thread of the {@code pushExecutor}
+ * ({@code app.async.push.*}). Each batch is first leased with one compare-and-set on {@code next_attempt_at}, so several nodes can drain the same
+ * table without double-sending (a sender that dies mid-flight only delays its rows by the lease).
+ * Transient failures are retried with capped, jittered exponential backoff; after
+ * {@code app.outbox.max-attempts} the message is dead-lettered (status DEAD) for inspection.
+ * Drains are triggered shortly after an enqueue commits, with wake-ups inside
+ * {@code app.outbox.batch-window-ms} coalesced so a burst of phase ends goes out as one batch,
+ * and by a periodic poll as a safety net.
+ */
+@Service
+@Slf4j
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final PushNotificationService pushNotificationService;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final ThreadPoolTaskExecutor senders;
+    private final ScheduledThreadPoolExecutor trigger;
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    @Value("${app.outbox.max-attempts:8}")
+    private int maxAttempts = 8;
+
+    @Value("${app.outbox.backoff-base-ms:2000}")
+    private long backoffBaseMillis = 2000;
+
+    @Value("${app.outbox.backoff-max-ms:600000}")
+    private long backoffMaxMillis = 600_000;
+
+    /** How long a claimed message stays invisible to other senders. */
+    @Value("${app.outbox.lease-ms:60000}")
+    private long leaseMillis = 60_000;
+
+    /** How long to wait after the first wake-up so that concurrent enqueues share one batch. */
+    @Value("${app.outbox.batch-window-ms:250}")
+    private long batchWindowMillis = 250;
+
+    @Value("${app.outbox.retention-days:7}")
+    private int retentionDays = 7;
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository outboxRepository,
+                                        PushNotificationService pushNotificationService,
+                                        MeterRegistry meterRegistry,
+                                        @Qualifier("pushExecutor") ThreadPoolTaskExecutor senders,
+                                        @Value("${app.outbox.batch-size:500}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.pushNotificationService = pushNotificationService;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.senders = senders;
+        this.trigger = new ScheduledThreadPoolExecutor(1, daemonThreads("outbox-trigger-"));
+        Gauge.builder("pomodify.outbox.dead", deadLettered, AtomicLong::get)
+                .description("Dead-lettered outbox messages as of the last purge run")
+                .register(meterRegistry);
+    }
+
+    /** Requests a drain without blocking the caller; wake-ups within the batch window are coalesced. */
+    public void wakeUp() {
+        drainRequested.set(true);
+        if (wakeUpScheduled.compareAndSet(false, true)) {
+            trigger.schedule(() -> {
+                wakeUpScheduled.set(false);
+                drain();
+            }, batchWindowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-ms:5000}")
+    public void drain() {
+        drainRequested.set(true);
+        if (!draining.compareAndSet(false, true)) {
+            return; // the running drain will see the request and loop once more
+        }
+        try {
+            while (drainRequested.getAndSet(false)) {
+                List<NotificationOutbox> due;
+                do {
+                    due = outboxRepository.findDue(LocalDateTime.now(), batchSize);
+                    List<Callable<Void>> tasks = new ArrayList<>();
+                    for (int from = 0; from < due.size(); from += PushMessagingPort.MAX_BATCH_SIZE) {
+                        List<NotificationOutbox> chunk = due.subList(from, Math.min(from + PushMessagingPort.MAX_BATCH_SIZE, due.size()));
+                        tasks.add(() -> {
+                            dispatch(chunk);
+                            return null;
+                        });
+                    }
+                    senders.getThreadPoolExecutor().invokeAll(tasks);
+                } while (due.size() == batchSize);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Outbox drain failed: {}", e.getMessage(), e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    /** Deletes delivered/skipped messages past retention and refreshes the dead-letter gauge. */
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval-ms:3600000}")
+    public void purgeProcessed() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int deleted;
+        long total = 0;
+        do {
+            deleted = outboxRepository.deleteProcessedBefore(cutoff, 1000);
+            total += deleted;
+        } while (deleted == 1000);
+        deadLettered.set(outboxRepository.countByStatus(OutboxStatus.DEAD));
+        if (total > 0) {
+            log.info("Purged {} processed outbox messages", total);
+        }
+    }
+
+    /** Leases the messages, sends the leased ones in a single batch and records every result. */
+    void dispatch(List<NotificationOutbox> messages) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> leasedIds = new HashSet<>(outboxRepository.claimAll(
+                messages.stream().map(NotificationOutbox::getId).toList(), now, now.plus(Duration.ofMillis(leaseMillis))));
+        List<NotificationOutbox> leased = messages.stream()
+                .filter(m -> leasedIds.contains(m.getId()))
+                .toList();
+        if (leased.isEmpty()) {
+            return;
+        }
+        List<PushNotificationService.DeliveryResult> results;
+        String error = null;
+        try {
+            results = pushNotificationService.deliverAll(leased.stream()
+                    .map(m -> new PushNotificationService.PushRequest(m.getUserId(), m.getTitle(), m.getBody()))
+                    .toList());
+        } catch (Exception e) {
+            results = Collections.nCopies(leased.size(), PushNotificationService.DeliveryResult.RETRYABLE);
+            error = e.getMessage();
+        }
+        for (int i = 0; i < leased.size(); i++) {
+            record(leased.get(i), results.get(i), error);
+        }
+    }
+
+    private void record(NotificationOutbox message, PushNotificationService.DeliveryResult result, String error) {
+        int attempts = message.getAttempts() + 1;
+        String outcome = switch (result) {
+            case SENT -> {
+                outboxRepository.markProcessed(message.getId(), OutboxStatus.SENT, attempts, null, LocalDateTime.now());
+                yield "sent";
+            }
+            case DISABLED, SKIPPED -> {
+                outboxRepository.markProcessed(message.getId(), OutboxStatus.SKIPPED, attempts, result.name(), LocalDateTime.now());
+                yield "skipped";
+            }
+            case REJECTED -> {
+                outboxRepository.markProcessed(message.getId(), OutboxStatus.DEAD, attempts, "Token rejected by FCM", LocalDateTime.now());
+                yield "dead";
+            }
+            case RETRYABLE -> {
+                String lastError = truncate(error != null ? error : "Transient FCM failure");
+                if (attempts >= maxAttempts) {
+                    outboxRepository.markProcessed(message.getId(), OutboxStatus.DEAD, attempts, lastError, LocalDateTime.now());
+                    log.warn("Outbox message {} for user {} dead-lettered after {} attempts: {}",
+                            message.getId(), message.getUserId(), attempts, lastError);
+                    yield "dead";
+                }
+                outboxRepository.scheduleRetry(message.getId(), attempts, LocalDateTime.now().plus(backoff(attempts)), lastError);
+                yield "retry";
+            }
+        };
+        meterRegistry.counter("pomodify.outbox.dispatched", "result", outcome).increment();
+    }
+
+    /** Exponential in the attempt number, capped, with +/-20% jitter so retries don't synchronize. */
+    Duration backoff(int attempts) {
+        long exp = backoffBaseMillis << Math.min(attempts - 1, 20);
+        long capped = Math.min(backoffMaxMillis, exp);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        trigger.shutdownNow();
+    }
+
+    private static String truncate(String error) {
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.domain.enums.OutboxStatus;
+import com.pomodify.backend.domain.model.NotificationOutbox;
+import com.pomodify.backend.domain.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entry point for sending push notifications from transactional code. The message is stored in
+ * {@code notification_outbox} as part of the caller's transaction and delivered by
+ * {@link NotificationOutboxDispatcher}, so FCM latency and failures never reach the request.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationOutboxDispatcher dispatcher;
+
+    @Transactional
+    public void enqueue(Long userId, String title, String body) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.save(NotificationOutbox.builder()
+                .userId(userId)
+                .title(title)
+                .body(body)
+                .status(OutboxStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+        // Don't wait for the next poll: deliver as soon as the row is visible
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.wakeUp();
+                }
+            });
+        } else {
+            dispatcher.wakeUp();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.application.event.UserSettingsChangedEvent;
+import com.pomodify.backend.application.port.out.UserEventBus;
+import com.pomodify.backend.application.port.out.UserEventBus.UserEvent;
+import com.pomodify.backend.domain.model.UserPushToken;
+import com.pomodify.backend.domain.model.settings.UserSettings;
+import com.pomodify.backend.domain.repository.SettingsRepository;
+import com.pomodify.backend.domain.repository.UserPushTokenRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Everything a push needs to know about a user, in one cached lookup. Loading reads the user's
+ * settings and push token once; after that a push costs no database reads until the profile is
+ * invalidated (settings change, token registered/removed/toggled) or ages out of the
+ * {@code notificationProfiles} cache. Every node caches profiles, so invalidations travel over
+ * {@link UserEventBus} as {@code settings-changed} and {@code push-token-changed} events.
+ */
+@Service
+public class NotificationProfileService {
+
+    static final String CACHE_NAME = "notificationProfiles";
+    private static final String FALLBACK_TOKEN_PREFIX = "browser-fallback-";
+
+    private final SettingsRepository settingsRepository;
+    private final UserPushTokenRepository tokenRepository;
+    private final Cache cache;
+    private final UserEventPublisher userEventPublisher;
+
+    /**
+     * @param token         the registered FCM token, or null if none
+     * @param pushEnabled   the token's own enabled flag
+     * @param fallbackToken the token is a browser placeholder that FCM cannot deliver to
+     */
+    public record NotificationProfile(boolean notificationsEnabled,
+                                      boolean soundEnabled,
+                                      String soundType,
+                                      String token,
+                                      boolean pushEnabled,
+                                      boolean fallbackToken) {
+    }
+
+    public NotificationProfileService(SettingsRepository settingsRepository,
+                                      UserPushTokenRepository tokenRepository,
+                                      CacheManager cacheManager,
+                                      UserEventBus userEventBus,
+                                      UserEventPublisher userEventPublisher) {
+        this.settingsRepository = settingsRepository;
+        this.tokenRepository = tokenRepository;
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.userEventPublisher = userEventPublisher;
+        userEventBus.subscribe(this::onUserEvent);
+    }
+
+    public NotificationProfile getProfile(Long userId) {
+        return cache.get(userId, () -> load(userId));
+    }
+
+    /**
+     * Drops the cached profile after a push token change, here and on every other node. Inside a
+     * transaction the eviction runs after commit, so a concurrent push cannot re-cache the
+     * pre-commit state.
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        evictAfterCommit(userId);
+        userEventPublisher.pushTokenChanged(userId);
+    }
+
+    @EventListener
+    public void onSettingsChanged(UserSettingsChangedEvent event) {
+        // Other nodes evict when the settings-changed event published for this change reaches them
+        if (event.getUserId() != null) {
+            evictAfterCommit(event.getUserId());
+        }
+    }
+
+    /** Evicts profiles changed on any node, including this one's own changes echoed back. */
+    void onUserEvent(UserEvent event) {
+        if (event.userId() != null && (UserEventPublisher.SETTINGS_CHANGED.equals(event.type())
+                || UserEventPublisher.PUSH_TOKEN_CHANGED.equals(event.type()))) {
+            cache.evict(event.userId());
+        }
+    }
+
+    private void evictAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(userId);
+                }
+            });
+        } else {
+            cache.evict(userId);
+        }
+    }
+
+    private NotificationProfile load(Long userId) {
+        // Users without a settings row get the defaults, which have notifications on
+        UserSettings settings = settingsRepository.findById(userId).orElse(null);
+        boolean notificationsEnabled = settings == null || settings.isNotificationsEnabled();
+        boolean soundEnabled = settings == null || settings.isNotificationSound();
+        String soundType = "bell";
+        // Map backend enum to frontend sound file names
+        if (settings != null && settings.getSoundType() != null) {
+            soundType = switch (settings.getSoundType()) {
+                case BELL -> "bell";
+                case CHIME -> "chime";
+                case DIGITAL_BEEP -> "digital";
+                case SOFT_DING -> "soft";
+            };
+        }
+
+        UserPushToken pushToken = tokenRepository.findByUserId(userId).orElse(null);
+        String token = pushToken != null ? pushToken.getToken() : null;
+        return new NotificationProfile(
+                notificationsEnabled,
+                soundEnabled,
+                soundType,
+                token,
+                pushToken != null && pushToken.isEnabled(),
+                token != null && token.startsWith(FALLBACK_TOKEN_PREFIX));
+    }
+}
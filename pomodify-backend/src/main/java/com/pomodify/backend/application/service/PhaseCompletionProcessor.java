@@ -0,0 +1,270 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.domain.enums.CyclePhase;
+import com.pomodify.backend.domain.enums.SessionStatus;
+import com.pomodify.backend.domain.model.PomodoroSession;
+import com.pomodify.backend.domain.repository.PomodoroSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Completes one due phase per call, each in its own short transaction, so a slow or failing
+ * session never holds a connection or rolls back the rest of a batch. Push notifications are
+ * written to the outbox in the same transaction, so they are sent if and only if the phase commits.
+ *
+ * When a phase completes:
+ * 1. Sends push notification to user
+ * 2. Sets session to PAUSED awaiting user action to start next phase
+ * 3. Does NOT auto-advance to next phase - user must manually start next phase
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PhaseCompletionProcessor {
+
+    public enum Outcome { COMPLETED, NOT_DUE, SKIPPED }
+
+    private final PomodoroSessionRepository sessionRepository;
+    private final BadgeService badgeService;
+    private final FocusStatsService focusStatsService;
+    private final UserCacheGenerations userCacheGenerations;
+    private final PhaseTimerRegistry phaseTimerRegistry;
+    private final NotificationOutboxService notificationOutboxService;
+    private final UserEventPublisher userEventPublisher;
+
+    /**
+     * Completes the running phase of {@code sessionId} if it is due and this caller wins the claim.
+     * Re-reads the session so a pause, stop or skip that raced with the timer wins; a deadline that
+     * moved later is re-armed instead.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Outcome completeIfDue(Long sessionId) {
+        PomodoroSession session = sessionRepository.findById(sessionId).orElse(null);
+        if (session == null
+                || session.getStatus() != SessionStatus.IN_PROGRESS
+                || session.getPhaseEndTime() == null
+                || Boolean.TRUE.equals(session.getPhaseNotified())) {
+            return Outcome.SKIPPED;
+        }
+        if (session.getPhaseEndTime().isAfter(LocalDateTime.now())) {
+            phaseTimerRegistry.schedule(session.getId(), session.getPhaseEndTime());
+            return Outcome.NOT_DUE;
+        }
+        // Atomic claim: only one node (or timer) gets to process this phase
+        if (!sessionRepository.claimPhaseNotification(session.getId(), session.getPhaseEndTime())) {
+            log.debug("🔔 Session {} phase already claimed by another node", session.getId());
+            return Outcome.SKIPPED;
+        }
+        phaseTimerRegistry.cancel(session.getId());
+        processPhaseCompletion(session);
+        return Outcome.COMPLETED;
+    }
+
+    /**
+     * Process a session whose phase has completed:
+     * 1. Mark phase as notified and change status to PAUSED
+     * 2. Queue notification (sent after commit)
+     * 3. Advance to next phase and set remaining time
+     * 4. Save once
+     * 
+     * Unlike the old behavior, we do NOT auto-advance to the next phase.
+     * The user must manually start the next phase when they return to the app.
+     * This prevents the session from running through all phases while the user is away.
+     */
+    private void processPhaseCompletion(PomodoroSession session) {
+        Long userId = session.getActivity().getUser().getId();
+        CyclePhase completedPhase = session.getCurrentPhase();
+        
+        log.info("Processing phase completion for session {} - completing {} phase", 
+            session.getId(), completedPhase);
+        
+        // The phase was already claimed atomically, so other nodes won't pick it up again
+        session.setPhaseNotified(true);
+        session.setPhaseEndTime(null); // Clear phase end time since phase is complete
+        session.setStatus(SessionStatus.PAUSED);
+        
+        // Queue notification for completed phase; it is sent after commit
+        sendPhaseNotification(session, completedPhase);
+        
+        // Now advance to next phase
+        // The user must manually start the next phase when they return
+        advanceToNextPhase(session, completedPhase);
+        
+        // Check if session just completed
+        if (session.getStatus() == SessionStatus.COMPLETED) {
+            int cyclesCompleted = session.getCyclesCompleted() != null ? session.getCyclesCompleted() : 0;
+            log.info("Session {} completed with {} cycles", session.getId(), cyclesCompleted);
+            focusStatsService.recordSessionCompleted(session);
+            userCacheGenerations.invalidate(userId);
+            sendSessionCompletionNotification(userId, cyclesCompleted);
+            
+            // Award badges if eligible
+            try {
+                badgeService.awardBadgesIfEligible(userId);
+            } catch (Exception e) {
+                log.warn("Failed to award badges for user {}: {}", userId, e.getMessage());
+            }
+        } else {
+            log.info("Session {} paused at {} phase, waiting for user to start next phase", 
+                session.getId(), session.getCurrentPhase());
+        }
+        
+        sessionRepository.save(session);
+        userEventPublisher.phaseChanged(session);
+        
+        log.info("Saved session {} (user: {}, new phase: {}, status: {}, phaseEndTime: {}, remainingSecondsAtPause: {})", 
+            session.getId(), userId, session.getCurrentPhase(), session.getStatus(), 
+            session.getPhaseEndTime(), session.getRemainingSecondsAtPause());
+    }
+    
+    /**
+     * Advance session to the next phase without starting the timer.
+     * Sets the remaining time to the full duration of the next phase.
+     */
+    private void advanceToNextPhase(PomodoroSession session, CyclePhase completedPhase) {
+        // Determine next phase
+        CyclePhase nextPhase;
+        if (completedPhase == CyclePhase.FOCUS) {
+            // Check if should trigger long break
+            if (shouldTriggerLongBreak(session)) {
+                nextPhase = CyclePhase.LONG_BREAK;
+                log.info("advanceToNextPhase: Transitioning to LONG_BREAK for session {}", session.getId());
+            } else {
+                nextPhase = CyclePhase.BREAK;
+                log.info("advanceToNextPhase: Transitioning to BREAK for session {}", session.getId());
+            }
+        } else {
+            // After any break, go back to focus and increment cycle count
+            nextPhase = CyclePhase.FOCUS;
+            session.setCyclesCompleted((session.getCyclesCompleted() != null ? session.getCyclesCompleted() : 0) + 1);
+            log.info("advanceToNextPhase: Transitioning to FOCUS for session {}, cyclesCompleted now={}", 
+                session.getId(), session.getCyclesCompleted());
+        }
+        
+        session.setCurrentPhase(nextPhase);
+        session.setPhaseStartedAt(null);
+        session.setPhaseEndTime(null);
+        session.setPhaseNotified(false); // Reset for next phase
+        session.setTotalPausedDurationSeconds(0L);
+        
+        // Set remaining time to full duration of the next phase
+        long nextPhaseDurationSeconds = getNextPhaseDurationSeconds(session, nextPhase);
+        session.setRemainingSecondsAtPause(nextPhaseDurationSeconds);
+        log.info("advanceToNextPhase: Set remainingSecondsAtPause={} for phase {} (session {})", 
+            nextPhaseDurationSeconds, nextPhase, session.getId());
+        
+        // Check if session is now complete (only for Classic sessions)
+        // Freestyle sessions never auto-complete - they run until user manually completes
+        Integer totalCycles = session.getTotalCycles();
+        Integer cyclesCompleted = session.getCyclesCompleted();
+        if (session.getSessionType() != com.pomodify.backend.domain.enums.SessionType.FREESTYLE &&
+            totalCycles != null && cyclesCompleted != null && cyclesCompleted >= totalCycles) {
+            session.setStatus(SessionStatus.COMPLETED);
+            session.setCompletedAt(java.time.LocalDateTime.now());
+            session.setRemainingSecondsAtPause(null);
+            log.info("advanceToNextPhase: Session {} marked as COMPLETED (Classic session reached {} cycles)", 
+                session.getId(), cyclesCompleted);
+        }
+        // Status remains PAUSED (already set before this method is called)
+    }
+    
+    /**
+     * Check if a long break should be triggered based on session settings.
+     * Uses cycle-based interval (longBreakIntervalCycles) if available,
+     * otherwise falls back to time-based interval for backward compatibility.
+     */
+    private boolean shouldTriggerLongBreak(PomodoroSession session) {
+        if (session.getLongBreakDuration() == null) {
+            log.debug("shouldTriggerLongBreak: longBreakDuration is null, returning false");
+            return false;
+        }
+        
+        int cyclesCompleted = session.getCyclesCompleted() != null ? session.getCyclesCompleted() : 0;
+        
+        // Use cycle-based interval if available (new approach)
+        if (session.getLongBreakIntervalCycles() != null) {
+            boolean shouldTrigger = (cyclesCompleted + 1) % session.getLongBreakIntervalCycles() == 0;
+            log.info("shouldTriggerLongBreak: cyclesCompleted={}, intervalCycles={}, shouldTrigger={}", 
+                cyclesCompleted, session.getLongBreakIntervalCycles(), shouldTrigger);
+            return shouldTrigger;
+        }
+        
+        // Fallback to time-based interval for backward compatibility
+        if (session.getLongBreakInterval() == null) {
+            log.debug("shouldTriggerLongBreak: both intervalCycles and longBreakInterval are null, returning false");
+            return false;
+        }
+        
+        long cycleMinutes = session.getFocusDuration().toMinutes() + session.getBreakDuration().toMinutes();
+        long cyclesPerLongBreak = session.getLongBreakInterval().toMinutes() / cycleMinutes;
+        if (cyclesPerLongBreak < 1) cyclesPerLongBreak = 1;
+        
+        boolean shouldTrigger = (cyclesCompleted + 1) % cyclesPerLongBreak == 0;
+        log.info("shouldTriggerLongBreak (time-based fallback): cyclesCompleted={}, cyclesPerLongBreak={}, shouldTrigger={}", 
+            cyclesCompleted, cyclesPerLongBreak, shouldTrigger);
+        return shouldTrigger;
+    }
+    
+    /**
+     * Get the duration in seconds for the given phase.
+     */
+    private long getNextPhaseDurationSeconds(PomodoroSession session, CyclePhase phase) {
+        if (phase == CyclePhase.FOCUS) {
+            return session.getFocusDuration().getSeconds();
+        } else if (phase == CyclePhase.LONG_BREAK && session.getLongBreakDuration() != null) {
+            return session.getLongBreakDuration().getSeconds();
+        } else {
+            return session.getBreakDuration().getSeconds();
+        }
+    }
+
+    private void sendPhaseNotification(PomodoroSession session, CyclePhase completedPhase) {
+        Long userId = session.getActivity().getUser().getId();
+        int focusMinutes = (int) session.getFocusDuration().toMinutes();
+        int breakMinutes = (int) session.getBreakDuration().toMinutes();
+        int longBreakMinutes = session.getLongBreakDuration() != null 
+            ? (int) session.getLongBreakDuration().toMinutes() 
+            : breakMinutes;
+        
+        String title;
+        String body;
+        
+        if (completedPhase == CyclePhase.FOCUS) {
+            // Focus phase just ended → transitioning to break or long break
+            // Check what the next phase will be
+            boolean isLongBreak = shouldTriggerLongBreak(session);
+            if (isLongBreak) {
+                title = "☕ Focus Complete - Long Break Time!";
+                body = String.format("Great work! %d minutes of focus done. Time for a %d minute long break.", 
+                    focusMinutes, longBreakMinutes);
+            } else {
+                title = "☕ Focus Complete - Take a Break!";
+                body = String.format("Great work! %d minutes of focus done. Time for a %d minute break.", 
+                    focusMinutes, breakMinutes);
+            }
+        } else if (completedPhase == CyclePhase.LONG_BREAK) {
+            // Long break ended → back to focus
+            title = "🔥 Long Break Over - Back to Focus!";
+            body = "Feeling refreshed? Let's get back to work!";
+        } else {
+            // Regular break ended → back to focus
+            title = "🔥 Break Over - Time to Focus!";
+            body = String.format("Break complete. Ready for %d minutes of focus?", focusMinutes);
+        }
+        
+        notificationOutboxService.enqueue(userId, title, body);
+    }
+
+    private void sendSessionCompletionNotification(Long userId, int cyclesCompleted) {
+        String title = "🎉 Session Complete!";
+        String body = String.format("Congratulations! You completed %d cycle%s. Great job staying focused!", 
+            cyclesCompleted, cyclesCompleted == 1 ? "" : "s");
+        
+        notificationOutboxService.enqueue(userId, title, body);
+    }
+}
@@ -0,0 +1,159 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.application.event.PhaseDeadlineReachedEvent;
+import com.pomodify.backend.domain.enums.SessionStatus;
+import com.pomodify.backend.domain.model.PomodoroSession;
+import com.pomodify.backend.domain.repository.PomodoroSessionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory timers for running phases, so phase completion fires at the deadline instead of on the
+ * next database poll.
+ *
+ * <p>{@link SessionService} calls {@link #sync(PomodoroSession)} after every lifecycle change; the
+ * timer is (re)armed when the session is IN_PROGRESS with an un-notified {@code phaseEndTime} and
+ * cancelled otherwise. Timers are rebuilt from the database on startup. When a timer fires, a
+ * {@link PhaseDeadlineReachedEvent} is published on the timer thread and handled by
+ * {@link PhaseNotificationScheduler}, whose periodic poll remains as a safety net for anything
+ * missed here (other nodes, restarts between commit and sync).
+ */
+@Component
+@Slf4j
+public class PhaseTimerRegistry {
+
+    private final PomodoroSessionRepository sessionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<Long, Timer> timers = new ConcurrentHashMap<>();
+
+    private static final class Timer {
+        final LocalDateTime deadline;
+        volatile ScheduledFuture<?> future;
+
+        Timer(LocalDateTime deadline) {
+            this.deadline = deadline;
+        }
+
+        void cancel() {
+            ScheduledFuture<?> f = future;
+            if (f != null) {
+                f.cancel(false);
+            }
+        }
+    }
+
+    public PhaseTimerRegistry(PomodoroSessionRepository sessionRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${app.phase-timer.threads:2}") int threads) {
+        this.sessionRepository = sessionRepository;
+        this.eventPublisher = eventPublisher;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(threads, r -> {
+            Thread t = new Thread(r, "phase-timer-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        // Pause/stop cancel far more timers than ever fire; don't keep them in the queue
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Arms or cancels the timer for {@code session} to match its current state. Inside a transaction
+     * this happens after commit, so a rolled-back change never leaves a timer behind.
+     */
+    public void sync(PomodoroSession session) {
+        Long sessionId = session.getId();
+        if (sessionId == null) {
+            return;
+        }
+        LocalDateTime deadline = session.getStatus() == SessionStatus.IN_PROGRESS
+                && !Boolean.TRUE.equals(session.getPhaseNotified())
+                && !session.isDeleted()
+                ? session.getPhaseEndTime()
+                : null;
+        Runnable apply = () -> {
+            if (deadline != null) {
+                schedule(sessionId, deadline);
+            } else {
+                cancel(sessionId);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    public void schedule(Long sessionId, LocalDateTime deadline) {
+        Timer existing = timers.get(sessionId);
+        if (existing != null && existing.deadline.equals(deadline)) {
+            return;
+        }
+        // Register before scheduling so an immediately-due timer always finds itself in the map
+        Timer timer = new Timer(deadline);
+        Timer previous = timers.put(sessionId, timer);
+        if (previous != null) {
+            previous.cancel();
+        }
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(), deadline).toMillis());
+        timer.future = executor.schedule(() -> fire(sessionId, timer), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void cancel(Long sessionId) {
+        Timer timer = timers.remove(sessionId);
+        if (timer != null) {
+            timer.cancel();
+        }
+    }
+
+    int pendingCount() {
+        return timers.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        var deadlines = sessionRepository.findPendingPhaseDeadlines();
+        deadlines.forEach(d -> schedule(d.sessionId(), d.phaseEndTime()));
+        log.info("Armed {} phase timers from the database", deadlines.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void fire(Long sessionId, Timer timer) {
+        // Only the timer that is still registered may fire; a re-armed session has a newer one
+        if (!timers.remove(sessionId, timer)) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new PhaseDeadlineReachedEvent(this, sessionId));
+        } catch (Exception e) {
+            log.error("Phase timer for session {} failed; the scheduler poll will retry: {}", sessionId, e.getMessage(), e);
+        }
+    }
+}
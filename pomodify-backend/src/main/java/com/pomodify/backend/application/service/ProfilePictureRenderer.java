@@ -0,0 +1,124 @@
+package com.pomodify.backend.application.service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Decodes an uploaded image once and encodes it at several bounding-box sizes, largest first, each
+ * size scaled down from the previous one. Opaque images become JPEG at {@link #JPEG_QUALITY};
+ * images with transparency stay PNG. Images are never scaled up.
+ */
+final class ProfilePictureRenderer {
+
+    static final float JPEG_QUALITY = 0.82f;
+
+    record Rendition(int size, String extension, String contentType, byte[] bytes) {}
+
+    private ProfilePictureRenderer() {}
+
+    /**
+     * @param maxPixels decoded-size limit, checked from the header before any pixel data is read
+     * @return one rendition per size, smallest first
+     * @throws IllegalArgumentException if the file is not a readable image or is too large
+     */
+    static List<Rendition> render(Path source, int[] sizes, long maxPixels) throws IOException {
+        BufferedImage image = decode(source, maxPixels);
+        boolean alpha = image.getColorModel().hasAlpha();
+        int[] descending = Arrays.stream(sizes).boxed().sorted(Comparator.reverseOrder()).mapToInt(Integer::intValue).toArray();
+
+        List<Rendition> renditions = new ArrayList<>();
+        BufferedImage current = image;
+        for (int size : descending) {
+            current = scaleToFit(current, size, alpha);
+            renditions.add(alpha
+                    ? new Rendition(size, "png", "image/png", encodePng(current))
+                    : new Rendition(size, "jpg", "image/jpeg", encodeJpeg(current)));
+        }
+        renditions.sort(Comparator.comparingInt(Rendition::size));
+        return renditions;
+    }
+
+    private static BufferedImage decode(Path source, long maxPixels) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("Invalid image file");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    throw new IllegalArgumentException("Image dimensions are too large");
+                }
+                // Animated images keep their first frame
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scaleToFit(BufferedImage image, int size, boolean alpha) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) size / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        // Halve repeatedly before the final step: one bilinear pass over a large ratio aliases badly
+        BufferedImage current = image;
+        do {
+            int w = Math.max(targetWidth, current.getWidth() / 2);
+            int h = Math.max(targetHeight, current.getHeight() / 2);
+            current = draw(current, w, h, alpha);
+        } while (current.getWidth() > targetWidth || current.getHeight() > targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage image, int width, int height, boolean alpha) {
+        BufferedImage out = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(image, 0, 0, width, height, null);
+        g.dispose();
+        return out;
+    }
+
+    private static byte[] encodePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,48 +1,115 @@
 package com.pomodify.backend.application.service;
 
+import com.pomodify.backend.application.result.ProfilePictureContent;
 import com.pomodify.backend.application.result.UserResult;
 import com.pomodify.backend.domain.model.User;
 import com.pomodify.backend.domain.repository.UserRepository;
 import com.pomodify.backend.domain.valueobject.Email;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
-import java.awt.*;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stores and serves profile pictures.
+ *
+ * <p>An upload is only validated and written to a staging file on the request thread. The image
+ * executor then decodes it once into {@code app.upload.rendition-sizes} renditions
+ * ({@link ProfilePictureRenderer}), points the user at the largest and smallest with a single
+ * UPDATE and publishes {@code profile-picture-updated}. That UPDATE only applies while the upload is
+ * still the user's pending one ({@code profile_picture_upload_id}), so a newer upload or a delete
+ * wins over a job already rendering; renditions that do not land are removed. Rendition files are named
+ * {@code <userId>-<source hash>-<size>.<ext>}, so a URL always denotes the same bytes and can be
+ * cached by browsers indefinitely; the hash doubles as the strong ETag.
+ *
+ * <p>Files are streamed from disk; small, frequently requested ones are kept in a byte-bounded
+ * in-memory cache (metrics under {@code cache.*} with {@code cache=profilePictures}).
+ */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class ProfilePictureService {
 
-    private final UserRepository userRepository;
+    static final String URL_PREFIX = "/api/v2/auth/users/me/profile-picture/";
 
-    @Value("${app.upload.dir:uploads/profile-pictures}")
-    private String uploadDir;
+    private final UserRepository userRepository;
+    private final UserEventPublisher userEventPublisher;
+    private final TaskExecutor imageExecutor;
+    private final String uploadDir;
+    private final int[] renditionSizes;
+    private final int cacheMaxEntryBytes;
+    private final Cache<String, ProfilePictureContent> hotPictures;
+    /** Latest staged upload per user on this node; lets a superseded upload skip rendering. */
+    private final Map<Long, String> latestUploads = new ConcurrentHashMap<>();
 
     @Value("${app.base-url:http://localhost:8081}")
     private String baseUrl;
 
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "gif", "webp");
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
-    private static final int MAX_DIMENSION = 400;
+    private static final long MAX_PIXELS = 40_000_000L;
+    private static final String STAGING_DIR = "staging";
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("^(\\d+)-([0-9a-f]{32})(-\\d+)?\\.[a-z]+$");
+
+    public ProfilePictureService(UserRepository userRepository,
+                                 UserEventPublisher userEventPublisher,
+                                 @Qualifier("imageExecutor") TaskExecutor imageExecutor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.upload.dir:uploads/profile-pictures}") String uploadDir,
+                                 @Value("${app.upload.rendition-sizes:48,96,400}") int[] renditionSizes,
+                                 @Value("${app.upload.cache.max-bytes:16777216}") long cacheMaxBytes,
+                                 @Value("${app.upload.cache.max-entry-bytes:262144}") int cacheMaxEntryBytes) {
+        this.userRepository = userRepository;
+        this.userEventPublisher = userEventPublisher;
+        this.imageExecutor = imageExecutor;
+        this.uploadDir = uploadDir;
+        this.renditionSizes = renditionSizes;
+        this.cacheMaxEntryBytes = cacheMaxEntryBytes;
+        this.hotPictures = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxBytes)
+                .weigher((String name, ProfilePictureContent picture) -> (int) picture.size())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, hotPictures, "profilePictures");
+    }
 
-    @Transactional
+    /**
+     * Accepts an upload for background processing. The returned user still carries the current
+     * picture plus the pending upload id; the new picture replaces it once
+     * {@code profile-picture-updated} is published, and {@code /users/me} clears the id once the
+     * upload has landed or failed.
+     *
+     * @throws TaskRejectedException when the image executor is saturated (answered as 503)
+     */
     public UserResult uploadProfilePicture(String userEmail, MultipartFile file) throws IOException {
         // Validate file
         validateFile(file);
@@ -51,40 +118,82 @@ public class ProfilePictureService {
         User user = userRepository.findByEmail(emailVO)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        // Delete old profile picture if exists
-        if (user.getProfilePictureUrl() != null) {
-            deleteOldProfilePicture(user.getProfilePictureUrl());
-        }
+        Path stagingPath = Paths.get(uploadDir, STAGING_DIR).toAbsolutePath();
+        Files.createDirectories(stagingPath);
+        String uploadId = UUID.randomUUID().toString();
+        Path staged = stagingPath.resolve(uploadId + ".upload");
+        file.transferTo(staged);
 
-        // Process and save new image
-        String fileName = generateFileName(file.getOriginalFilename());
-        Path uploadPath = Paths.get(uploadDir);
-        
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
+        Long userId = user.getId();
+        userRepository.startProfilePictureUpload(userId, uploadId);
+        latestUploads.put(userId, uploadId);
+        try {
+            imageExecutor.execute(() -> processUpload(userId, uploadId, staged));
+        } catch (TaskRejectedException e) {
+            latestUploads.remove(userId, uploadId);
+            userRepository.abandonProfilePictureUpload(userId, uploadId);
+            Files.deleteIfExists(staged);
+            throw e;
         }
 
-        // Resize image
-        byte[] resizedImage = resizeImage(file.getBytes(), getFileExtension(file.getOriginalFilename()));
-        
-        Path filePath = uploadPath.resolve(fileName);
-        Files.write(filePath, resizedImage);
-
-        // Update user with new profile picture URL
-        String profilePictureUrl = "/api/v2/auth/users/me/profile-picture/" + fileName;
-        user.setProfilePictureUrl(profilePictureUrl);
-        User savedUser = userRepository.save(user);
-
-        log.info("Profile picture uploaded for user: {}", userEmail);
+        log.info("Profile picture upload accepted for user: {}", userEmail);
+        return toResult(user, user.getProfilePictureUrl(), user.getProfilePictureThumbUrl(), uploadId);
+    }
 
-        return UserResult.builder()
-                .firstName(savedUser.getFirstName())
-                .lastName(savedUser.getLastName())
-                .email(savedUser.getEmail().getValue())
-                .isEmailVerified(savedUser.isEmailVerified())
-                .backupEmail(savedUser.getBackupEmail())
-                .profilePictureUrl(savedUser.getProfilePictureUrl())
-                .build();
+    /** Runs on the image executor: renders the staged upload and switches the user over to it. */
+    void processUpload(Long userId, String uploadId, Path staged) {
+        List<String> written = new ArrayList<>();
+        String sourceHash = null;
+        boolean switched = false;
+        try {
+            if (!uploadId.equals(latestUploads.get(userId))) {
+                return;
+            }
+            List<ProfilePictureRenderer.Rendition> renditions = ProfilePictureRenderer.render(staged, renditionSizes, MAX_PIXELS);
+            sourceHash = contentHash(staged);
+            Path uploadPath = Paths.get(uploadDir);
+            String smallest = null;
+            String largest = null;
+            for (ProfilePictureRenderer.Rendition rendition : renditions) {
+                String fileName = userId + "-" + sourceHash + "-" + rendition.size() + "." + rendition.extension();
+                writeAtomically(uploadPath, fileName, rendition.bytes());
+                written.add(fileName);
+                smallest = smallest == null ? fileName : smallest;
+                largest = fileName;
+            }
+
+            String oldUrl = userRepository.findUser(userId).map(User::getProfilePictureUrl).orElse(null);
+            String url = URL_PREFIX + largest;
+            String thumbUrl = URL_PREFIX + smallest;
+            if (userRepository.updateProfilePicture(userId, uploadId, url, thumbUrl) == 0) {
+                log.debug("Profile picture upload {} for user {} was superseded or deleted", uploadId, userId);
+                return;
+            }
+            switched = true;
+            userEventPublisher.profilePictureUpdated(userId, url, thumbUrl);
+            // Re-uploading the same image yields the same names; keep those
+            if (oldUrl != null && !oldUrl.contains("-" + sourceHash)) {
+                deleteOldProfilePicture(oldUrl);
+            }
+            log.info("Profile picture processed for user {}: {} renditions", userId, renditions.size());
+        } catch (IllegalArgumentException e) {
+            log.warn("Profile picture for user {} rejected: {}", userId, e.getMessage());
+            userEventPublisher.profilePictureFailed(userId, e.getMessage());
+        } catch (Exception e) {
+            log.error("Profile picture processing failed for user {}: {}", userId, e.getMessage(), e);
+            userEventPublisher.profilePictureFailed(userId, "Processing failed");
+        } finally {
+            latestUploads.remove(userId, uploadId);
+            if (!switched) {
+                discardRenditions(userId, sourceHash, written);
+                abandonUpload(userId, uploadId);
+            }
+            try {
+                Files.deleteIfExists(staged);
+            } catch (IOException e) {
+                log.warn("Failed to delete staged upload {}: {}", staged, e.getMessage());
+            }
+        }
     }
 
     @Transactional
@@ -93,29 +202,51 @@ public class ProfilePictureService {
         User user = userRepository.findByEmail(emailVO)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        if (user.getProfilePictureUrl() != null) {
-            deleteOldProfilePicture(user.getProfilePictureUrl());
+        // Clearing the pending upload keeps one still being processed from bringing the picture back
+        latestUploads.remove(user.getId());
+        if (user.getProfilePictureUrl() != null || user.getProfilePictureUploadId() != null) {
+            if (user.getProfilePictureUrl() != null) {
+                deleteOldProfilePicture(user.getProfilePictureUrl());
+                log.info("Profile picture deleted for user: {}", userEmail);
+            }
             user.setProfilePictureUrl(null);
+            user.setProfilePictureThumbUrl(null);
+            user.setProfilePictureUploadId(null);
             userRepository.save(user);
-            log.info("Profile picture deleted for user: {}", userEmail);
         }
 
-        return UserResult.builder()
-                .firstName(user.getFirstName())
-                .lastName(user.getLastName())
-                .email(user.getEmail().getValue())
-                .isEmailVerified(user.isEmailVerified())
-                .backupEmail(user.getBackupEmail())
-                .profilePictureUrl(null)
-                .build();
+        return toResult(user, null, null, null);
     }
 
-    public byte[] getProfilePicture(String fileName) throws IOException {
-        Path filePath = Paths.get(uploadDir).resolve(fileName);
-        if (!Files.exists(filePath)) {
+    /**
+     * Looks up a stored picture for serving. Only metadata is read from disk unless the picture is
+     * small enough for the hot-image cache; otherwise the returned resource streams the file.
+     */
+    public ProfilePictureContent getProfilePicture(String fileName) throws IOException {
+        ProfilePictureContent cached = hotPictures.getIfPresent(fileName);
+        if (cached != null) {
+            return cached;
+        }
+        Path dir = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path filePath = dir.resolve(fileName).normalize();
+        if (!filePath.getParent().equals(dir) || !Files.isRegularFile(filePath)) {
             throw new IllegalArgumentException("Profile picture not found");
         }
-        return Files.readAllBytes(filePath);
+        BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        Matcher hashed = CONTENT_ADDRESSED.matcher(fileName);
+        boolean immutable = hashed.matches();
+        // Legacy (UUID) names: size and mtime identify the bytes, as those files are never rewritten
+        String etag = "\"" + (immutable ? hashed.group(2) + (hashed.group(3) != null ? hashed.group(3) : "")
+                : Long.toHexString(attributes.size()) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis())) + "\"";
+        ProfilePictureContent picture = new ProfilePictureContent(fileName, getContentType(fileName), etag,
+                attributes.lastModifiedTime().toInstant(), attributes.size(), immutable, new FileSystemResource(filePath));
+        if (attributes.size() > cacheMaxEntryBytes) {
+            return picture;
+        }
+        ProfilePictureContent inMemory = new ProfilePictureContent(fileName, picture.contentType(), etag,
+                picture.lastModified(), picture.size(), immutable, new ByteArrayResource(Files.readAllBytes(filePath)));
+        hotPictures.put(fileName, inMemory);
+        return inMemory;
     }
 
     public String getContentType(String fileName) {
@@ -144,9 +275,29 @@ public class ProfilePictureService {
         }
     }
 
-    private String generateFileName(String originalFilename) {
-        String extension = getFileExtension(originalFilename);
-        return UUID.randomUUID().toString() + "." + extension;
+    private static String contentHash(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            for (int read; (read = in.read(buffer)) != -1; ) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** Readers never see a partly written file: write next to the target, then rename over it. */
+    private static void writeAtomically(Path dir, String fileName, byte[] bytes) throws IOException {
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, fileName, ".tmp");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, dir.resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
     }
 
     private String getFileExtension(String filename) {
@@ -156,54 +307,73 @@ public class ProfilePictureService {
         return filename.substring(filename.lastIndexOf(".") + 1);
     }
 
+    /**
+     * Removes the renditions of an upload that did not become the profile picture. Names are
+     * content-addressed, so files shared with the current picture (the same image uploaded again)
+     * are kept.
+     */
+    /** Lets clients waiting on the pending upload id see that this upload will not land. */
+    private void abandonUpload(Long userId, String uploadId) {
+        try {
+            userRepository.abandonProfilePictureUpload(userId, uploadId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to clear pending profile picture upload {} for user {}: {}", uploadId, userId, e.getMessage());
+        }
+    }
+
+    private void discardRenditions(Long userId, String sourceHash, List<String> written) {
+        if (written.isEmpty()) {
+            return;
+        }
+        try {
+            String current = userRepository.findUser(userId).map(User::getProfilePictureUrl).orElse(null);
+            if (current != null && current.contains("-" + sourceHash + "-")) {
+                return;
+            }
+            Path dir = Paths.get(uploadDir);
+            for (String fileName : written) {
+                Files.deleteIfExists(dir.resolve(fileName));
+                hotPictures.invalidate(fileName);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to remove renditions of a discarded upload for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    /** Deletes the file behind {@code profilePictureUrl} together with its sibling renditions. */
     private void deleteOldProfilePicture(String profilePictureUrl) {
+        String fileName = profilePictureUrl.substring(profilePictureUrl.lastIndexOf("/") + 1);
+        Path dir = Paths.get(uploadDir);
+        Matcher rendition = CONTENT_ADDRESSED.matcher(fileName);
         try {
-            String fileName = profilePictureUrl.substring(profilePictureUrl.lastIndexOf("/") + 1);
-            Path filePath = Paths.get(uploadDir).resolve(fileName);
-            Files.deleteIfExists(filePath);
+            if (rendition.matches() && rendition.group(3) != null) {
+                try (DirectoryStream<Path> siblings = Files.newDirectoryStream(dir,
+                        rendition.group(1) + "-" + rendition.group(2) + "-*")) {
+                    for (Path sibling : siblings) {
+                        Files.deleteIfExists(sibling);
+                        hotPictures.invalidate(sibling.getFileName().toString());
+                    }
+                }
+            } else {
+                Files.deleteIfExists(dir.resolve(fileName));
+                hotPictures.invalidate(fileName);
+            }
         } catch (IOException e) {
             log.warn("Failed to delete old profile picture: {}", e.getMessage());
         }
     }
 
-    private byte[] resizeImage(byte[] imageData, String format) throws IOException {
-        ByteArrayInputStream inputStream = new ByteArrayInputStream(imageData);
-        BufferedImage originalImage = ImageIO.read(inputStream);
-        
-        if (originalImage == null) {
-            throw new IllegalArgumentException("Invalid image file");
-        }
-
-        int originalWidth = originalImage.getWidth();
-        int originalHeight = originalImage.getHeight();
-
-        // If image is already small enough, return original
-        if (originalWidth <= MAX_DIMENSION && originalHeight <= MAX_DIMENSION) {
-            return imageData;
-        }
-
-        // Calculate new dimensions maintaining aspect ratio
-        int newWidth, newHeight;
-        if (originalWidth > originalHeight) {
-            newWidth = MAX_DIMENSION;
-            newHeight = (int) ((double) originalHeight / originalWidth * MAX_DIMENSION);
-        } else {
-            newHeight = MAX_DIMENSION;
-            newWidth = (int) ((double) originalWidth / originalHeight * MAX_DIMENSION);
-        }
-
-        // Create resized image
-        BufferedImage resizedImage = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_RGB);
-        Graphics2D g = resizedImage.createGraphics();
-        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-        g.drawImage(originalImage, 0, 0, newWidth, newHeight, null);
-        g.dispose();
-
-        // Convert to byte array
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        String outputFormat = format.equalsIgnoreCase("png") ? "png" : "jpg";
-        ImageIO.write(resizedImage, outputFormat, outputStream);
-        
-        return outputStream.toByteArray();
+    private static UserResult toResult(User user, String profilePictureUrl, String profilePictureThumbUrl,
+                                       String profilePictureUploadId) {
+        return UserResult.builder()
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail().getValue())
+                .isEmailVerified(user.isEmailVerified())
+                .backupEmail(user.getBackupEmail())
+                .profilePictureUrl(profilePictureUrl)
+                .profilePictureThumbUrl(profilePictureThumbUrl)
+                .profilePictureUploadId(profilePictureUploadId)
+                .build();
     }
 }
@@ -5,21 +5,21 @@ import com.google.firebase.messaging.AndroidNotification;
 import com.google.firebase.messaging.ApnsConfig;
 import com.google.firebase.messaging.Aps;
 import com.google.firebase.messaging.ApsAlert;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.Notification;
 import com.google.firebase.messaging.WebpushConfig;
 import com.google.firebase.messaging.WebpushNotification;
-import com.google.firebase.messaging.MessagingErrorCode;
-import com.pomodify.backend.domain.model.UserPushToken;
-import com.pomodify.backend.domain.model.settings.UserSettings;
+import com.pomodify.backend.application.port.out.PushMessagingPort;
+import com.pomodify.backend.application.service.NotificationProfileService.NotificationProfile;
 import com.pomodify.backend.domain.repository.UserPushTokenRepository;
-import com.pomodify.backend.domain.repository.SettingsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -28,57 +28,130 @@ import java.util.Optional;
 public class PushNotificationService {
 
     private final UserPushTokenRepository tokenRepository;
-    private final SettingsRepository settingsRepository;
+    private final NotificationProfileService notificationProfileService;
+    private final PushMessagingPort pushMessagingPort;
+
+    /** One notification to deliver, as passed to {@link #deliverAll(List)}. */
+    public record PushRequest(Long userId, String title, String body) {}
+
+    /** Outcome of a single delivery attempt, used by the outbox dispatcher to decide on retries. */
+    public enum DeliveryResult {
+        /** Accepted by FCM. */
+        SENT,
+        /** User turned notifications off in settings. */
+        DISABLED,
+        /** Nothing to deliver to (no usable token, or Firebase not configured). */
+        SKIPPED,
+        /** FCM rejected the token permanently; it has been removed. */
+        REJECTED,
+        /** Transient failure; worth retrying. */
+        RETRYABLE
+    }
 
     public void sendNotificationToUser(Long userId, String title, String body) {
+        if (deliver(userId, title, body) == DeliveryResult.DISABLED) {
+            throw new IllegalStateException("Notifications disabled");
+        }
+    }
+
+    public DeliveryResult deliver(Long userId, String title, String body) {
+        return deliverAll(List.of(new PushRequest(userId, title, body))).get(0);
+    }
+
+    /**
+     * Delivers a batch of notifications with as few FCM calls as possible: settings and tokens are
+     * resolved per user, every deliverable message goes out in one {@link PushMessagingPort#sendEach}
+     * call, and each per-message failure is handled on its own (rejected tokens are removed).
+     *
+     * @return one result per request, in input order
+     */
+    public List<DeliveryResult> deliverAll(List<PushRequest> requests) {
+        DeliveryResult[] results = new DeliveryResult[requests.size()];
+        List<Message> messages = new ArrayList<>();
+        List<Integer> messageIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            PushRequest request = requests.get(i);
+            Optional<Message> message = prepare(request.userId(), request.title(), request.body(), results, i);
+            if (message.isPresent()) {
+                messages.add(message.get());
+                messageIndexes.add(i);
+            }
+        }
+        if (messages.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        List<PushMessagingPort.SendOutcome> outcomes;
+        try {
+            outcomes = pushMessagingPort.sendEach(messages);
+        } catch (Exception e) {
+            log.error("❌ Unexpected error sending {} push notification(s): {}", messages.size(), e.getMessage(), e);
+            outcomes = Collections.nCopies(messages.size(),
+                    new PushMessagingPort.SendOutcome(PushMessagingPort.Status.RETRYABLE, e.getMessage()));
+        }
+        for (int j = 0; j < outcomes.size(); j++) {
+            int i = messageIndexes.get(j);
+            Long userId = requests.get(i).userId();
+            PushMessagingPort.SendOutcome outcome = outcomes.get(j);
+            results[i] = switch (outcome.status()) {
+                case SENT -> DeliveryResult.SENT;
+                case INVALID_TOKEN -> {
+                    log.info("Removing invalid push token for user {}: {}", userId, outcome.error());
+                    tokenRepository.deleteByUserId(userId);
+                    notificationProfileService.invalidate(userId);
+                    yield DeliveryResult.REJECTED;
+                }
+                case RETRYABLE -> {
+                    log.warn("❌ FCM push failed for user {}: {}", userId, outcome.error());
+                    yield DeliveryResult.RETRYABLE;
+                }
+                case UNAVAILABLE -> DeliveryResult.SKIPPED;
+            };
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Applies the settings and token guards for one user and builds the FCM message. When the
+     * notification should not be sent, records why in {@code results[index]} and returns empty.
+     */
+    private Optional<Message> prepare(Long userId, String title, String body, DeliveryResult[] results, int index) {
         log.info("📤 Attempting to send notification to user {}: title='{}', body='{}'", userId, title, body);
         
+        NotificationProfile profile = notificationProfileService.getProfile(userId);
+
         // Global settings guard: respect notificationsEnabled
-        var settingsOpt = settingsRepository.findById(userId);
-        if (settingsOpt.isPresent() && !settingsOpt.get().isNotificationsEnabled()) {
+        if (!profile.notificationsEnabled()) {
             log.info("🔕 Notifications disabled in settings for user {} — skipping push", userId);
-            throw new IllegalStateException("Notifications disabled");
-        }
-        
-        // Get user's sound preference
-        String soundType = "bell"; // default
-        boolean soundEnabled = true;
-        if (settingsOpt.isPresent()) {
-            UserSettings settings = settingsOpt.get();
-            soundEnabled = settings.isNotificationSound();
-            
-            // Map backend enum to frontend sound file names
-            if (settings.getSoundType() != null) {
-                switch (settings.getSoundType()) {
-                    case BELL -> soundType = "bell";
-                    case CHIME -> soundType = "chime";
-                    case DIGITAL_BEEP -> soundType = "digital";
-                    case SOFT_DING -> soundType = "soft";
-                }
-            }
+            results[index] = DeliveryResult.DISABLED;
+            return Optional.empty();
         }
         
-        Optional<UserPushToken> opt = tokenRepository.findByUserId(userId);
-        if (opt.isEmpty()) {
+        String soundType = profile.soundType();
+        boolean soundEnabled = profile.soundEnabled();
+        String token = profile.token();
+        if (token == null) {
             log.warn("⚠️ No push token for user {} — skipping push. User needs to enable notifications in browser.", userId);
-            return;
+            results[index] = DeliveryResult.SKIPPED;
+            return Optional.empty();
         }
-        UserPushToken upt = opt.get();
-        if (!upt.isEnabled()) {
+        if (!profile.pushEnabled()) {
             log.info("🔕 Push disabled for user {} — skipping push", userId);
-            return;
+            results[index] = DeliveryResult.SKIPPED;
+            return Optional.empty();
         }
-        String token = upt.getToken();
-        if (token == null || token.isBlank()) {
+        if (token.isBlank()) {
             log.warn("⚠️ Empty push token for user {} — skipping push", userId);
-            return;
+            results[index] = DeliveryResult.SKIPPED;
+            return Optional.empty();
         }
         
         // Check if this is a fallback token (not a real FCM token)
-        if (token.startsWith("browser-fallback-")) {
+        if (profile.fallbackToken()) {
             log.warn("⚠️ User {} has a fallback token (not a real FCM token) — FCM push will fail. Token: {}", userId, token);
             log.warn("⚠️ Background notifications will NOT work for user {} until they get a real FCM token", userId);
-            return; // Don't even try to send - it will fail
+            results[index] = DeliveryResult.SKIPPED; // Don't even try to send - it will fail
+            return Optional.empty();
         }
         
         log.info("📤 Sending FCM notification to user {} with token: {}... (sound: {}, type: {})", 
@@ -135,30 +208,6 @@ public class PushNotificationService {
                 .putData("click_action", "OPEN_TIMER")
                 .putData("timestamp", String.valueOf(System.currentTimeMillis()))
                 .build();
-                
-        try {
-            String response = FirebaseMessaging.getInstance().send(message);
-            log.info("✅ FCM push sent to user {}: {}", userId, response);
-        } catch (FirebaseMessagingException e) {
-            log.warn("❌ FCM push failed for user {}: {}", userId, e.getMessage());
-            // Remove invalid/unregistered tokens
-            if (e.getMessagingErrorCode() != null) {
-                MessagingErrorCode code = e.getMessagingErrorCode();
-                switch (code) {
-                    case UNREGISTERED:
-                    case INVALID_ARGUMENT:
-                        log.info("Removing invalid push token for user {}", userId);
-                        tokenRepository.deleteByUserId(userId);
-                        break;
-                    default:
-                        // keep token, transient error
-                        break;
-                }
-            }
-        } catch (IllegalStateException e) {
-            log.error("❌ Firebase not initialized - cannot send push notification to user {}: {}", userId, e.getMessage());
-        } catch (Exception e) {
-            log.error("❌ Unexpected error sending push notification to user {}: {}", userId, e.getMessage(), e);
-        }
+        return Optional.of(message);
     }
 }
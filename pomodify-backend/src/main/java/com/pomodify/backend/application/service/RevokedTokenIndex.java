@@ -0,0 +1,234 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.domain.model.RevokedToken;
+import com.pomodify.backend.domain.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process view of {@code revoked_tokens} so the per-request revocation check does not hit the database.
+ *
+ * <p>Tokens are indexed by their SHA-256 hash together with their own {@code exp}; entries are dropped once
+ * the token would be rejected for expiry anyway. A Bloom filter in front of the map answers the common
+ * "not revoked" case without touching the map. The index is warmed at startup and then polls for rows
+ * revoked on other nodes, so a revocation propagates cluster-wide within one poll interval. Until the first
+ * warm-up completes, lookups fall back to the repository.
+ */
+@Component
+@Slf4j
+public class RevokedTokenIndex {
+
+    /** Re-read this far back on every poll to tolerate clock skew between nodes. */
+    private static final long POLL_OVERLAP_SECONDS = 30;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final Map<String, Long> expiryByHash = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloom = BloomFilter.forExpected(0);
+    private volatile LocalDateTime lastSeen;
+    private volatile boolean warmed;
+    // A ReentrantLock rather than synchronized: warm-up and polling hold it across JDBC calls,
+    // which would pin a virtual carrier thread inside a monitor on Java 21.
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public RevokedTokenIndex(RevokedTokenRepository revokedTokenRepository) {
+        this.revokedTokenRepository = revokedTokenRepository;
+    }
+
+    public boolean isRevoked(String token) {
+        String hash = RevokedToken.hashOf(token);
+        if (!warmed) {
+            return revokedTokenRepository.existsByTokenHash(hash);
+        }
+        if (!bloom.mightContain(hash)) {
+            return false;
+        }
+        return expiryByHash.containsKey(hash);
+    }
+
+    /**
+     * Records a revocation persisted on this node once its transaction commits, so a rollback never
+     * leaves a token rejected here but valid everywhere else; other nodes pick it up on their next poll.
+     */
+    public void revoke(RevokedToken revoked) {
+        String hash = revoked.getTokenHash();
+        long expiresAtMillis = toEpochMillis(revoked.getExpiresAt());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(hash, expiresAtMillis);
+                }
+            });
+        } else {
+            add(hash, expiresAtMillis);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        writeLock.lock();
+        try {
+            LocalDateTime start = LocalDateTime.now();
+            // Rows are purged once expired, so the full table is roughly the live revocation set
+            List<RevokedToken> all = revokedTokenRepository.findRevokedSince(LocalDateTime.of(1970, 1, 1, 0, 0));
+            long now = System.currentTimeMillis();
+            for (RevokedToken revoked : all) {
+                long exp = toEpochMillis(revoked.getExpiresAt());
+                if (exp > now) {
+                    expiryByHash.put(revoked.getTokenHash(), exp);
+                }
+                advanceLastSeen(revoked.getRevokedAt());
+            }
+            if (lastSeen == null) {
+                lastSeen = start;
+            }
+            rebuildBloom();
+            warmed = true;
+            log.info("Revoked token index warmed with {} live entries ({} rows scanned)", expiryByHash.size(), all.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Pulls revocations written by any node since the last poll. */
+    @Scheduled(fixedDelayString = "${jwt.revocation-poll-ms:5000}")
+    public void pollRecentRevocations() {
+        writeLock.lock();
+        try {
+            if (!warmed) {
+                return;
+            }
+            for (RevokedToken revoked : revokedTokenRepository.findRevokedSince(lastSeen.minusSeconds(POLL_OVERLAP_SECONDS))) {
+                add(revoked.getTokenHash(), toEpochMillis(revoked.getExpiresAt()));
+                advanceLastSeen(revoked.getRevokedAt());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Drops entries whose tokens have expired and re-sizes the Bloom filter, which cannot delete. */
+    @Scheduled(fixedDelayString = "${jwt.revocation-compact-ms:3600000}")
+    public void compact() {
+        writeLock.lock();
+        try {
+            if (!warmed) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            expiryByHash.values().removeIf(exp -> exp <= now);
+            rebuildBloom();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    int size() {
+        return expiryByHash.size();
+    }
+
+    // Writers are serialized so a concurrent rebuild can never drop a freshly added hash;
+    // revocations are rare compared to lookups, which stay lock-free.
+    private void add(String hash, long expiresAtMillis) {
+        writeLock.lock();
+        try {
+            if (expiresAtMillis <= System.currentTimeMillis()) {
+                return;
+            }
+            expiryByHash.put(hash, expiresAtMillis);
+            bloom.add(hash);
+            if (bloom.isSaturated(expiryByHash.size())) {
+                rebuildBloom();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void rebuildBloom() {
+        BloomFilter next = BloomFilter.forExpected(expiryByHash.size());
+        expiryByHash.keySet().forEach(next::add);
+        bloom = next;
+    }
+
+    private static long toEpochMillis(LocalDateTime expiresAt) {
+        return expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private void advanceLastSeen(LocalDateTime revokedAt) {
+        if (revokedAt != null && (lastSeen == null || revokedAt.isAfter(lastSeen))) {
+            lastSeen = revokedAt;
+        }
+    }
+
+    /**
+     * Minimal thread-safe Bloom filter over hex SHA-256 strings, using double hashing on two 64-bit
+     * slices of the digest. Sized for ~1% false positives at the expected element count.
+     */
+    static final class BloomFilter {
+        private static final int HASHES = 7;
+        private static final int BITS_PER_ELEMENT = 10;
+        private static final int MIN_BITS = 1 << 12;
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final long capacity;
+
+        private BloomFilter(long bitCount, long capacity) {
+            this.bitCount = bitCount;
+            this.capacity = capacity;
+            this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        }
+
+        static BloomFilter forExpected(long expected) {
+            // Leave 2x headroom so revocations between compactions don't degrade the filter
+            long capacity = Math.max(expected * 2, MIN_BITS / BITS_PER_ELEMENT);
+            return new BloomFilter(capacity * BITS_PER_ELEMENT, capacity);
+        }
+
+        void add(String hexHash) {
+            long h1 = Long.parseUnsignedLong(hexHash, 0, 16, 16);
+            long h2 = Long.parseUnsignedLong(hexHash, 16, 32, 16);
+            for (int i = 0; i < HASHES; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << (bit & 63);
+                long prev;
+                do {
+                    prev = words.get(word);
+                    if ((prev & mask) != 0) break;
+                } while (!words.compareAndSet(word, prev, prev | mask));
+            }
+        }
+
+        boolean mightContain(String hexHash) {
+            long h1 = Long.parseUnsignedLong(hexHash, 0, 16, 16);
+            long h2 = Long.parseUnsignedLong(hexHash, 16, 32, 16);
+            for (int i = 0; i < HASHES; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean isSaturated(long elements) {
+            return elements > capacity;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.domain.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deletes revocation rows whose tokens have expired: an expired token is rejected on its {@code exp}
+ * alone, so keeping the row only grows the table and the startup warm-up of {@link RevokedTokenIndex}.
+ *
+ * <p>Rows are removed in bounded batches, each in its own short transaction, so a large backlog never
+ * turns into one long-running DELETE. Exposes {@code pomodify.revoked_tokens.purged} (rows deleted)
+ * and {@code pomodify.revoked_tokens.rows} (table size after the last run).
+ */
+@Service
+@Slf4j
+public class RevokedTokenPurgeJob {
+
+    /** Keep rows a little past expiry so nodes with a lagging clock still see the revocation. */
+    private static final Duration EXPIRY_GRACE = Duration.ofMinutes(5);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Counter purgedCounter;
+    private final AtomicLong tableRows = new AtomicLong();
+
+    @Value("${jwt.revocation-purge-batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${jwt.revocation-purge-max-batches:50}")
+    private int maxBatchesPerRun = 50;
+
+    public RevokedTokenPurgeJob(RevokedTokenRepository revokedTokenRepository, MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.purgedCounter = Counter.builder("pomodify.revoked_tokens.purged")
+                .description("Expired revoked-token rows deleted")
+                .register(meterRegistry);
+        Gauge.builder("pomodify.revoked_tokens.rows", tableRows, AtomicLong::get)
+                .description("Rows in revoked_tokens after the last purge run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs at most {@code maxBatchesPerRun} batches; anything left over is picked up by the next run.
+     *
+     * @return number of rows deleted
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation-purge-interval-ms:3600000}")
+    public long purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(EXPIRY_GRACE);
+        long purged = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int deleted = revokedTokenRepository.deleteExpiredBefore(cutoff, batchSize);
+            purged += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        purgedCounter.increment(purged);
+        tableRows.set(revokedTokenRepository.count());
+        if (purged > 0) {
+            log.info("Purged {} expired revoked tokens, {} rows remain", purged, tableRows.get());
+        }
+        return purged;
+    }
+}
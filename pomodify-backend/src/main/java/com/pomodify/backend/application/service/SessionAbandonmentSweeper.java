@@ -0,0 +1,54 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.domain.model.PomodoroSession;
+import com.pomodify.backend.domain.repository.PomodoroSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Background job that persists the ABANDONED status of sessions left untouched for
+ * {@link PomodoroSession#ABANDON_AFTER}. Read endpoints already report such sessions as
+ * abandoned through {@link PomodoroSession#getEffectiveStatus}, so this only needs to catch up
+ * periodically and keeps the GET paths free of writes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SessionAbandonmentSweeper {
+
+    private final PomodoroSessionRepository sessionRepository;
+    private final FocusStatsService focusStatsService;
+    private final UserCacheGenerations userCacheGenerations;
+
+    @Value("${app.sessions.abandon-sweep-batch-size:500}")
+    private int batchSize = 500;
+
+    /**
+     * Flips one batch of expired sessions per run; a backlog drains over consecutive runs.
+     */
+    @Scheduled(fixedDelayString = "${app.sessions.abandon-sweep-interval-ms:60000}")
+    @Transactional
+    public void sweepExpiredSessions() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(PomodoroSession.ABANDON_AFTER);
+        List<PomodoroSessionRepository.AbandonedByActivity> abandoned = sessionRepository.abandonExpiredSessions(cutoff, batchSize);
+        if (abandoned.isEmpty()) {
+            return;
+        }
+
+        long total = 0;
+        for (PomodoroSessionRepository.AbandonedByActivity a : abandoned) {
+            focusStatsService.recordSessionsAbandoned(a.userId(), a.activityId(), (int) a.sessions());
+            // Activity listings embed completion rates, which just changed
+            userCacheGenerations.invalidate(a.userId());
+            total += a.sessions();
+        }
+        log.info("Marked {} expired sessions as ABANDONED", total);
+    }
+}
@@ -14,12 +14,12 @@ import com.pomodify.backend.domain.model.SessionNote;
 import com.pomodify.backend.domain.model.SessionTodoItem;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,13 +31,17 @@ public class SessionService {
     private final PomodoroSessionRepository sessionRepository;
     private final DomainHelper domainHelper;
     private final UserHelper userHelper;
-    private final PushNotificationService pushNotificationService;
+    private final NotificationOutboxService notificationOutboxService;
     private final com.pomodify.backend.application.service.BadgeService badgeService;
+    private final FocusStatsService focusStatsService;
+    private final UserCacheGenerations userCacheGenerations;
+    private final PhaseTimerRegistry phaseTimerRegistry;
+    private final UserEventPublisher userEventPublisher;
 
     /* -------------------- CREATE -------------------- */
     @Transactional
-    @CacheEvict(value = "activities", allEntries = true)
     public SessionResult create(CreateSessionCommand command) {
+        userCacheGenerations.invalidate(command.user());
         userHelper.getUserOrThrow(command.user()); // ensure user exists
         Activity activity = domainHelper.getActivityOrThrow(command.activityId(), command.user());
 
@@ -90,15 +94,15 @@ public class SessionService {
     }
 
     /* -------------------- GET -------------------- */
+    // Read paths never write: expired sessions are reported as ABANDONED via the effective
+    // status and persisted later by SessionAbandonmentSweeper.
     @Transactional(readOnly = true)
     public SessionResult get(GetSessionCommand command) {
         PomodoroSession session = domainHelper.getSessionOrThrow(command.sessionId(), command.user());
-        session.evaluateAbandonedIfExpired();
-        sessionRepository.save(session);
         return toResult(session);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<SessionResult> getAll(GetSessionsCommand command) {
         List<PomodoroSession> sessions;
         Boolean fetchDeleted = command.deleted();
@@ -120,16 +124,17 @@ public class SessionService {
                     .collect(Collectors.toList());
         }
 
-        sessions.forEach(PomodoroSession::evaluateAbandonedIfExpired);
-        sessions = sessions.stream().map(sessionRepository::save).toList();
-
+        LocalDateTime now = LocalDateTime.now();
         if (command.status() != null) {
             sessions = sessions.stream()
-                    .filter(s -> s.getStatus() != null && s.getStatus().name().equalsIgnoreCase(command.status()))
+                    .filter(s -> {
+                        SessionStatus effective = s.getEffectiveStatus(now);
+                        return effective != null && effective.name().equalsIgnoreCase(command.status());
+                    })
                     .collect(Collectors.toList());
         }
 
-        return sessions.stream().map(this::toResult).toList();
+        return sessions.stream().map(s -> toResult(s, now)).toList();
     }
 
     /* -------------------- LIFECYCLE -------------------- */
@@ -139,6 +144,8 @@ public class SessionService {
         Activity activity = domainHelper.getActivityOrThrow(session.getActivity().getId(), command.user());
         activity.startSession(command.sessionId());
         PomodoroSession saved = sessionRepository.save(session);
+        phaseTimerRegistry.sync(saved);
+        userEventPublisher.phaseChanged(saved);
         return toResult(saved);
     }
 
@@ -148,6 +155,8 @@ public class SessionService {
         Activity activity = domainHelper.getActivityOrThrow(session.getActivity().getId(), command.user());
         activity.pauseSession(command.sessionId(), command.note());
         PomodoroSession saved = sessionRepository.save(session);
+        phaseTimerRegistry.sync(saved);
+        userEventPublisher.phaseChanged(saved);
         return toResult(saved);
     }
 
@@ -157,32 +166,45 @@ public class SessionService {
         Activity activity = domainHelper.getActivityOrThrow(session.getActivity().getId(), command.user());
         activity.resumeSession(command.sessionId());
         PomodoroSession saved = sessionRepository.save(session);
+        phaseTimerRegistry.sync(saved);
+        userEventPublisher.phaseChanged(saved);
         return toResult(saved);
     }
 
     @Transactional
-    @CacheEvict(value = "activities", allEntries = true)
     public SessionResult stop(StopSessionCommand command) {
+        userCacheGenerations.invalidate(command.user());
         PomodoroSession session = domainHelper.getSessionOrThrow(command.sessionId(), command.user());
         Activity activity = domainHelper.getActivityOrThrow(session.getActivity().getId(), command.user());
+        boolean alreadyAbandoned = session.getStatus() == SessionStatus.ABANDONED;
         session.stopSession();
         PomodoroSession saved = sessionRepository.save(session);
+        if (!alreadyAbandoned) {
+            focusStatsService.recordSessionAbandoned(saved);
+        }
+        phaseTimerRegistry.sync(saved);
+        userEventPublisher.phaseChanged(saved);
         return toResult(saved);
     }
 
     @Transactional
-    @CacheEvict(value = "activities", allEntries = true)
     public SessionResult completeEarly(CompleteEarlyCommand command) {
+        userCacheGenerations.invalidate(command.user());
         PomodoroSession session = domainHelper.getSessionOrThrow(command.sessionId(), command.user());
         Activity activity = domainHelper.getActivityOrThrow(session.getActivity().getId(), command.user());
         activity.completeEarly(command.sessionId());
         PomodoroSession saved = sessionRepository.save(session);
+        if (saved.getStatus() == SessionStatus.COMPLETED) {
+            focusStatsService.recordSessionCompleted(saved);
+        }
+        phaseTimerRegistry.sync(saved);
+        userEventPublisher.phaseChanged(saved);
         return toResult(saved);
     }
 
     @Transactional
-    @CacheEvict(value = "activities", allEntries = true)
     public SessionResult completePhase(CompletePhaseCommand command) {
+        userCacheGenerations.invalidate(command.user());
         PomodoroSession session = domainHelper.getSessionOrThrow(command.sessionId(), command.user());
         Activity activity = domainHelper.getActivityOrThrow(session.getActivity().getId(), command.user());
         activity.completePhase(command.sessionId(), command.note());
@@ -203,24 +225,19 @@ public class SessionService {
             body = "Break is done. Time to get back to work!";
         }
         
-        try {
-            pushNotificationService.sendNotificationToUser(command.user(), title, body);
-        } catch (IllegalStateException e) {
-            // Notifications disabled - ignore
-        }
+        notificationOutboxService.enqueue(command.user(), title, body);
         
         // If session just became COMPLETED (classic), send completion push
         if (saved.getStatus() != null && saved.getStatus().name().equalsIgnoreCase("COMPLETED")) {
+            focusStatsService.recordSessionCompleted(saved);
             int completed = saved.getCyclesCompleted() != null ? saved.getCyclesCompleted() : 0;
-            try {
-                pushNotificationService.sendNotificationToUser(command.user(), "🎉 Session Complete!", "You finished " + completed + " focus cycle(s). Great work!");
-            } catch (IllegalStateException e) {
-                // Notifications disabled - ignore
-            }
+            notificationOutboxService.enqueue(command.user(), "🎉 Session Complete!", "You finished " + completed + " focus cycle(s). Great work!");
             // Award badges if user reached new streaks
             // Award badges if eligible (BadgeService computes current streak internally)
             badgeService.awardBadgesIfEligible(command.user());
         }
+        phaseTimerRegistry.sync(saved);
+        userEventPublisher.phaseChanged(saved);
         return toResult(saved);
     }
 
@@ -230,6 +247,8 @@ public class SessionService {
         Activity activity = domainHelper.getActivityOrThrow(session.getActivity().getId(), command.user());
         session.skipPhase();
         PomodoroSession saved = sessionRepository.save(session);
+        phaseTimerRegistry.sync(saved);
+        userEventPublisher.phaseChanged(saved);
         return toResult(saved);
     }
 
@@ -239,12 +258,14 @@ public class SessionService {
         session.resetSession();
         PomodoroSession saved = sessionRepository.save(session);
         log.info("Reset session {} to NOT_STARTED", saved.getId());
+        phaseTimerRegistry.sync(saved);
+        userEventPublisher.phaseChanged(saved);
         return toResult(saved);
     }
 
         @Transactional
-        @CacheEvict(value = "activities", allEntries = true)
         public SessionResult updateSession(UpdateSessionCommand command) {
+        userCacheGenerations.invalidate(command.user());
         PomodoroSession session = domainHelper.getSessionOrThrow(command.sessionId(), command.user());
         Activity activity = domainHelper.getActivityOrThrow(session.getActivity().getId(), command.user());
 
@@ -398,12 +419,16 @@ public class SessionService {
     public void delete(DeleteSessionCommand command) {
         PomodoroSession session = domainHelper.getSessionOrThrow(command.sessionId(), command.user());
         session.delete();
-        sessionRepository.save(session);
+        phaseTimerRegistry.sync(sessionRepository.save(session));
         log.info("Soft deleted session {} by setting isDeleted=true", command.sessionId());
     }
 
     /* -------------------- MAPPER -------------------- */
     private SessionResult toResult(PomodoroSession s) {
+        return toResult(s, LocalDateTime.now());
+    }
+
+    private SessionResult toResult(PomodoroSession s, LocalDateTime now) {
         int cycles;
         int totalMinutes;
 
@@ -431,7 +456,7 @@ public class SessionService {
                 .id(s.getId())
                 .activityId(s.getActivity() != null ? s.getActivity().getId() : null)
                 .sessionType(s.getSessionType() != null ? s.getSessionType().name() : null)
-                .status(s.getStatus() != null ? s.getStatus().name() : SessionStatus.NOT_STARTED.name())
+                .status(s.getEffectiveStatus(now) != null ? s.getEffectiveStatus(now).name() : SessionStatus.NOT_STARTED.name())
                 .currentPhase(s.getCurrentPhase() != null ? s.getCurrentPhase().name() : null)
                 .focusTimeInMinutes((int) s.getFocusDuration().toMinutes())
                 .breakTimeInMinutes((int) s.getBreakDuration().toMinutes())
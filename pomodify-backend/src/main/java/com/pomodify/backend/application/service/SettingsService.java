@@ -47,9 +47,8 @@ public class SettingsService {
 
 
         UserSettings saved = settingsRepository.save(settings);
-        if (request.notificationsEnabled() != null && prevNotifications != saved.isNotificationsEnabled()) {
-            eventPublisher.publishEvent(new UserSettingsChangedEvent(this, userId, saved.isNotificationsEnabled()));
-        }
+        boolean toggled = request.notificationsEnabled() != null && prevNotifications != saved.isNotificationsEnabled();
+        eventPublisher.publishEvent(new UserSettingsChangedEvent(this, userId, saved.isNotificationsEnabled(), toggled));
         return mapToDto(saved);
     }
 
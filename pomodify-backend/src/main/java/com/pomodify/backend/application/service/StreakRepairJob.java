@@ -0,0 +1,63 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.domain.repository.FocusDailyStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Recomputes every {@code user_streak} row, focus calendar included, from the focus rollup. The
+ * incremental update on completion cannot see activities deleted afterwards; this job corrects
+ * any such drift. Users are processed in id-ordered pages, each in its own transaction, so a run
+ * never holds locks on the whole table. Idempotent, so it is safe to run on every node.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StreakRepairJob {
+
+    private final FocusDailyStatRepository focusStatRepository;
+    private final FocusStatsService focusStatsService;
+
+    @Value("${app.streaks.repair-batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.streaks.repair-on-startup:false}")
+    private boolean repairOnStartup;
+
+    /** Optional full recompute right after startup instead of waiting for the nightly run. */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        if (repairOnStartup) {
+            repair();
+        }
+    }
+
+    @Scheduled(cron = "${app.streaks.repair-cron:0 30 3 * * *}")
+    public int repair() {
+        long started = System.currentTimeMillis();
+        int users = 0;
+        long after = 0L;
+        List<Long> page;
+        do {
+            page = focusStatRepository.findFocusedUserIdsAfter(after, batchSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            users += focusStatsService.rebuildStreaks(page);
+            after = page.get(page.size() - 1);
+        } while (page.size() == batchSize);
+        int purged = focusStatsService.purgeStaleStreaks();
+        log.info("Streak repair recomputed {} users, removed {} stale rows in {} ms",
+                users, purged, System.currentTimeMillis() - started);
+        return users;
+    }
+}
@@ -21,7 +21,6 @@ public class SummaryService {
 
     @Transactional(readOnly = true)
     public SummaryResult getSummary(SummaryCommand cmd) {
-        ZoneId zone = cmd.zoneId();
         Long userId = cmd.userId();
 
         LocalDate start = cmd.startDate();
@@ -29,25 +28,28 @@ public class SummaryService {
         LocalDateTime startDt = start.atStartOfDay();
         LocalDateTime endDt = end.plusDays(1).atStartOfDay().minusNanos(1);
 
-        // Also include non-completed statuses for completionRate and recent list
-        // For now, fetch all and filter by range to include various statuses
-        List<PomodoroSession> allInRange = sessionRepository.findByUserId(userId).stream()
-                .filter(s -> s.getCompletedAt() != null)
-                .filter(s -> !s.isDeleted())
-                .filter(s -> !s.getCompletedAt().isBefore(startDt) && !s.getCompletedAt().isAfter(endDt))
-                .collect(Collectors.toList());
-
         // Last month abandoned sessions (based on calendar last month relative to current period end)
         LocalDate lastMonthStart = end.minusMonths(1).withDayOfMonth(1);
         LocalDate lastMonthEnd = end.minusMonths(1).withDayOfMonth(end.minusMonths(1).lengthOfMonth());
-        LocalDateTime lastMonthStartDt = lastMonthStart.atStartOfDay();
-        LocalDateTime lastMonthEndDt = lastMonthEnd.plusDays(1).atStartOfDay().minusNanos(1);
-        int lastMonthAbandoned = (int) sessionRepository.findByUserId(userId).stream()
-            .filter(s -> s.getCompletedAt() != null)
-            .filter(s -> !s.isDeleted())
-            .filter(s -> !s.getCompletedAt().isBefore(lastMonthStartDt) && !s.getCompletedAt().isAfter(lastMonthEndDt))
-            .filter(s -> s.getStatus() == SessionStatus.ABANDONED)
-            .count();
+
+        // Previous period of the same length, for trends
+        long days = end.toEpochDay() - start.toEpochDay() + 1;
+        LocalDate prevEnd = start.minusDays(1);
+        LocalDate prevStart = prevEnd.minusDays(days - 1);
+
+        // One grouped query covers the current period, the previous period and last month;
+        // rows are bucketed per day in the database, so this is O(days), not O(sessions).
+        LocalDate fetchStart = prevStart.isBefore(lastMonthStart) ? prevStart : lastMonthStart;
+        LocalDate fetchEnd = end.isAfter(lastMonthEnd) ? end : lastMonthEnd;
+        List<PomodoroSessionRepository.DailySessionAggregate> buckets = sessionRepository.aggregateDailyByUserIdBetween(
+                userId, fetchStart.atStartOfDay(), fetchEnd.plusDays(1).atStartOfDay().minusNanos(1));
+
+        List<PomodoroSessionRepository.DailySessionAggregate> allInRange = within(buckets, start, end);
+        List<PomodoroSessionRepository.DailySessionAggregate> allPrevious = within(buckets, prevStart, prevEnd);
+        int lastMonthAbandoned = (int) within(buckets, lastMonthStart, lastMonthEnd).stream()
+            .filter(b -> b.status() == SessionStatus.ABANDONED)
+            .mapToLong(PomodoroSessionRepository.DailySessionAggregate::sessions)
+            .sum();
 
         // Current-period metrics
         long totalFocusSeconds = sumFocusSeconds(allInRange);
@@ -55,10 +57,8 @@ public class SummaryService {
         double totalFocusedHours = round1(totalFocusSeconds / 3600.0);
         double totalBreakHours = round1(totalBreakSeconds / 3600.0);
 
-        long totalSessions = allInRange.size();
-        long completedOrFinished = allInRange.stream()
-            .filter(s -> s.getStatus() == SessionStatus.COMPLETED)
-            .count();
+        long totalSessions = countSessions(allInRange);
+        long completedOrFinished = countCompleted(allInRange);
         int completionRate = totalSessions == 0
             ? 0
             : (int) Math.round((completedOrFinished * 100.0) / totalSessions);
@@ -68,7 +68,7 @@ public class SummaryService {
             : (int) Math.round((totalFocusSeconds / 60.0) / totalSessions);
 
         // Chart data
-        SummaryResult.ChartData chartData = buildChartData(cmd.range(), start, end, allInRange, zone);
+        SummaryResult.ChartData chartData = buildChartData(cmd.range(), start, end, allInRange);
 
         // Recent sessions (limit 10)
         List<PomodoroSession> recent = sessionRepository.findRecentCompletedByUserId(userId, 10);
@@ -91,13 +91,9 @@ public class SummaryService {
         // Top activities (by focus minutes, desc, top 10)
         Map<String, Integer> totals = new HashMap<>();
         Map<String, Integer> counts = new HashMap<>();
-        for (PomodoroSession s : allInRange) {
-            String name = s.getActivity().getTitle();
-            int minutes = (int) (Optional.ofNullable(s.getFocusDuration())
-                    .map(Duration::toMinutes)
-                    .orElse(0L) * s.getCyclesCompleted());
-            totals.merge(name, minutes, Integer::sum);
-            counts.merge(name, 1, Integer::sum);
+        for (PomodoroSessionRepository.ActivitySessionAggregate a : sessionRepository.aggregateByActivityTitleBetween(userId, startDt, endDt)) {
+            totals.merge(a.title(), (int) a.focusMinutes(), Integer::sum);
+            counts.merge(a.title(), (int) a.sessions(), Integer::sum);
         }
         List<SummaryResult.TopActivity> topActivities = new ArrayList<>(totals.entrySet().stream()
                 .sorted((a, b) -> Integer.compare(b.getValue(), a.getValue()))
@@ -121,24 +117,10 @@ public class SummaryService {
         }
 
         // Previous period metrics for trends
-        long days = end.toEpochDay() - start.toEpochDay() + 1;
-        LocalDate prevEnd = start.minusDays(1);
-        LocalDate prevStart = prevEnd.minusDays(days - 1);
-        LocalDateTime prevStartDt = prevStart.atStartOfDay();
-        LocalDateTime prevEndDt = prevEnd.plusDays(1).atStartOfDay().minusNanos(1);
-
-        List<PomodoroSession> allPrevious = sessionRepository.findByUserId(userId).stream()
-            .filter(s -> s.getCompletedAt() != null)
-            .filter(s -> !s.isDeleted())
-            .filter(s -> !s.getCompletedAt().isBefore(prevStartDt) && !s.getCompletedAt().isAfter(prevEndDt))
-            .toList();
-
         long prevFocusSeconds = sumFocusSeconds(allPrevious);
         double prevFocusHours = round1(prevFocusSeconds / 3600.0);
-        long prevTotalSessions = allPrevious.size();
-        long prevCompleted = allPrevious.stream()
-            .filter(s -> s.getStatus() == SessionStatus.COMPLETED)
-            .count();
+        long prevTotalSessions = countSessions(allPrevious);
+        long prevCompleted = countCompleted(allPrevious);
         int prevCompletionRate = prevTotalSessions == 0
             ? 0
             : (int) Math.round((prevCompleted * 100.0) / prevTotalSessions);
@@ -178,35 +160,44 @@ public class SummaryService {
         );
     }
 
-    private SummaryResult.ChartData buildChartData(SummaryCommand.Range range, LocalDate start, LocalDate end, List<PomodoroSession> sessions, ZoneId zone) {
+    private SummaryResult.ChartData buildChartData(SummaryCommand.Range range, LocalDate start, LocalDate end,
+                                                   List<PomodoroSessionRepository.DailySessionAggregate> buckets) {
         List<String> labels = new ArrayList<>();
         List<Double> focus = new ArrayList<>();
         List<Double> breaks = new ArrayList<>();
 
-        if (range == SummaryCommand.Range.WEEKLY) {
-            LocalDate cursor = start;
-            while (!cursor.isAfter(end)) {
-                labels.add(cursor.getDayOfWeek().name().charAt(0)
-                        + cursor.getDayOfWeek().name().substring(1,3).toLowerCase()); // Mon, Tue
-                cursor = getLocalDate(sessions, zone, focus, breaks, cursor);
-            }
-        } else if (range == SummaryCommand.Range.MONTHLY) {
-            LocalDate cursor = start;
-            while (!cursor.isAfter(end)) {
-                labels.add(String.valueOf(cursor.getDayOfMonth()));
-                cursor = getLocalDate(sessions, zone, focus, breaks, cursor);
+        if (range == SummaryCommand.Range.YEARLY) {
+            Map<Month, long[]> byMonth = new EnumMap<>(Month.class);
+            for (PomodoroSessionRepository.DailySessionAggregate b : buckets) {
+                long[] acc = byMonth.computeIfAbsent(b.day().getMonth(), m -> new long[2]);
+                acc[0] += b.focusSeconds();
+                acc[1] += b.breakSeconds();
             }
-        } else { // YEARLY
             for (Month m : Month.values()) {
                 labels.add(m.name().charAt(0) + m.name().substring(1,3).toLowerCase());
-                long focusSeconds = sessions.stream().filter(s
-                                -> toLocalDate(s.getCompletedAt(), zone).getMonth() == m)
-                        .mapToLong(this::focusSecondsOf).sum();
-                long breakSeconds = sessions.stream().filter(s
-                                -> toLocalDate(s.getCompletedAt(), zone).getMonth() == m)
-                        .mapToLong(this::breakSecondsOf).sum();
-                focus.add(round1(focusSeconds / 3600.0));
-                breaks.add(round1(breakSeconds / 3600.0));
+                long[] acc = byMonth.getOrDefault(m, new long[2]);
+                focus.add(round1(acc[0] / 3600.0));
+                breaks.add(round1(acc[1] / 3600.0));
+            }
+        } else {
+            Map<LocalDate, long[]> byDay = new HashMap<>();
+            for (PomodoroSessionRepository.DailySessionAggregate b : buckets) {
+                long[] acc = byDay.computeIfAbsent(b.day(), d -> new long[2]);
+                acc[0] += b.focusSeconds();
+                acc[1] += b.breakSeconds();
+            }
+            LocalDate cursor = start;
+            while (!cursor.isAfter(end)) {
+                if (range == SummaryCommand.Range.WEEKLY) {
+                    labels.add(cursor.getDayOfWeek().name().charAt(0)
+                            + cursor.getDayOfWeek().name().substring(1,3).toLowerCase()); // Mon, Tue
+                } else {
+                    labels.add(String.valueOf(cursor.getDayOfMonth()));
+                }
+                long[] acc = byDay.getOrDefault(cursor, new long[2]);
+                focus.add(round1(acc[0] / 3600.0));
+                breaks.add(round1(acc[1] / 3600.0));
+                cursor = cursor.plusDays(1);
             }
         }
 
@@ -216,40 +207,30 @@ public class SummaryService {
         );
     }
 
-    private LocalDate getLocalDate(List<PomodoroSession> sessions, ZoneId zone, List<Double> focus, List<Double> breaks, LocalDate cursor) {
-        final LocalDate day = cursor;
-        long focusSeconds = sessions.stream().filter(s
-                        -> toLocalDate(s.getCompletedAt(), zone).equals(day))
-                .mapToLong(this::focusSecondsOf).sum();
-        long breakSeconds = sessions.stream().filter(s
-                        -> toLocalDate(s.getCompletedAt(), zone).equals(day))
-                .mapToLong(this::breakSecondsOf).sum();
-        focus.add(round1(focusSeconds / 3600.0));
-        breaks.add(round1(breakSeconds / 3600.0));
-        cursor = cursor.plusDays(1);
-        return cursor;
-    }
-
-    private LocalDate toLocalDate(LocalDateTime dt, ZoneId zone) {
-        return dt.atZone(zone).toLocalDate();
+    private List<PomodoroSessionRepository.DailySessionAggregate> within(
+            List<PomodoroSessionRepository.DailySessionAggregate> buckets, LocalDate from, LocalDate to) {
+        return buckets.stream()
+                .filter(b -> !b.day().isBefore(from) && !b.day().isAfter(to))
+                .toList();
     }
 
-    private long sumFocusSeconds(List<PomodoroSession> sessions) {
-        return sessions.stream().mapToLong(this::focusSecondsOf).sum();
+    private long sumFocusSeconds(List<PomodoroSessionRepository.DailySessionAggregate> buckets) {
+        return buckets.stream().mapToLong(PomodoroSessionRepository.DailySessionAggregate::focusSeconds).sum();
     }
 
-    private long sumBreakSeconds(List<PomodoroSession> sessions) {
-        return sessions.stream().mapToLong(this::breakSecondsOf).sum();
+    private long sumBreakSeconds(List<PomodoroSessionRepository.DailySessionAggregate> buckets) {
+        return buckets.stream().mapToLong(PomodoroSessionRepository.DailySessionAggregate::breakSeconds).sum();
     }
 
-    private long focusSecondsOf(PomodoroSession s) {
-        long focusPerCycle = s.getFocusDuration() != null ? s.getFocusDuration().getSeconds() : 0L;
-        return (long) s.getCyclesCompleted() * focusPerCycle;
+    private long countSessions(List<PomodoroSessionRepository.DailySessionAggregate> buckets) {
+        return buckets.stream().mapToLong(PomodoroSessionRepository.DailySessionAggregate::sessions).sum();
     }
 
-    private long breakSecondsOf(PomodoroSession s) {
-        long breakPerCycle = s.getBreakDuration() != null ? s.getBreakDuration().getSeconds() : 0L;
-        return (long) s.getCyclesCompleted() * breakPerCycle;
+    private long countCompleted(List<PomodoroSessionRepository.DailySessionAggregate> buckets) {
+        return buckets.stream()
+                .filter(b -> b.status() == SessionStatus.COMPLETED)
+                .mapToLong(PomodoroSessionRepository.DailySessionAggregate::sessions)
+                .sum();
     }
 
     private double round1(double v) { return Math.round(v * 10.0) / 10.0; }
@@ -0,0 +1,60 @@
+package com.pomodify.backend.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user generation counters for the {@code activities}, {@code activity} and {@code categories}
+ * caches. Each cache key includes {@code @userCacheGenerations.of(userId)}; invalidating a user bumps
+ * their generation so all of their entries become unreachable at once, while other users' entries
+ * stay warm. Orphaned entries age out through the caches' own size and TTL bounds.
+ *
+ * <p>Counters of idle users are dropped after {@link #IDLE_EXPIRY}. That must exceed the TTL of every
+ * cache keyed by a generation: an entry is only written while its generation is being read, so by the
+ * time a counter expires (and restarts from 0) every entry cached under it has expired as well.
+ */
+@Component("userCacheGenerations")
+public class UserCacheGenerations {
+
+    static final Duration IDLE_EXPIRY = Duration.ofHours(1);
+
+    private final Cache<Long, AtomicLong> generations = Caffeine.newBuilder()
+            .expireAfterAccess(IDLE_EXPIRY)
+            .build();
+
+    public long of(Long userId) {
+        AtomicLong generation = generations.getIfPresent(userId);
+        return generation != null ? generation.get() : 0L;
+    }
+
+    /**
+     * Invalidates the user's cached activity and category data. Inside a transaction the bump is
+     * deferred until after commit, so a concurrent read cannot re-cache the pre-commit state under
+     * the new generation.
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(userId);
+                }
+            });
+        } else {
+            bump(userId);
+        }
+    }
+
+    private void bump(Long userId) {
+        generations.get(userId, id -> new AtomicLong()).incrementAndGet();
+    }
+}
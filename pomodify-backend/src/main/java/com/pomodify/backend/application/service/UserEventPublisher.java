@@ -0,0 +1,110 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.application.event.UserSettingsChangedEvent;
+import com.pomodify.backend.application.port.out.UserEventBus;
+import com.pomodify.backend.application.port.out.UserEventBus.UserEvent;
+import com.pomodify.backend.domain.enums.SessionStatus;
+import com.pomodify.backend.domain.model.PomodoroSession;
+import com.pomodify.backend.domain.model.UserBadge;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes user-visible changes to {@link UserEventBus} so connected clients on any node see them.
+ * Inside a transaction the event is sent after commit; a rollback sends nothing.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserEventPublisher {
+
+    public static final String PHASE_CHANGE = "phase-change";
+    public static final String SESSION_COMPLETED = "session-completed";
+    public static final String BADGE_AWARDED = "badge-awarded";
+    public static final String SETTINGS_CHANGED = "settings-changed";
+    public static final String PUSH_TOKEN_CHANGED = "push-token-changed";
+    public static final String PROFILE_PICTURE_UPDATED = "profile-picture-updated";
+    public static final String PROFILE_PICTURE_FAILED = "profile-picture-failed";
+
+    private final UserEventBus userEventBus;
+    private final AtomicLong lastEventId = new AtomicLong();
+
+    public void phaseChanged(PomodoroSession session) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("sessionId", session.getId());
+        data.put("currentPhase", session.getCurrentPhase() != null ? session.getCurrentPhase().name() : null);
+        data.put("cyclesCompleted", session.getCyclesCompleted());
+        data.put("totalCycles", session.getTotalCycles());
+        data.put("status", session.getStatus() != null ? session.getStatus().name() : null);
+        data.put("timestamp", LocalDateTime.now().toString());
+        Long userId = session.getActivity() != null && session.getActivity().getUser() != null
+                ? session.getActivity().getUser().getId()
+                : null;
+        publishAfterCommit(PHASE_CHANGE, userId, session.getId(), data);
+        if (session.getStatus() == SessionStatus.COMPLETED) {
+            publishAfterCommit(SESSION_COMPLETED, userId, session.getId(), data);
+        }
+    }
+
+    public void badgeAwarded(UserBadge badge) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", badge.getName());
+        data.put("milestoneDays", badge.getMilestoneDays());
+        data.put("dateAwarded", badge.getDateAwarded() != null ? badge.getDateAwarded().toString() : null);
+        publishAfterCommit(BADGE_AWARDED, badge.getUserId(), null, data);
+    }
+
+    /** Tells the user's other tabs and devices to reload settings. */
+    @EventListener
+    public void onSettingsChanged(UserSettingsChangedEvent event) {
+        publishAfterCommit(SETTINGS_CHANGED, event.getUserId(), null,
+                Map.of("notificationsEnabled", event.isNotificationsEnabled()));
+    }
+
+    /** Tells every node to drop its cached push profile after a token was registered, removed or toggled. */
+    public void pushTokenChanged(Long userId) {
+        publishAfterCommit(PUSH_TOKEN_CHANGED, userId, null, Map.of());
+    }
+
+    /** Tells clients that a processed upload is now the user's profile picture. */
+    public void profilePictureUpdated(Long userId, String profilePictureUrl, String profilePictureThumbUrl) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("profilePictureUrl", profilePictureUrl);
+        data.put("profilePictureThumbUrl", profilePictureThumbUrl);
+        publishAfterCommit(PROFILE_PICTURE_UPDATED, userId, null, data);
+    }
+
+    /** Tells clients that a background upload could not be turned into a profile picture. */
+    public void profilePictureFailed(Long userId, String reason) {
+        publishAfterCommit(PROFILE_PICTURE_FAILED, userId, null, Map.of("reason", reason != null ? reason : "Processing failed"));
+    }
+
+    /**
+     * Event ids are microseconds since the epoch, bumped when two events land in the same
+     * microsecond, so they increase on each node and stay roughly ordered across nodes.
+     */
+    long nextEventId() {
+        long now = System.currentTimeMillis() * 1000;
+        return lastEventId.updateAndGet(last -> Math.max(last + 1, now));
+    }
+
+    private void publishAfterCommit(String type, Long userId, Long sessionId, Map<String, Object> data) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userEventBus.publish(new UserEvent(nextEventId(), type, userId, sessionId, data));
+                }
+            });
+        } else {
+            userEventBus.publish(new UserEvent(nextEventId(), type, userId, sessionId, data));
+        }
+    }
+}
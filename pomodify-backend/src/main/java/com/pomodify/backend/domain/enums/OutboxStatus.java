@@ -0,0 +1,8 @@
+package com.pomodify.backend.domain.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    SKIPPED,
+    DEAD
+}
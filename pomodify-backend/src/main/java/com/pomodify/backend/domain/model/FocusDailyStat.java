@@ -0,0 +1,57 @@
+package com.pomodify.backend.domain.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Per-user, per-day, per-activity rollup of finished pomodoro sessions.
+ * Maintained incrementally whenever a session reaches COMPLETED or ABANDONED so that
+ * dashboard and streak reads scale with the number of active days instead of the
+ * number of sessions ever recorded.
+ */
+@Entity
+@Table(name = "focus_daily_stat",
+        uniqueConstraints = {@UniqueConstraint(name = "unique_focus_daily_stat", columnNames = {"user_id", "stat_date", "activity_id"})},
+        indexes = {@Index(name = "idx_focus_daily_stat_user_date", columnList = "user_id, stat_date")})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FocusDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "activity_id", nullable = false)
+    private Long activityId;
+
+    @Column(name = "focus_seconds", nullable = false)
+    @Builder.Default
+    private Long focusSeconds = 0L;
+
+    @Column(name = "break_seconds", nullable = false)
+    @Builder.Default
+    private Long breakSeconds = 0L;
+
+    @Column(name = "completed_sessions", nullable = false)
+    @Builder.Default
+    private Integer completedSessions = 0;
+
+    @Column(name = "abandoned_sessions", nullable = false)
+    @Builder.Default
+    private Integer abandonedSessions = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
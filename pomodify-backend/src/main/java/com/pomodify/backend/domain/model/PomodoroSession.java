@@ -119,14 +119,29 @@ public class PomodoroSession {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-    public void evaluateAbandonedIfExpired() {
-        if (this.isDeleted || this.status == null) return;
-        if (this.status == SessionStatus.COMPLETED || this.status == SessionStatus.ABANDONED) return;
+    /** Sessions left unfinished and untouched for this long are treated as abandoned. */
+    public static final Duration ABANDON_AFTER = Duration.ofHours(12);
+
+    /**
+     * Status as seen by readers at {@code now}: an unfinished session whose last activity is older
+     * than {@link #ABANDON_AFTER} reads as ABANDONED even before the background sweep persists it.
+     */
+    public SessionStatus getEffectiveStatus(LocalDateTime now) {
+        return isExpired(now) ? SessionStatus.ABANDONED : this.status;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        if (this.isDeleted || this.status == null) return false;
+        if (this.status == SessionStatus.COMPLETED || this.status == SessionStatus.ABANDONED) return false;
 
         LocalDateTime reference = this.updatedAt != null ? this.updatedAt : this.startedAt;
-        if (reference == null) return;
+        if (reference == null) return false;
+
+        return reference.isBefore(now.minus(ABANDON_AFTER));
+    }
 
-        if (reference.isBefore(LocalDateTime.now().minusHours(12))) {
+    public void evaluateAbandonedIfExpired() {
+        if (isExpired(LocalDateTime.now())) {
             this.status = SessionStatus.ABANDONED;
         }
     }
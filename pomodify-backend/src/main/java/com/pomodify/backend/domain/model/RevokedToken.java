@@ -7,13 +7,22 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 
 /**
  * Entity for storing revoked JWT tokens for blacklisting.
+ * Only a fixed-width SHA-256 hash of the token is stored, together with the token's own
+ * expiry so the row can be purged once the token could no longer be used anyway.
  */
 @Entity
-@Table(name = "revoked_tokens")
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -24,10 +33,28 @@ public class RevokedToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "token", nullable = false, unique = true)
-    private String token;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
 
     @CreationTimestamp
     @Column(name = "revoked_at", updatable = false)
     private LocalDateTime revokedAt;
+
+    /**
+     * Hex-encoded SHA-256 of the raw token; the lookup key for revocation checks.
+     */
+    public static String hashOf(String token) {
+        if (token == null) {
+            throw new IllegalArgumentException("Token cannot be null");
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
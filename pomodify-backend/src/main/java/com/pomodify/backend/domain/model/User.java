@@ -9,9 +9,6 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
-import java.time.LocalDate;
-import java.util.Set;
-import java.util.TreeSet;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -77,6 +74,14 @@ public class User {
     @Column(name = "profile_picture_url", length = 500)
     private String profilePictureUrl;
 
+    /** Smallest rendition of the profile picture, for lists and other small avatars. */
+    @Column(name = "profile_picture_thumb_url", length = 500)
+    private String profilePictureThumbUrl;
+
+    /** Upload being processed into the next profile picture; only that upload may switch the user over. */
+    @Column(name = "profile_picture_upload_id", length = 36)
+    private String profilePictureUploadId;
+
     // ──────────────── Relationships ────────────────
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     @Builder.Default
@@ -195,40 +200,6 @@ public class User {
             throw new IllegalStateException("Inactive user cannot perform operations");
     }
 
-    // ──────────────── Streak Logic ────────────────
-    public int getCurrentStreak(Set<LocalDate> focusDays, LocalDate today) {
-        ensureActive();
-        if (focusDays == null || focusDays.isEmpty()) return 0;
-        int streak = 0;
-        LocalDate cursor = today;
-        while (focusDays.contains(cursor)) {
-            streak++;
-            cursor = cursor.minusDays(1);
-        }
-        return streak;
-    }
-
-    public int getBestStreak(Set<LocalDate> focusDays) {
-        ensureActive();
-        if (focusDays == null || focusDays.isEmpty()) return 0;
-        // Use ordered traversal to count consecutive days
-        TreeSet<LocalDate> ordered = new TreeSet<>(focusDays);
-        int best = 0;
-        int current = 0;
-        LocalDate prev = null;
-        for (LocalDate d : ordered) {
-            if (prev == null || d.equals(prev.plusDays(1))) {
-                current++;
-            } else {
-                best = Math.max(best, current);
-                current = 1;
-            }
-            prev = d;
-        }
-        best = Math.max(best, current);
-        return best;
-    }
-
     // Setters for hybrid auth logic
     public void setAuthProvider(AuthProvider authProvider) {
         this.authProvider = authProvider;
@@ -245,4 +216,12 @@ public class User {
     public void setProfilePictureUrl(String profilePictureUrl) {
         this.profilePictureUrl = profilePictureUrl;
     }
+
+    public void setProfilePictureThumbUrl(String profilePictureThumbUrl) {
+        this.profilePictureThumbUrl = profilePictureThumbUrl;
+    }
+
+    public void setProfilePictureUploadId(String profilePictureUploadId) {
+        this.profilePictureUploadId = profilePictureUploadId;
+    }
 }
@@ -0,0 +1,110 @@
+package com.pomodify.backend.domain.model;
+
+import com.pomodify.backend.domain.valueobject.FocusCalendar;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Per-user streak state, advanced in O(1) each time a session completes instead of being
+ * re-derived from the full session history. {@code currentStreak} is the length of the run of
+ * consecutive focus days ending at {@code lastFocusDay}. Every focus day is also kept as one bit in
+ * a {@link FocusCalendar}, which serves window counts and the heatmap.
+ *
+ * <p>An earlier day recorded late is re-evaluated from the calendar. Sessions of activities deleted
+ * afterwards are not reflected incrementally; the nightly repair job recomputes every row from
+ * the focus rollup.
+ */
+@Entity
+@Table(name = "user_streak")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStreak {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "last_focus_day", nullable = false)
+    private LocalDate lastFocusDay;
+
+    @Column(name = "current_streak", nullable = false)
+    private Integer currentStreak;
+
+    @Column(name = "best_streak", nullable = false)
+    private Integer bestStreak;
+
+    /** First day covered by {@code focusCalendar}; aligned to a 64-day word. */
+    @Column(name = "calendar_origin")
+    private LocalDate calendarOrigin;
+
+    @Column(name = "focus_calendar")
+    private byte[] focusCalendar;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static UserStreak firstDay(Long userId, LocalDate day) {
+        UserStreak streak = UserStreak.builder()
+                .userId(userId)
+                .lastFocusDay(day)
+                .currentStreak(1)
+                .bestStreak(1)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        FocusCalendar calendar = FocusCalendar.empty();
+        calendar.mark(day);
+        streak.storeCalendar(calendar);
+        return streak;
+    }
+
+    /** Rebuilds the whole state from the user's focus days. */
+    public void resetTo(FocusCalendar calendar, LocalDate lastFocusDay) {
+        this.lastFocusDay = lastFocusDay;
+        this.currentStreak = calendar.runEndingAt(lastFocusDay);
+        this.bestStreak = calendar.longestRun();
+        this.updatedAt = LocalDateTime.now();
+        storeCalendar(calendar);
+    }
+
+    /**
+     * Counts {@code day} as a focus day: extends the streak if it follows the last focus day,
+     * restarts it after a gap, and leaves it unchanged for a day already counted.
+     */
+    public void recordFocusDay(LocalDate day) {
+        FocusCalendar calendar = calendar();
+        boolean alreadyCounted = calendar.isFocusDay(day);
+        calendar.mark(day);
+        storeCalendar(calendar);
+        if (day.isAfter(lastFocusDay)) {
+            currentStreak = day.minusDays(1).equals(lastFocusDay) ? currentStreak + 1 : 1;
+            bestStreak = Math.max(bestStreak, currentStreak);
+            lastFocusDay = day;
+        } else if (!alreadyCounted) {
+            // A late, earlier day can only join runs; max() keeps the counters right even while the
+            // calendar is still missing older history (rows created before it existed)
+            currentStreak = Math.max(currentStreak, calendar.runEndingAt(lastFocusDay));
+            bestStreak = Math.max(bestStreak, calendar.longestRun());
+        }
+        updatedAt = LocalDateTime.now();
+    }
+
+    public FocusCalendar calendar() {
+        return FocusCalendar.of(calendarOrigin, focusCalendar);
+    }
+
+    private void storeCalendar(FocusCalendar calendar) {
+        calendarOrigin = calendar.origin();
+        focusCalendar = calendar.toBytes();
+    }
+
+    /** Consecutive focus days ending at {@code today}; 0 if the user has not focused today. */
+    public int currentStreakOn(LocalDate today) {
+        return lastFocusDay.equals(today) ? currentStreak : 0;
+    }
+}
@@ -0,0 +1,41 @@
+package com.pomodify.backend.domain.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read model for the dashboard: scalar aggregates instead of entities, so a dashboard load is a
+ * fixed number of queries regardless of how much history the user has.
+ */
+public interface DashboardReadRepository {
+
+    /** Calendar boundaries (in the caller's zone) for the windows aggregated in one pass. */
+    record Windows(LocalDate today, LocalDate weekStart, LocalDate weekEnd, LocalDate last7Start) {}
+
+    /**
+     * All dashboard aggregates for one user. Focus figures come from the daily rollup and ignore
+     * soft-deleted activities; a focus day is a day with at least one completed session.
+     */
+    record DashboardTotals(boolean userActive,
+                           long totalActivities,
+                           long totalSessions,
+                           long focusSecondsAllTime,
+                           long focusSecondsToday,
+                           long focusSecondsThisWeek,
+                           long focusDaysLast7,
+                           int currentStreak,
+                           int bestStreak,
+                           String topActivityTitle,
+                           long topActivitySeconds) {}
+
+    record RecentSession(Long id, Long activityId, String activityName, LocalDateTime completedAt,
+                         Integer cyclesCompleted, long focusSeconds, String notePreview) {}
+
+    /** Empty when the user does not exist. */
+    Optional<DashboardTotals> loadTotals(Long userId, Windows windows);
+
+    /** Most recently completed sessions, newest first. */
+    List<RecentSession> findRecentCompleted(Long userId, int limit);
+}
@@ -0,0 +1,34 @@
+package com.pomodify.backend.domain.repository;
+
+import com.pomodify.backend.domain.model.FocusDailyStat;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Domain repository for the per-day focus rollup.
+ * Dashboard reads over the rollup live in {@link DashboardReadRepository}; they only consider
+ * rows whose activity is not soft-deleted.
+ */
+public interface FocusDailyStatRepository {
+
+    /** A day on which the user completed at least one session of a non-deleted activity. */
+    record UserFocusDay(Long userId, LocalDate day) {}
+
+    /**
+     * Atomically adds the given deltas to the (user, day, activity) row, creating it if needed.
+     */
+    void increment(Long userId, LocalDate day, Long activityId,
+                   long focusSeconds, long breakSeconds, int completedSessions, int abandonedSessions);
+
+    /** Up to {@code limit} ids of users with any completed session, ascending, after {@code afterUserId}. */
+    List<Long> findFocusedUserIdsAfter(Long afterUserId, int limit);
+
+    /** Focus days of the given users, ordered by user then day. */
+    List<UserFocusDay> findFocusDays(Collection<Long> userIds);
+
+    void saveAll(List<FocusDailyStat> stats);
+
+    void deleteAllByUserId(Long userId);
+}
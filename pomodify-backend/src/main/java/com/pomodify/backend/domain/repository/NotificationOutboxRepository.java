@@ -0,0 +1,40 @@
+package com.pomodify.backend.domain.repository;
+
+import com.pomodify.backend.domain.enums.OutboxStatus;
+import com.pomodify.backend.domain.model.NotificationOutbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Domain repository for the push notification outbox.
+ * State transitions after {@link #save} are single-row updates, each in its own short transaction,
+ * so the dispatcher never holds a connection while talking to FCM.
+ */
+public interface NotificationOutboxRepository {
+
+    NotificationOutbox save(NotificationOutbox message);
+
+    /** Up to {@code limit} PENDING messages due at {@code now}, oldest first. */
+    List<NotificationOutbox> findDue(LocalDateTime now, int limit);
+
+    /**
+     * Takes a delivery lease on due messages by moving their {@code nextAttemptAt} to {@code leaseUntil},
+     * in a single statement.
+     *
+     * @return ids of the messages this caller won; those claimed first by another node are left out
+     */
+    List<Long> claimAll(Collection<Long> ids, LocalDateTime now, LocalDateTime leaseUntil);
+
+    /** Moves a message to a terminal status (SENT, SKIPPED or DEAD). */
+    void markProcessed(Long id, OutboxStatus status, int attempts, String lastError, LocalDateTime processedAt);
+
+    /** Keeps a message PENDING and schedules its next delivery attempt. */
+    void scheduleRetry(Long id, int attempts, LocalDateTime nextAttemptAt, String lastError);
+
+    /** Deletes at most {@code batchSize} SENT/SKIPPED messages processed before {@code cutoff}. */
+    int deleteProcessedBefore(LocalDateTime cutoff, int batchSize);
+
+    long countByStatus(OutboxStatus status);
+}
@@ -1,9 +1,14 @@
 package com.pomodify.backend.domain.repository;
 
+import com.pomodify.backend.domain.enums.SessionStatus;
 import com.pomodify.backend.domain.model.PomodoroSession;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -13,6 +18,45 @@ import java.util.Optional;
  */
 public interface PomodoroSessionRepository {
 
+    /**
+     * Sessions finished on one day that share a status and phase durations.
+     * Focus/break seconds are {@code cycles * duration}, matching the per-session approximation.
+     */
+    record DailySessionAggregate(LocalDate day, SessionStatus status, Duration focusDuration,
+                                 Duration breakDuration, long cycles, long sessions) {
+        public long focusSeconds() {
+            return focusDuration != null ? cycles * focusDuration.getSeconds() : 0L;
+        }
+
+        public long breakSeconds() {
+            return breakDuration != null ? cycles * breakDuration.getSeconds() : 0L;
+        }
+    }
+
+    /** Finished (non-deleted) session counts for a single activity. */
+    record ActivityOutcomeCounts(long completed, long abandoned) {
+        public static final ActivityOutcomeCounts NONE = new ActivityOutcomeCounts(0, 0);
+
+        /** completed / (completed + abandoned) as a rounded percentage, 0 when nothing has finished. */
+        public int completionRate() {
+            long total = completed + abandoned;
+            return total == 0 ? 0 : (int) Math.round((completed * 100.0) / total);
+        }
+    }
+
+    /** When the running phase of a session ends. */
+    record PhaseDeadline(Long sessionId, LocalDateTime phaseEndTime) {}
+
+    /** Number of sessions of one user's activity flipped to ABANDONED by a sweep. */
+    record AbandonedByActivity(Long userId, Long activityId, long sessions) {}
+
+    /** Sessions for one activity title that share a focus duration. */
+    record ActivitySessionAggregate(String title, Duration focusDuration, long cycles, long sessions) {
+        public long focusMinutes() {
+            return focusDuration != null ? cycles * focusDuration.toMinutes() : 0L;
+        }
+    }
+
     /**
      * Find a PomodoroSession by its unique ID.
      *
@@ -97,6 +141,23 @@ public interface PomodoroSessionRepository {
     /** All completed sessions for user */
     List<PomodoroSession> findCompletedByUserId(Long userId);
 
+    /**
+     * Non-deleted sessions with completedAt in [start, end], grouped in the database by
+     * completion day, status and phase durations.
+     */
+    List<DailySessionAggregate> aggregateDailyByUserIdBetween(Long userId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Non-deleted sessions with completedAt in [start, end], grouped by activity title and focus duration.
+     */
+    List<ActivitySessionAggregate> aggregateByActivityTitleBetween(Long userId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * COMPLETED and ABANDONED counts of non-deleted sessions for each of the given activities,
+     * computed in a single grouped query. Activities without finished sessions are absent from the map.
+     */
+    Map<Long, ActivityOutcomeCounts> countOutcomesByActivityIds(Collection<Long> activityIds);
+
     /** Last 5 completed sessions ordered by completedAt desc */
     List<PomodoroSession> findRecentCompletedByUserId(Long userId, int limit);
 
@@ -110,13 +171,46 @@ public interface PomodoroSessionRepository {
     List<String> findRecentNotesByActivityId(Long activityId, int limit);
 
     /**
-     * Find all IN_PROGRESS sessions where phase_end_time has passed and notification not yet sent.
+     * Find IN_PROGRESS sessions where phase_end_time has passed and notification not yet sent,
+     * restricted to one shard ({@code id mod shardCount == shardIndex}). Sessions overdue since
+     * before {@code staleBefore} are returned to every shard, so a missing node cannot strand them.
      * Used by scheduled job for backend-triggered push notifications.
      *
      * @param now Current timestamp to compare against phase_end_time.
-     * @return List of sessions needing notification.
+     * @param staleBefore Deadlines older than this are picked up regardless of shard.
+     * @param shardCount Total number of shards (nodes polling).
+     * @param shardIndex This node's shard, in {@code [0, shardCount)}.
+     * @param limit Maximum number of sessions to return, oldest deadline first.
+     * @return Ids of the sessions needing notification.
+     */
+    List<Long> findSessionIdsNeedingNotification(LocalDateTime now, LocalDateTime staleBefore,
+                                                 int shardCount, int shardIndex, int limit);
+
+    /**
+     * Atomically marks the phase ending at {@code phaseEndTime} as notified. Exactly one caller
+     * across all nodes gets {@code true} for a given phase; everyone else must skip it.
+     *
+     * @param sessionId The ID of the session.
+     * @param phaseEndTime The deadline of the phase being claimed, guarding against a re-armed phase.
+     * @return true if this caller claimed the phase.
+     */
+    boolean claimPhaseNotification(Long sessionId, LocalDateTime phaseEndTime);
+
+    /**
+     * Deadlines of all non-deleted IN_PROGRESS sessions whose current phase has not been notified yet,
+     * regardless of whether they are already due. Used to rebuild in-memory phase timers on startup.
+     */
+    List<PhaseDeadline> findPendingPhaseDeadlines();
+
+    /**
+     * Marks up to {@code limit} unfinished, non-deleted sessions whose last update is before
+     * {@code cutoff} as ABANDONED using bulk updates, bypassing entity hydration.
+     *
+     * @param cutoff Sessions last touched before this instant are considered expired.
+     * @param limit Maximum number of sessions to flip in this call.
+     * @return Per-activity counts of the sessions that were actually flipped.
      */
-    List<PomodoroSession> findSessionsNeedingNotification(LocalDateTime now);
+    List<AbandonedByActivity> abandonExpiredSessions(LocalDateTime cutoff, int limit);
 
     /**
      * Delete all sessions for a specific user.
@@ -2,7 +2,8 @@ package com.pomodify.backend.domain.repository;
 
 import com.pomodify.backend.domain.model.RevokedToken;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Repository for RevokedToken entity.
@@ -12,18 +13,10 @@ public interface RevokedTokenRepository {
     /**
      * Check if a token is revoked.
      *
-     * @param token the JWT token
+     * @param tokenHash the SHA-256 hash of the JWT, see {@link RevokedToken#hashOf(String)}
      * @return true if revoked, false otherwise
      */
-    boolean existsByToken(String token);
-
-    /**
-     * Find a revoked token by token string.
-     *
-     * @param token the JWT token
-     * @return Optional of RevokedToken
-     */
-    Optional<RevokedToken> findByToken(String token);
+    boolean existsByTokenHash(String tokenHash);
 
     /**
      * Save a revoked token.
@@ -32,4 +25,26 @@ public interface RevokedTokenRepository {
      * @return the saved revoked token
      */
     RevokedToken save(RevokedToken revokedToken);
+
+    /**
+     * Find revocations recorded after the given instant, oldest first.
+     * Used to keep in-memory revocation indexes on every node in sync.
+     *
+     * @param since exclusive lower bound on revokedAt
+     * @return revoked tokens ordered by revokedAt ascending
+     */
+    List<RevokedToken> findRevokedSince(LocalDateTime since);
+
+    /**
+     * Delete at most {@code batchSize} revocations whose token expired before {@code cutoff}.
+     * Each call runs in its own short transaction.
+     *
+     * @return number of rows deleted
+     */
+    int deleteExpiredBefore(LocalDateTime cutoff, int batchSize);
+
+    /**
+     * @return current number of rows in the revocation table
+     */
+    long count();
 }
@@ -44,6 +44,35 @@ public interface UserRepository {
      */
     List<User> findAllActive();
 
+    /**
+     * Active users newest first, keyset-paged: up to {@code limit} users with an id below
+     * {@code beforeId} (all when null). When {@code search} is non-blank only users whose first name,
+     * last name or email contain it (case-insensitive) are returned.
+     */
+    List<User> findActivePage(String search, Long beforeId, int limit);
+
+    /**
+     * Records {@code uploadId} as the user's pending profile picture upload, so any earlier upload
+     * still being processed can no longer switch the user over.
+     */
+    void startProfilePictureUpload(Long userId, String uploadId);
+
+    /**
+     * Points the user at new profile picture renditions in a single UPDATE, without loading the
+     * aggregate, so a background job cannot overwrite concurrent profile edits. Applies only while
+     * {@code uploadId} is still the pending upload (not superseded, and the picture not deleted
+     * meanwhile), and clears it.
+     *
+     * @return number of rows updated (0 if the upload is no longer pending or the user is gone)
+     */
+    int updateProfilePicture(Long userId, String uploadId, String profilePictureUrl, String profilePictureThumbUrl);
+
+    /**
+     * Clears {@code uploadId} as the pending upload after it failed, leaving the picture as it was.
+     * No-op once a newer upload or a delete has replaced it.
+     */
+    void abandonProfilePictureUpload(Long userId, String uploadId);
+
     /**
      * Find a user by their backup email.
      */
@@ -0,0 +1,30 @@
+package com.pomodify.backend.domain.repository;
+
+import com.pomodify.backend.domain.model.UserStreak;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserStreakRepository {
+
+    Optional<UserStreak> findByUserId(Long userId);
+
+    /**
+     * Loads the existing rows of the given users under a row lock, so a recomputation cannot
+     * overwrite a concurrent {@link #recordFocusDay}.
+     */
+    List<UserStreak> findAllByUserIdsForUpdate(Collection<Long> userIds);
+
+    /**
+     * Applies {@link UserStreak#recordFocusDay} under a row lock, creating the row on the first
+     * focus day, so concurrent completions for one user do not lose calendar bits.
+     */
+    void recordFocusDay(Long userId, LocalDate day);
+
+    UserStreak save(UserStreak streak);
+
+    /** Removes rows of users left with no focus day (e.g. every focused activity deleted). */
+    int deleteWithoutFocusDays();
+}
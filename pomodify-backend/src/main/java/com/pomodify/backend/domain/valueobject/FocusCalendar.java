@@ -0,0 +1,176 @@
+package com.pomodify.backend.domain.valueobject;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One bit per calendar day: bit {@code i} of word {@code k} is the day {@code origin + 64k + i}.
+ * The origin is aligned to a multiple of 64 epoch days, so marking an earlier day only prepends
+ * whole words. A year of history is six longs; streak, best-streak and window counts are word
+ * operations ({@code bitCount}, leading/trailing ones) and allocate nothing.
+ *
+ * <p>Persisted as little-endian bytes with the origin alongside (see {@link #toBytes()}).
+ */
+public final class FocusCalendar {
+
+    private static final int WORD_DAYS = 64;
+
+    private long originEpochDay;
+    private long[] words;
+
+    private FocusCalendar(long originEpochDay, long[] words) {
+        this.originEpochDay = originEpochDay;
+        this.words = words;
+    }
+
+    public static FocusCalendar empty() {
+        return new FocusCalendar(0, new long[0]);
+    }
+
+    public static FocusCalendar of(LocalDate origin, byte[] bytes) {
+        if (origin == null || bytes == null || bytes.length == 0) {
+            return empty();
+        }
+        if (Math.floorMod(origin.toEpochDay(), WORD_DAYS) != 0 || bytes.length % Long.BYTES != 0) {
+            throw new IllegalArgumentException("Malformed focus calendar");
+        }
+        long[] words = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(words);
+        return new FocusCalendar(origin.toEpochDay(), words);
+    }
+
+    public static FocusCalendar of(Iterable<LocalDate> days) {
+        FocusCalendar calendar = empty();
+        for (LocalDate day : days) {
+            calendar.mark(day);
+        }
+        return calendar;
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    /** First day covered by the stored words; {@code null} when empty. */
+    public LocalDate origin() {
+        return isEmpty() ? null : LocalDate.ofEpochDay(originEpochDay);
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asLongBuffer().put(words);
+        return buffer.array();
+    }
+
+    public void mark(LocalDate day) {
+        long epochDay = day.toEpochDay();
+        if (isEmpty()) {
+            originEpochDay = Math.floorDiv(epochDay, WORD_DAYS) * WORD_DAYS;
+            words = new long[1];
+        } else if (epochDay < originEpochDay) {
+            int prepend = (int) ((originEpochDay - epochDay + WORD_DAYS - 1) / WORD_DAYS);
+            long[] grown = new long[words.length + prepend];
+            System.arraycopy(words, 0, grown, prepend, words.length);
+            words = grown;
+            originEpochDay -= (long) prepend * WORD_DAYS;
+        }
+        long offset = epochDay - originEpochDay;
+        int word = (int) (offset / WORD_DAYS);
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, word + 1);
+        }
+        words[word] |= 1L << (offset % WORD_DAYS);
+    }
+
+    public boolean isFocusDay(LocalDate day) {
+        long offset = day.toEpochDay() - originEpochDay;
+        if (offset < 0 || offset >= (long) words.length * WORD_DAYS) {
+            return false;
+        }
+        return (words[(int) (offset / WORD_DAYS)] & (1L << (offset % WORD_DAYS))) != 0;
+    }
+
+    /** Focus days within {@code [from, to]} inclusive. */
+    public int countInRange(LocalDate from, LocalDate to) {
+        long start = Math.max(from.toEpochDay() - originEpochDay, 0);
+        long end = Math.min(to.toEpochDay() - originEpochDay, (long) words.length * WORD_DAYS - 1);
+        if (start > end) {
+            return 0;
+        }
+        int firstWord = (int) (start / WORD_DAYS);
+        int lastWord = (int) (end / WORD_DAYS);
+        long firstMask = -1L << (start % WORD_DAYS);
+        long lastMask = -1L >>> (WORD_DAYS - 1 - end % WORD_DAYS);
+        if (firstWord == lastWord) {
+            return Long.bitCount(words[firstWord] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(words[firstWord] & firstMask) + Long.bitCount(words[lastWord] & lastMask);
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            count += Long.bitCount(words[w]);
+        }
+        return count;
+    }
+
+    /** Consecutive focus days ending at {@code day} (0 if {@code day} itself is not a focus day). */
+    public int runEndingAt(LocalDate day) {
+        long offset = day.toEpochDay() - originEpochDay;
+        if (offset < 0 || offset >= (long) words.length * WORD_DAYS) {
+            return 0;
+        }
+        int word = (int) (offset / WORD_DAYS);
+        int bit = (int) (offset % WORD_DAYS);
+        int run = 0;
+        while (word >= 0) {
+            // Move `bit` to the top; the leading ones are the run going back from it
+            int ones = Long.numberOfLeadingZeros(~(words[word] << (WORD_DAYS - 1 - bit)));
+            run += Math.min(ones, bit + 1);
+            if (ones < bit + 1) {
+                break;
+            }
+            word--;
+            bit = WORD_DAYS - 1;
+        }
+        return run;
+    }
+
+    /** Longest run of consecutive focus days. */
+    public int longestRun() {
+        int best = 0;
+        int run = 0;
+        for (long w : words) {
+            if (w == -1L) {
+                run += WORD_DAYS;
+                continue;
+            }
+            int pos = 0;
+            while (pos < WORD_DAYS) {
+                long rest = w >>> pos;
+                int ones = Long.numberOfTrailingZeros(~rest);
+                run += ones;
+                pos += ones;
+                if (pos >= WORD_DAYS) {
+                    break;
+                }
+                best = Math.max(best, run);
+                run = 0;
+                pos += Long.numberOfTrailingZeros(w >>> pos);
+            }
+        }
+        return Math.max(best, run);
+    }
+
+    /** The focus days within {@code [from, to]}, ascending. */
+    public List<LocalDate> focusDaysBetween(LocalDate from, LocalDate to) {
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            if (isFocusDay(d)) {
+                days.add(d);
+            }
+        }
+        return days;
+    }
+}
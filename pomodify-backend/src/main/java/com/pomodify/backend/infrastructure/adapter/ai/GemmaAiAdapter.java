@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -29,6 +30,8 @@ public class GemmaAiAdapter implements AiGenerationPort {
     private final Map<String, AtomicInteger> modelRequestCounts = new ConcurrentHashMap<>();
     private final Map<String, AtomicLong> modelResetTimes = new ConcurrentHashMap<>();
     private Client client;
+    // Not synchronized: client creation does I/O, and blocking inside a monitor pins virtual threads
+    private final ReentrantLock lock = new ReentrantLock();
 
     public GemmaAiAdapter() {
         for (String model : MODELS) {
@@ -37,21 +40,26 @@ public class GemmaAiAdapter implements AiGenerationPort {
         }
     }
 
-    private synchronized Client getClient() {
-        if (client == null) {
-            // Check system property first (for tests), then environment variable
-            String apiKey = System.getProperty("GOOGLE_API_KEY");
-            if (apiKey == null || apiKey.isEmpty()) {
-                apiKey = System.getenv("GOOGLE_API_KEY");
-            }
-            if (apiKey == null || apiKey.isEmpty()) {
-                throw new RuntimeException("GOOGLE_API_KEY not set. Set via -DGOOGLE_API_KEY=key or environment variable.");
+    private Client getClient() {
+        lock.lock();
+        try {
+            if (client == null) {
+                // Check system property first (for tests), then environment variable
+                String apiKey = System.getProperty("GOOGLE_API_KEY");
+                if (apiKey == null || apiKey.isEmpty()) {
+                    apiKey = System.getenv("GOOGLE_API_KEY");
+                }
+                if (apiKey == null || apiKey.isEmpty()) {
+                    throw new RuntimeException("GOOGLE_API_KEY not set. Set via -DGOOGLE_API_KEY=key or environment variable.");
+                }
+                // Set as env var for the Google client library
+                logger.info("Initializing Google GenAI Client");
+                client = new Client();
             }
-            // Set as env var for the Google client library
-            logger.info("Initializing Google GenAI Client");
-            client = new Client();
+            return client;
+        } finally {
+            lock.unlock();
         }
-        return client;
     }
 
     @Override
@@ -174,22 +182,27 @@ public class GemmaAiAdapter implements AiGenerationPort {
         return parseGeminiResponse(rawOutput);
     }
 
-    private synchronized boolean canMakeRequest(String model) {
-        long now = Instant.now().getEpochSecond();
-        AtomicLong resetTime = modelResetTimes.get(model);
-        AtomicInteger requestCount = modelRequestCounts.get(model);
-        if (now - resetTime.get() >= 60) {
-            logger.info("[Rotation] Model {} counter reset (was {}/{})", model, requestCount.get(), MAX_RPM_PER_MODEL);
-            requestCount.set(0);
-            resetTime.set(now);
-        }
-        if (requestCount.get() < MAX_RPM_PER_MODEL) {
-            int count = requestCount.incrementAndGet();
-            logger.info("[Rotation] Model {} accepted request ({}/{})", model, count, MAX_RPM_PER_MODEL);
-            return true;
+    private boolean canMakeRequest(String model) {
+        lock.lock();
+        try {
+            long now = Instant.now().getEpochSecond();
+            AtomicLong resetTime = modelResetTimes.get(model);
+            AtomicInteger requestCount = modelRequestCounts.get(model);
+            if (now - resetTime.get() >= 60) {
+                logger.info("[Rotation] Model {} counter reset (was {}/{})", model, requestCount.get(), MAX_RPM_PER_MODEL);
+                requestCount.set(0);
+                resetTime.set(now);
+            }
+            if (requestCount.get() < MAX_RPM_PER_MODEL) {
+                int count = requestCount.incrementAndGet();
+                logger.info("[Rotation] Model {} accepted request ({}/{})", model, count, MAX_RPM_PER_MODEL);
+                return true;
+            }
+            logger.info("[Rotation] Model {} rate limited ({}/{}), rotating to next model", model, requestCount.get(), MAX_RPM_PER_MODEL);
+            return false;
+        } finally {
+            lock.unlock();
         }
-        logger.info("[Rotation] Model {} rate limited ({}/{}), rotating to next model", model, requestCount.get(), MAX_RPM_PER_MODEL);
-        return false;
     }
 
     /**
@@ -206,13 +219,18 @@ public class GemmaAiAdapter implements AiGenerationPort {
     /**
      * Resets all model counters (for testing).
      */
-    public synchronized void resetAllCounters() {
-        long now = Instant.now().getEpochSecond();
-        for (String model : MODELS) {
-            modelRequestCounts.get(model).set(0);
-            modelResetTimes.get(model).set(now);
+    public void resetAllCounters() {
+        lock.lock();
+        try {
+            long now = Instant.now().getEpochSecond();
+            for (String model : MODELS) {
+                modelRequestCounts.get(model).set(0);
+                modelResetTimes.get(model).set(now);
+            }
+            logger.info("[Rotation] All model counters reset");
+        } finally {
+            lock.unlock();
         }
-        logger.info("[Rotation] All model counters reset");
     }
 
     @Override
@@ -0,0 +1,35 @@
+package com.pomodify.backend.infrastructure.adapter.events;
+
+import com.pomodify.backend.application.port.out.UserEventBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/** In-process bus for single-node deployments: events are handed straight to local subscribers. */
+@Component
+@ConditionalOnProperty(name = "app.events.bus", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalUserEventBus implements UserEventBus {
+
+    private final List<Consumer<UserEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(UserEvent event) {
+        for (Consumer<UserEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.warn("User event listener failed for {}: {}", event.type(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<UserEvent> listener) {
+        listeners.add(listener);
+    }
+}
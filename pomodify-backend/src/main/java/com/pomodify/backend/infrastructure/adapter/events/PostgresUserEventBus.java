@@ -0,0 +1,148 @@
+package com.pomodify.backend.infrastructure.adapter.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pomodify.backend.application.port.out.UserEventBus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Multi-node bus over Postgres LISTEN/NOTIFY. Publishing issues {@code pg_notify}; a dedicated
+ * listener thread on each node holds one pooled connection in LISTEN mode and dispatches incoming
+ * notifications to local subscribers, reconnecting with a short delay if the connection drops.
+ * NOTIFY payloads are capped at 8000 bytes; larger events are delivered to this node only.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.bus", havingValue = "postgres")
+@Slf4j
+public class PostgresUserEventBus implements UserEventBus {
+
+    private static final String CHANNEL = "pomodify_user_events";
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<Consumer<UserEvent>> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean running = true;
+    private Thread listenerThread;
+
+    @Value("${app.events.postgres.poll-timeout-ms:10000}")
+    private int pollTimeoutMillis = 10_000;
+
+    @Value("${app.events.postgres.reconnect-delay-ms:2000}")
+    private long reconnectDelayMillis = 2000;
+
+    public PostgresUserEventBus(DataSource dataSource, JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void start() {
+        listenerThread = new Thread(this::listenLoop, "user-event-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public void publish(UserEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (Exception e) {
+            log.warn("Could not serialize user event {}: {}", event.type(), e.getMessage());
+            return;
+        }
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+            log.warn("User event {} too large for NOTIFY; delivering locally only", event.type());
+            dispatch(event);
+            return;
+        }
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("pg_notify failed for {}; delivering locally only: {}", event.type(), e.getMessage());
+            dispatch(event);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<UserEvent> listener) {
+        listeners.add(listener);
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                log.info("Listening for user events on channel {}", CHANNEL);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(pollTimeoutMillis);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("User event listener disconnected, retrying in {} ms: {}", reconnectDelayMillis, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        try {
+            dispatch(objectMapper.readValue(payload, UserEvent.class));
+        } catch (Exception e) {
+            log.warn("Ignoring malformed user event payload: {}", e.getMessage());
+        }
+    }
+
+    private void dispatch(UserEvent event) {
+        for (Consumer<UserEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.warn("User event listener failed for {}: {}", event.type(), e.getMessage());
+            }
+        }
+    }
+}
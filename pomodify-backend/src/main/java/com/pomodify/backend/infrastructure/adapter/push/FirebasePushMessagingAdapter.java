@@ -0,0 +1,67 @@
+package com.pomodify.backend.infrastructure.adapter.push;
+
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import com.pomodify.backend.application.port.out.PushMessagingPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sends push batches through {@link FirebaseMessaging#sendEach(List)}: one HTTP/2 connection and up
+ * to 500 messages per call instead of one HTTPS round trip per notification.
+ */
+@Component
+@Slf4j
+public class FirebasePushMessagingAdapter implements PushMessagingPort {
+
+    @Override
+    public List<SendOutcome> sendEach(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+        if (FirebaseApp.getApps().isEmpty()) {
+            log.warn("Firebase not initialized - dropping {} push message(s)", messages.size());
+            return Collections.nCopies(messages.size(), new SendOutcome(Status.UNAVAILABLE, "Firebase not initialized"));
+        }
+        List<SendOutcome> outcomes = new ArrayList<>(messages.size());
+        for (int from = 0; from < messages.size(); from += MAX_BATCH_SIZE) {
+            List<Message> chunk = messages.subList(from, Math.min(from + MAX_BATCH_SIZE, messages.size()));
+            outcomes.addAll(sendChunk(chunk));
+        }
+        return outcomes;
+    }
+
+    private List<SendOutcome> sendChunk(List<Message> chunk) {
+        try {
+            BatchResponse batch = FirebaseMessaging.getInstance().sendEach(chunk);
+            log.info("FCM batch of {}: {} sent, {} failed", chunk.size(), batch.getSuccessCount(), batch.getFailureCount());
+            List<SendOutcome> outcomes = new ArrayList<>(chunk.size());
+            for (SendResponse response : batch.getResponses()) {
+                outcomes.add(response.isSuccessful() ? SendOutcome.sent() : toOutcome(response.getException()));
+            }
+            return outcomes;
+        } catch (FirebaseMessagingException e) {
+            // The whole call failed (auth, network); nothing in the chunk was delivered
+            log.warn("FCM batch of {} failed: {}", chunk.size(), e.getMessage());
+            return Collections.nCopies(chunk.size(), new SendOutcome(Status.RETRYABLE, e.getMessage()));
+        }
+    }
+
+    static SendOutcome toOutcome(FirebaseMessagingException e) {
+        MessagingErrorCode code = e != null ? e.getMessagingErrorCode() : null;
+        String error = e != null ? e.getMessage() : "Unknown FCM error";
+        if (code == MessagingErrorCode.UNREGISTERED || code == MessagingErrorCode.INVALID_ARGUMENT) {
+            return new SendOutcome(Status.INVALID_TOKEN, error);
+        }
+        return new SendOutcome(Status.RETRYABLE, error);
+    }
+}
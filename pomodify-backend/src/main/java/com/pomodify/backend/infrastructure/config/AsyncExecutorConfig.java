@@ -0,0 +1,124 @@
+package com.pomodify.backend.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * One bounded executor per blocking workload, so a burst in one (e.g. AI blueprint requests) cannot
+ * starve the others (verification emails, push delivery). Sizes come from
+ * {@code app.async.<name>.core-size/max-size/queue-capacity}; threads beyond the core size are only
+ * started once the queue is full.
+ *
+ * <p>When both pool and queue are full:
+ * <ul>
+ *   <li>{@code mail} runs the send on the caller's thread, so no email is dropped and the caller slows down;</li>
+ *   <li>{@code ai} rejects with {@link org.springframework.core.task.TaskRejectedException}, answered as 503;</li>
+ *   <li>{@code push} runs the batch on the draining thread; undelivered rows stay in the outbox anyway;</li>
+ *   <li>{@code image} rejects the upload with {@link org.springframework.core.task.TaskRejectedException}
+ *   (503), since decoding on the request thread is exactly what the pool exists to avoid.</li>
+ * </ul>
+ *
+ * <p>Each executor publishes {@code pomodify.executor.active/queued/pool.size} gauges and
+ * {@code pomodify.executor.completed/rejected} counters, tagged {@code executor=<name>}.
+ */
+@Configuration
+public class AsyncExecutorConfig {
+
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+    public static final String AI_EXECUTOR = "aiExecutor";
+    public static final String PUSH_EXECUTOR = "pushExecutor";
+    public static final String IMAGE_EXECUTOR = "imageExecutor";
+
+    @Bean(MAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor mailExecutor(Environment env, MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = fromProperties("mail", env, meterRegistry, new ThreadPoolExecutor.CallerRunsPolicy());
+        // Let queued verification emails go out on shutdown instead of being discarded
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean(AI_EXECUTOR)
+    public ThreadPoolTaskExecutor aiExecutor(Environment env, MeterRegistry meterRegistry) {
+        return fromProperties("ai", env, meterRegistry, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(PUSH_EXECUTOR)
+    public ThreadPoolTaskExecutor pushExecutor(Environment env, MeterRegistry meterRegistry) {
+        return fromProperties("push", env, meterRegistry, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Bean(IMAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor imageExecutor(Environment env, MeterRegistry meterRegistry) {
+        return fromProperties("image", env, meterRegistry, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static ThreadPoolTaskExecutor fromProperties(String name, Environment env, MeterRegistry meterRegistry,
+                                                         RejectedExecutionHandler policy) {
+        String prefix = "app.async." + name + ".";
+        int coreSize = env.getProperty(prefix + "core-size", Integer.class, 2);
+        return workloadExecutor(name,
+                coreSize,
+                env.getProperty(prefix + "max-size", Integer.class, coreSize),
+                env.getProperty(prefix + "queue-capacity", Integer.class, 100),
+                policy,
+                meterRegistry);
+    }
+
+    /**
+     * Builds an instrumented, bounded executor. The caller (or the container, for beans) is responsible
+     * for {@code initialize()}.
+     */
+    public static ThreadPoolTaskExecutor workloadExecutor(String name, int coreSize, int maxSize, int queueCapacity,
+                                                          RejectedExecutionHandler policy, MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("pomodify.executor.rejected")
+                .description("Tasks that found the pool and queue full")
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(Math.max(coreSize, maxSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            policy.rejectedExecution(task, pool);
+        });
+
+        // The underlying pool only exists after initialize(); the getters below report 0 until then
+        Gauge.builder("pomodify.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Threads currently running a task")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("pomodify.executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Tasks waiting for a thread")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("pomodify.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("executor", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("pomodify.executor.completed", executor, AsyncExecutorConfig::completedTasks)
+                .description("Tasks that finished running")
+                .tag("executor", name)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    private static double completedTasks(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getCompletedTaskCount();
+        } catch (IllegalStateException notInitialized) {
+            return 0;
+        }
+    }
+}
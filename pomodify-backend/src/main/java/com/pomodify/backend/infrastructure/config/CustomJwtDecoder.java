@@ -1,18 +1,13 @@
 package com.pomodify.backend.infrastructure.config;
 
-import com.pomodify.backend.domain.repository.RevokedTokenRepository;
-import io.jsonwebtoken.security.Keys;
+import com.pomodify.backend.application.service.JwtKeyRing;
+import com.pomodify.backend.application.service.RevokedTokenIndex;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtException;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-
 /**
  * Custom JWT decoder that validates tokens and checks for revocation.
  */
@@ -20,27 +15,17 @@ import javax.crypto.SecretKey;
 @RequiredArgsConstructor
 public class CustomJwtDecoder implements JwtDecoder {
 
-    private final RevokedTokenRepository revokedTokenRepository;
-
-    @Value("${jwt.secret}")
-    private String jwtSecret;
-
-    private JwtDecoder getNimbusDecoder() {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        return NimbusJwtDecoder
-                .withSecretKey(key)
-                .macAlgorithm(MacAlgorithm.valueOf("HS512"))
-                .build();
-    }
+    private final RevokedTokenIndex revokedTokenIndex;
+    private final JwtKeyRing keyRing;
 
     @Override
     public Jwt decode(String token) throws JwtException {
         try {
-            // First, decode with Nimbus to validate signature and expiration
-            Jwt jwt = getNimbusDecoder().decode(token);
+            // First, decode with the cached Nimbus decoder to validate signature and expiration
+            Jwt jwt = keyRing.decode(token);
 
-            // Then, check if the token is revoked
-            if (revokedTokenRepository.existsByToken(token)) {
+            // Then, check if the token is revoked (in-memory index, no DB round-trip)
+            if (revokedTokenIndex.isRevoked(token)) {
                 throw new JwtException("Token has been revoked");
             }
 
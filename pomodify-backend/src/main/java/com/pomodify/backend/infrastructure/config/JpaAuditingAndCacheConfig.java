@@ -1,23 +1,47 @@
 package com.pomodify.backend.infrastructure.config;
 
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.util.List;
+
+/**
+ * Caches are Caffeine-backed and bounded. Each cache reads its spec from {@code app.cache.<name>.spec}
+ * (Caffeine spec syntax, e.g. {@code maximumSize=1000,expireAfterWrite=10m}), falling back to
+ * {@code app.cache.default-spec}. Stats are always recorded so actuator publishes
+ * {@code cache.gets}/{@code cache.evictions} per cache name.
+ */
 @Configuration
 @EnableJpaAuditing
 @EnableCaching
 public class JpaAuditingAndCacheConfig {
 
+    static final List<String> CACHE_NAMES = List.of(
+            "userSettings",
+            "activities",
+            "activity",
+            "categories",
+            "aiBlueprints",
+            "notificationProfiles"
+    );
+
+    private static final String FALLBACK_SPEC = "maximumSize=1000,expireAfterWrite=10m";
+
     @Bean
-    public ConcurrentMapCacheManager cacheManager() {
-        return new ConcurrentMapCacheManager(
-                "userSettings",
-                "activities",
-                "activity",
-                "categories"
-        );
+    public CaffeineCacheManager cacheManager(Environment env) {
+        String defaultSpec = env.getProperty("app.cache.default-spec", FALLBACK_SPEC);
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        // Static mode: an unknown cache name fails fast instead of silently creating a new cache
+        manager.setCacheNames(List.of());
+        for (String name : CACHE_NAMES) {
+            String spec = env.getProperty("app.cache." + name + ".spec", defaultSpec);
+            manager.registerCustomCache(name, Caffeine.from(spec).recordStats().build());
+        }
+        return manager;
     }
 }
@@ -0,0 +1,79 @@
+package com.pomodify.backend.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier (inside {@code synchronized} or a
+ * native frame), using the JDK's {@code jdk.VirtualThreadPinned} JFR event. Each occurrence increments
+ * {@code pomodify.vthreads.pinned}, tagged with the first application frame; the first occurrence per
+ * frame is logged with its stack. Active only when virtual threads are enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String APP_PACKAGE = "com.pomodify.";
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    @Value("${app.virtual-threads.pinned-threshold-ms:20}")
+    private long thresholdMillis = 20;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", thresholdMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = pinnedSite(event);
+        meterRegistry.counter("pomodify.vthreads.pinned", "site", site).increment();
+        if (reported.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}\n{}",
+                    event.getDuration().toMillis(), site, event.getStackTrace());
+        }
+    }
+
+    private static String pinnedSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+            }
+        }
+        return "library";
+    }
+}
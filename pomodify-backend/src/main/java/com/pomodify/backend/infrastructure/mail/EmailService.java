@@ -1,7 +1,10 @@
 package com.pomodify.backend.infrastructure.mail;
 
 import com.pomodify.backend.application.port.EmailPort;
+import com.pomodify.backend.infrastructure.config.AsyncExecutorConfig;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -9,12 +12,12 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Infrastructure adapter implementing EmailPort.
  * Handles actual email sending via JavaMailSender.
+ * Sends run on the bounded {@code mailExecutor}, so SMTP latency never holds the request thread.
  */
 @Service
 @Slf4j
@@ -24,14 +27,36 @@ public class EmailService implements EmailPort {
     @Value("${spring.mail.from:contact@pomodify.site}")
     private String fromAddress;
     private final JavaMailSender mailSender;
+    private final TaskExecutor mailExecutor;
 
     @Autowired
-    public EmailService(JavaMailSender mailSender) {
+    public EmailService(JavaMailSender mailSender,
+                        @Qualifier(AsyncExecutorConfig.MAIL_EXECUTOR) TaskExecutor mailExecutor) {
         this.mailSender = mailSender;
+        this.mailExecutor = mailExecutor;
     }
 
-    @Async
+    // Dispatched explicitly rather than via @Async: the template methods below call these on `this`,
+    // which bypasses the async proxy and would send on the request thread.
+    @Override
     public void sendSimpleEmail(String to, String subject, String text) {
+        mailExecutor.execute(() -> logFailure(to, () -> doSendSimpleEmail(to, subject, text)));
+    }
+
+    @Override
+    public void sendHtmlEmail(String to, String subject, String htmlContent) {
+        mailExecutor.execute(() -> logFailure(to, () -> doSendHtmlEmail(to, subject, htmlContent)));
+    }
+
+    private static void logFailure(String to, Runnable send) {
+        try {
+            send.run();
+        } catch (RuntimeException e) {
+            log.error("Failed to send email to {}: {}", to, e.getMessage());
+        }
+    }
+
+    private void doSendSimpleEmail(String to, String subject, String text) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setFrom(fromAddress);
         message.setTo(to);
@@ -48,9 +73,7 @@ public class EmailService implements EmailPort {
         sendVerificationEmail(toEmail, token, overrideBaseUrl, false);
     }
 
-    @Override
-    @Async
-    public void sendHtmlEmail(String to, String subject, String htmlContent) {
+    private void doSendHtmlEmail(String to, String subject, String htmlContent) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
@@ -62,7 +85,7 @@ public class EmailService implements EmailPort {
         } catch (MessagingException e) {
             log.error("Failed to send HTML email to {}: {}", to, e.getMessage());
             // Fallback to simple email if HTML fails
-            sendSimpleEmail(to, subject, htmlContent.replaceAll("<[^>]*>", ""));
+            doSendSimpleEmail(to, subject, htmlContent.replaceAll("<[^>]*>", ""));
         }
     }
 
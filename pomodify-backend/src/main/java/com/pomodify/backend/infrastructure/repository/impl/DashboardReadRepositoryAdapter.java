@@ -0,0 +1,82 @@
+package com.pomodify.backend.infrastructure.repository.impl;
+
+import com.pomodify.backend.domain.enums.SessionStatus;
+import com.pomodify.backend.domain.repository.DashboardReadRepository;
+import com.pomodify.backend.domain.valueobject.FocusCalendar;
+import com.pomodify.backend.infrastructure.repository.spring.SpringFocusDailyStatJpaRepository;
+import com.pomodify.backend.infrastructure.repository.spring.SpringPomodoroSessionJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class DashboardReadRepositoryAdapter extends BaseRepositoryImpl implements DashboardReadRepository {
+
+    private final SpringFocusDailyStatJpaRepository focusStatRepo;
+    private final SpringPomodoroSessionJpaRepository sessionRepo;
+
+    @Override
+    public Optional<DashboardTotals> loadTotals(Long userId, Windows windows) {
+        checkNotNull(userId, "User ID");
+        checkNotNull(windows, "Dashboard windows");
+        List<Object[]> rows = focusStatRepo.loadDashboardTotals(userId, windows.today(),
+                windows.weekStart(), windows.weekEnd(), windows.last7Start());
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        FocusCalendar calendar = FocusCalendar.of(toLocalDate(row[10]), (byte[]) row[11]);
+        return Optional.of(new DashboardTotals(
+                Boolean.TRUE.equals(row[0]),
+                toLong(row[1]),
+                toLong(row[2]),
+                toLong(row[3]),
+                toLong(row[4]),
+                toLong(row[5]),
+                calendar.countInRange(windows.last7Start(), windows.today()),
+                (int) toLong(row[6]),
+                (int) toLong(row[7]),
+                (String) row[8],
+                toLong(row[9])));
+    }
+
+    @Override
+    public List<RecentSession> findRecentCompleted(Long userId, int limit) {
+        checkNotNull(userId, "User ID");
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return sessionRepo.findRecentCompletedSummaries(userId, SessionStatus.COMPLETED, PageRequest.of(0, limit)).stream()
+                .map(row -> {
+                    Integer cycles = (Integer) row[4];
+                    Duration focusDuration = (Duration) row[5];
+                    // Same approximation as FocusStatsService.focusSecondsOf: cycles * focus duration
+                    long focusSeconds = cycles != null && focusDuration != null ? cycles * focusDuration.getSeconds() : 0L;
+                    return new RecentSession(
+                            (Long) row[0],
+                            (Long) row[1],
+                            (String) row[2],
+                            (LocalDateTime) row[3],
+                            cycles,
+                            focusSeconds,
+                            (String) row[6]);
+                })
+                .toList();
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
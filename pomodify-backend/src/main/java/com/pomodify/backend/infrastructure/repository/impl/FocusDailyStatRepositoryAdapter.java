@@ -0,0 +1,55 @@
+package com.pomodify.backend.infrastructure.repository.impl;
+
+import com.pomodify.backend.domain.model.FocusDailyStat;
+import com.pomodify.backend.domain.repository.FocusDailyStatRepository;
+import com.pomodify.backend.infrastructure.repository.spring.SpringFocusDailyStatJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class FocusDailyStatRepositoryAdapter extends BaseRepositoryImpl implements FocusDailyStatRepository {
+
+    private final SpringFocusDailyStatJpaRepository springRepo;
+
+    @Override
+    public void increment(Long userId, LocalDate day, Long activityId,
+                          long focusSeconds, long breakSeconds, int completedSessions, int abandonedSessions) {
+        checkNotNull(userId, "User ID");
+        checkNotNull(day, "Stat date");
+        checkNotNull(activityId, "Activity ID");
+        springRepo.upsertIncrement(userId, day, activityId, focusSeconds, breakSeconds,
+                completedSessions, abandonedSessions, LocalDateTime.now());
+    }
+
+    @Override
+    public List<Long> findFocusedUserIdsAfter(Long afterUserId, int limit) {
+        return springRepo.findFocusedUserIdsAfter(checkNotNull(afterUserId, "User ID"), PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<UserFocusDay> findFocusDays(Collection<Long> userIds) {
+        if (checkNotNull(userIds, "User IDs").isEmpty()) {
+            return List.of();
+        }
+        return springRepo.findFocusDays(userIds).stream()
+                .map(row -> new UserFocusDay((Long) row[0], (LocalDate) row[1]))
+                .toList();
+    }
+
+    @Override
+    public void saveAll(List<FocusDailyStat> stats) {
+        springRepo.saveAll(checkNotNull(stats, "Focus stats"));
+    }
+
+    @Override
+    public void deleteAllByUserId(Long userId) {
+        springRepo.deleteAllByUserId(checkNotNull(userId, "User ID"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.pomodify.backend.infrastructure.repository.impl;
+
+import com.pomodify.backend.domain.enums.OutboxStatus;
+import com.pomodify.backend.domain.model.NotificationOutbox;
+import com.pomodify.backend.domain.repository.NotificationOutboxRepository;
+import com.pomodify.backend.infrastructure.repository.spring.SpringNotificationOutboxJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA adapter implementation for NotificationOutboxRepository.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationOutboxRepositoryJpaAdapter extends BaseRepositoryImpl implements NotificationOutboxRepository {
+
+    private static final List<OutboxStatus> PURGEABLE = List.of(OutboxStatus.SENT, OutboxStatus.SKIPPED);
+
+    private final SpringNotificationOutboxJpaRepository springRepository;
+
+    @Override
+    public NotificationOutbox save(NotificationOutbox message) {
+        return springRepository.save(checkNotNull(message, "NotificationOutbox"));
+    }
+
+    @Override
+    public List<NotificationOutbox> findDue(LocalDateTime now, int limit) {
+        return springRepository.findDue(OutboxStatus.PENDING, checkNotNull(now, "Now"), PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<Long> claimAll(Collection<Long> ids, LocalDateTime now, LocalDateTime leaseUntil) {
+        if (checkNotNull(ids, "IDs").isEmpty()) {
+            return List.of();
+        }
+        return springRepository.claimAll(ids, checkNotNull(now, "Now"), checkNotNull(leaseUntil, "Lease"));
+    }
+
+    @Override
+    public void markProcessed(Long id, OutboxStatus status, int attempts, String lastError, LocalDateTime processedAt) {
+        if (status == OutboxStatus.PENDING) {
+            throw new IllegalArgumentException("Processed status must be terminal");
+        }
+        springRepository.markProcessed(checkNotNull(id), status, attempts, lastError, checkNotNull(processedAt, "Processed at"));
+    }
+
+    @Override
+    public void scheduleRetry(Long id, int attempts, LocalDateTime nextAttemptAt, String lastError) {
+        springRepository.scheduleRetry(checkNotNull(id), attempts, checkNotNull(nextAttemptAt, "Next attempt"), lastError);
+    }
+
+    @Override
+    public int deleteProcessedBefore(LocalDateTime cutoff, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        List<Long> ids = springRepository.findProcessedIds(PURGEABLE, checkNotNull(cutoff, "Cutoff"), PageRequest.of(0, batchSize));
+        return ids.isEmpty() ? 0 : springRepository.deleteByIds(ids);
+    }
+
+    @Override
+    public long countByStatus(OutboxStatus status) {
+        return springRepository.countByStatus(checkNotNull(status, "Status"));
+    }
+}
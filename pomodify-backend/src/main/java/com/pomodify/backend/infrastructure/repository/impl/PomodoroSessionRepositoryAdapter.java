@@ -2,13 +2,17 @@ package com.pomodify.backend.infrastructure.repository.impl;
 
 import com.pomodify.backend.domain.model.PomodoroSession;
 import com.pomodify.backend.domain.repository.PomodoroSessionRepository;
+import com.pomodify.backend.infrastructure.repository.spring.SpringFocusDailyStatJpaRepository;
 import com.pomodify.backend.infrastructure.repository.spring.SpringPomodoroSessionJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.domain.PageRequest;
 import com.pomodify.backend.domain.enums.SessionStatus;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -16,6 +20,7 @@ import java.util.Optional;
 public class PomodoroSessionRepositoryAdapter implements PomodoroSessionRepository {
 
     private final SpringPomodoroSessionJpaRepository springRepo;
+    private final SpringFocusDailyStatJpaRepository focusStatRepo;
 
     @Override
     public Optional<PomodoroSession> findById(Long id) {
@@ -73,6 +78,46 @@ public class PomodoroSessionRepositoryAdapter implements PomodoroSessionReposito
         return springRepo.findCompletedByUserId(userId, SessionStatus.COMPLETED);
     }
 
+    @Override
+    public List<DailySessionAggregate> aggregateDailyByUserIdBetween(Long userId, java.time.LocalDateTime start, java.time.LocalDateTime end) {
+        return springRepo.aggregateDailyByUserIdBetween(userId, start, end).stream()
+                .map(row -> new DailySessionAggregate(
+                        (java.time.LocalDate) row[0],
+                        (SessionStatus) row[1],
+                        (java.time.Duration) row[2],
+                        (java.time.Duration) row[3],
+                        toLong(row[4]),
+                        toLong(row[5])))
+                .toList();
+    }
+
+    @Override
+    public List<ActivitySessionAggregate> aggregateByActivityTitleBetween(Long userId, java.time.LocalDateTime start, java.time.LocalDateTime end) {
+        return springRepo.aggregateByActivityTitleBetween(userId, start, end).stream()
+                .map(row -> new ActivitySessionAggregate(
+                        (String) row[0],
+                        (java.time.Duration) row[1],
+                        toLong(row[2]),
+                        toLong(row[3])))
+                .toList();
+    }
+
+    @Override
+    public Map<Long, ActivityOutcomeCounts> countOutcomesByActivityIds(Collection<Long> activityIds) {
+        if (activityIds == null || activityIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, long[]> counts = new HashMap<>();
+        for (Object[] row : springRepo.countByActivityIdsAndStatuses(activityIds,
+                List.of(SessionStatus.COMPLETED, SessionStatus.ABANDONED))) {
+            long[] acc = counts.computeIfAbsent((Long) row[0], id -> new long[2]);
+            acc[row[1] == SessionStatus.COMPLETED ? 0 : 1] += toLong(row[2]);
+        }
+        Map<Long, ActivityOutcomeCounts> result = new HashMap<>();
+        counts.forEach((id, acc) -> result.put(id, new ActivityOutcomeCounts(acc[0], acc[1])));
+        return result;
+    }
+
     @Override
     public List<PomodoroSession> findRecentCompletedByUserId(Long userId, int limit) {
         if (limit <= 0) {
@@ -87,8 +132,48 @@ public class PomodoroSessionRepositoryAdapter implements PomodoroSessionReposito
     }
 
     @Override
-    public List<PomodoroSession> findSessionsNeedingNotification(java.time.LocalDateTime now) {
-        return springRepo.findSessionsNeedingNotification(now);
+    public List<Long> findSessionIdsNeedingNotification(java.time.LocalDateTime now, java.time.LocalDateTime staleBefore,
+                                                        int shardCount, int shardIndex, int limit) {
+        if (shardCount <= 0 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Shard index must be in [0, shardCount)");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return springRepo.findSessionIdsNeedingNotification(now, staleBefore, shardCount, shardIndex,
+                PageRequest.of(0, limit));
+    }
+
+    @Override
+    public boolean claimPhaseNotification(Long sessionId, java.time.LocalDateTime phaseEndTime) {
+        return springRepo.claimPhaseNotification(sessionId, phaseEndTime) == 1;
+    }
+
+    @Override
+    public List<PhaseDeadline> findPendingPhaseDeadlines() {
+        return springRepo.findPendingPhaseDeadlines().stream()
+                .map(row -> new PhaseDeadline(toLong(row[0]), (java.time.LocalDateTime) row[1]))
+                .toList();
+    }
+
+    @Override
+    public List<AbandonedByActivity> abandonExpiredSessions(java.time.LocalDateTime cutoff, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        List<SessionStatus> unfinished = List.of(SessionStatus.NOT_STARTED, SessionStatus.IN_PROGRESS, SessionStatus.PAUSED);
+        List<Long> ids = springRepo.findExpiredSessionIds(unfinished, cutoff, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // Truncate so the timestamp round-trips identically through every database's timestamp precision
+        java.time.LocalDateTime now = java.time.LocalDateTime.now().truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+        if (springRepo.markAbandoned(ids, unfinished, SessionStatus.ABANDONED, cutoff, now) == 0) {
+            return List.of();
+        }
+        return springRepo.countMarkedAbandonedByOwner(ids, SessionStatus.ABANDONED, now).stream()
+                .map(row -> new AbandonedByActivity((Long) row[0], (Long) row[1], toLong(row[2])))
+                .toList();
     }
 
     @Override
@@ -100,5 +185,11 @@ public class PomodoroSessionRepositoryAdapter implements PomodoroSessionReposito
         springRepo.deleteAllNotesByUserId(userId);
         // 3. Delete sessions (references activity)
         springRepo.deleteAllByUserId(userId);
+        // 4. Drop the focus rollup derived from those sessions
+        focusStatRepo.deleteAllByUserId(userId);
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
     }
 }
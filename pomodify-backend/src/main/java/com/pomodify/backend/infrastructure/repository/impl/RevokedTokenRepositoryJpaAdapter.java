@@ -4,9 +4,11 @@ import com.pomodify.backend.domain.model.RevokedToken;
 import com.pomodify.backend.domain.repository.RevokedTokenRepository;
 import com.pomodify.backend.infrastructure.repository.spring.SpringRevokedTokenJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * JPA adapter implementation for RevokedTokenRepository.
@@ -18,17 +20,32 @@ public class RevokedTokenRepositoryJpaAdapter extends BaseRepositoryImpl impleme
     private final SpringRevokedTokenJpaRepository springRepository;
 
     @Override
-    public boolean existsByToken(String token) {
-        return springRepository.existsByToken(token);
+    public boolean existsByTokenHash(String tokenHash) {
+        return springRepository.existsByTokenHash(checkNotNull(tokenHash, "Token hash"));
     }
 
     @Override
-    public Optional<RevokedToken> findByToken(String token) {
-        return springRepository.findByToken(token);
+    public RevokedToken save(RevokedToken revokedToken) {
+        return springRepository.save(checkNotNull(revokedToken, "RevokedToken"));
     }
 
     @Override
-    public RevokedToken save(RevokedToken revokedToken) {
-        return springRepository.save(checkNotNull(revokedToken, "RevokedToken"));
+    public List<RevokedToken> findRevokedSince(LocalDateTime since) {
+        return springRepository.findByRevokedAtAfterOrderByRevokedAtAsc(checkNotNull(since, "Since"));
+    }
+
+    @Override
+    public int deleteExpiredBefore(LocalDateTime cutoff, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        // Select-then-delete by primary key keeps each DELETE small and its locks short
+        List<Long> ids = springRepository.findExpiredIds(checkNotNull(cutoff, "Cutoff"), PageRequest.of(0, batchSize));
+        return ids.isEmpty() ? 0 : springRepository.deleteByIds(ids);
+    }
+
+    @Override
+    public long count() {
+        return springRepository.count();
     }
 }
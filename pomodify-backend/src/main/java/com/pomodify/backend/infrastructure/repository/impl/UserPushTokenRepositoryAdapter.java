@@ -5,6 +5,7 @@ import com.pomodify.backend.domain.repository.UserPushTokenRepository;
 import com.pomodify.backend.infrastructure.repository.spring.SpringUserPushTokenJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -25,6 +26,7 @@ public class UserPushTokenRepositoryAdapter implements UserPushTokenRepository {
     }
 
     @Override
+    @Transactional // derived deletes need a transaction; push delivery may call this outside one
     public void deleteByUserId(Long userId) {
         springRepo.deleteByUserId(userId);
     }
@@ -5,9 +5,12 @@ import com.pomodify.backend.domain.repository.UserRepository;
 import com.pomodify.backend.domain.valueobject.Email;
 import com.pomodify.backend.infrastructure.repository.spring.SpringUserJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -53,6 +56,41 @@ public class UserRepositoryJpaAdapter extends BaseRepositoryImpl implements User
         return springUserJpaRepository.findAllActive();
     }
 
+    @Override
+    public List<User> findActivePage(String search, Long beforeId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        long before = beforeId != null ? beforeId : Long.MAX_VALUE;
+        PageRequest page = PageRequest.of(0, limit);
+        if (search == null || search.isBlank()) {
+            return springUserJpaRepository.findActivePage(before, page);
+        }
+        return springUserJpaRepository.searchActivePage("%" + escapeLike(search.trim().toLowerCase(Locale.ROOT)) + "%", before, page);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    @Override
+    public void startProfilePictureUpload(Long userId, String uploadId) {
+        springUserJpaRepository.startProfilePictureUpload(checkNotNull(userId, "User ID"),
+                checkNotNull(uploadId, "Upload ID"));
+    }
+
+    @Override
+    public int updateProfilePicture(Long userId, String uploadId, String profilePictureUrl, String profilePictureThumbUrl) {
+        return springUserJpaRepository.updateProfilePicture(checkNotNull(userId, "User ID"),
+                checkNotNull(uploadId, "Upload ID"), profilePictureUrl, profilePictureThumbUrl, LocalDateTime.now());
+    }
+
+    @Override
+    public void abandonProfilePictureUpload(Long userId, String uploadId) {
+        springUserJpaRepository.abandonProfilePictureUpload(checkNotNull(userId, "User ID"),
+                checkNotNull(uploadId, "Upload ID"));
+    }
+
     @Override
     public Optional<User> findByBackupEmail(String backupEmail) {
         return springUserJpaRepository.findByBackupEmail(checkNotNull(backupEmail, "Backup Email"));
@@ -0,0 +1,59 @@
+package com.pomodify.backend.infrastructure.repository.impl;
+
+import com.pomodify.backend.domain.model.UserStreak;
+import com.pomodify.backend.domain.repository.UserStreakRepository;
+import com.pomodify.backend.infrastructure.repository.spring.SpringUserStreakJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class UserStreakRepositoryAdapter extends BaseRepositoryImpl implements UserStreakRepository {
+
+    private final SpringUserStreakJpaRepository springRepo;
+
+    @Override
+    public Optional<UserStreak> findByUserId(Long userId) {
+        return springRepo.findById(checkNotNull(userId, "User ID"));
+    }
+
+    @Override
+    public List<UserStreak> findAllByUserIdsForUpdate(Collection<Long> userIds) {
+        if (checkNotNull(userIds, "User IDs").isEmpty()) {
+            return List.of();
+        }
+        return springRepo.findAllForUpdate(userIds);
+    }
+
+    @Override
+    public void recordFocusDay(Long userId, LocalDate day) {
+        checkNotNull(userId, "User ID");
+        checkNotNull(day, "Focus day");
+        UserStreak first = UserStreak.firstDay(userId, day);
+        if (springRepo.insertFirstDay(userId, day, first.getCalendarOrigin(), first.getFocusCalendar(),
+                first.getUpdatedAt()) == 1) {
+            // First focus day ever for this user
+            return;
+        }
+        // The row exists now (ours or a concurrent insert), so the lock has something to hold
+        UserStreak streak = springRepo.findForUpdate(userId)
+                .orElseThrow(() -> new IllegalStateException("User streak vanished for user " + userId));
+        streak.recordFocusDay(day);
+        springRepo.save(streak);
+    }
+
+    @Override
+    public UserStreak save(UserStreak streak) {
+        return springRepo.save(checkNotNull(streak, "User streak"));
+    }
+
+    @Override
+    public int deleteWithoutFocusDays() {
+        return springRepo.deleteWithoutFocusDays();
+    }
+}
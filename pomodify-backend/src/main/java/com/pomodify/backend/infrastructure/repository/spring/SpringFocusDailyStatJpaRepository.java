@@ -0,0 +1,83 @@
+package com.pomodify.backend.infrastructure.repository.spring;
+
+import com.pomodify.backend.domain.model.FocusDailyStat;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SpringFocusDailyStatJpaRepository extends JpaRepository<FocusDailyStat, Long> {
+
+    /**
+     * Adds the deltas to the (user, day, activity) row, creating it on first use. A single
+     * statement so concurrent first completions cannot both miss the row and race on
+     * {@code unique_focus_daily_stat}.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO focus_daily_stat (user_id, stat_date, activity_id, focus_seconds, break_seconds, " +
+           "completed_sessions, abandoned_sessions, updated_at) " +
+           "VALUES (:userId, :day, :activityId, :focus, :brk, :completed, :abandoned, :now) " +
+           "ON CONFLICT (user_id, stat_date, activity_id) DO UPDATE SET " +
+           "focus_seconds = focus_daily_stat.focus_seconds + EXCLUDED.focus_seconds, " +
+           "break_seconds = focus_daily_stat.break_seconds + EXCLUDED.break_seconds, " +
+           "completed_sessions = focus_daily_stat.completed_sessions + EXCLUDED.completed_sessions, " +
+           "abandoned_sessions = focus_daily_stat.abandoned_sessions + EXCLUDED.abandoned_sessions, " +
+           "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    void upsertIncrement(@Param("userId") Long userId, @Param("day") LocalDate day, @Param("activityId") Long activityId,
+                         @Param("focus") long focus, @Param("brk") long brk,
+                         @Param("completed") int completed, @Param("abandoned") int abandoned,
+                         @Param("now") LocalDateTime now);
+
+    @Query("select distinct f.userId from FocusDailyStat f where f.userId > :after and f.completedSessions > 0 " +
+           "order by f.userId")
+    List<Long> findFocusedUserIdsAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("select f.userId, f.statDate from FocusDailyStat f, Activity a " +
+           "where a.id = f.activityId and a.isDeleted = false and f.userId in :userIds " +
+           "group by f.userId, f.statDate having sum(f.completedSessions) > 0 order by f.userId, f.statDate")
+    List<Object[]> findFocusDays(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Every dashboard aggregate in one round trip, as a single row (none if the user does not exist):
+     * is_active, total_activities, total_sessions, focus_all, focus_today, focus_week,
+     * current_streak, best_streak, top_title, top_seconds, calendar_origin, focus_calendar. Streaks
+     * and the focus-day bitmap come from the persisted {@code user_streak} row rather than the
+     * rollup history.
+     */
+    @Query(value = "WITH days AS (" +
+           "  SELECT f.stat_date, SUM(f.focus_seconds) AS focus_seconds, SUM(f.completed_sessions) AS completed " +
+           "  FROM focus_daily_stat f JOIN activity a ON a.id = f.activity_id AND a.is_deleted = false " +
+           "  WHERE f.user_id = :userId GROUP BY f.stat_date), " +
+           "top_activity AS (" +
+           "  SELECT f.activity_id, SUM(f.focus_seconds) AS seconds " +
+           "  FROM focus_daily_stat f JOIN activity a ON a.id = f.activity_id AND a.is_deleted = false " +
+           "  WHERE f.user_id = :userId AND f.stat_date BETWEEN :last7Start AND :today " +
+           "  GROUP BY f.activity_id ORDER BY seconds DESC LIMIT 1) " +
+           "SELECT u.is_active, " +
+           "  (SELECT COUNT(*) FROM activity WHERE user_id = :userId AND is_deleted = false), " +
+           "  (SELECT COALESCE(SUM(completed), 0) FROM days), " +
+           "  (SELECT COALESCE(SUM(focus_seconds), 0) FROM days), " +
+           "  (SELECT COALESCE(SUM(focus_seconds), 0) FROM days WHERE stat_date = :today), " +
+           "  (SELECT COALESCE(SUM(focus_seconds), 0) FROM days WHERE stat_date BETWEEN :weekStart AND :weekEnd), " +
+           "  CASE WHEN st.last_focus_day = :today THEN st.current_streak ELSE 0 END, " +
+           "  COALESCE(st.best_streak, 0), " +
+           "  (SELECT a.title FROM top_activity t JOIN activity a ON a.id = t.activity_id), " +
+           "  (SELECT seconds FROM top_activity), " +
+           "  st.calendar_origin, st.focus_calendar " +
+           "FROM app_user u LEFT JOIN user_streak st ON st.user_id = u.id WHERE u.id = :userId", nativeQuery = true)
+    List<Object[]> loadDashboardTotals(@Param("userId") Long userId,
+                                       @Param("today") LocalDate today,
+                                       @Param("weekStart") LocalDate weekStart,
+                                       @Param("weekEnd") LocalDate weekEnd,
+                                       @Param("last7Start") LocalDate last7Start);
+
+    @Modifying
+    @Query("delete from FocusDailyStat f where f.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+}
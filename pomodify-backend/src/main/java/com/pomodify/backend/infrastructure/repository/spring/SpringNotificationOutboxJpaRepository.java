@@ -0,0 +1,58 @@
+package com.pomodify.backend.infrastructure.repository.spring;
+
+import com.pomodify.backend.domain.enums.OutboxStatus;
+import com.pomodify.backend.domain.model.NotificationOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for NotificationOutbox entity.
+ */
+@Repository
+public interface SpringNotificationOutboxJpaRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query("select o from NotificationOutbox o where o.status = :status and o.nextAttemptAt <= :now order by o.nextAttemptAt")
+    List<NotificationOutbox> findDue(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // Compare-and-set in one statement: only rows still PENDING and due are leased, so each goes to one node
+    @Transactional
+    @Query(value = "UPDATE notification_outbox SET next_attempt_at = :leaseUntil " +
+                   "WHERE id IN (:ids) AND status = 'PENDING' AND next_attempt_at <= :now " +
+                   "RETURNING id", nativeQuery = true)
+    List<Long> claimAll(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now,
+                        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("update NotificationOutbox o set o.status = :status, o.attempts = :attempts, o.lastError = :lastError, " +
+           "o.processedAt = :processedAt where o.id = :id")
+    int markProcessed(@Param("id") Long id, @Param("status") OutboxStatus status, @Param("attempts") int attempts,
+                      @Param("lastError") String lastError, @Param("processedAt") LocalDateTime processedAt);
+
+    @Transactional
+    @Modifying
+    @Query("update NotificationOutbox o set o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt, " +
+           "o.lastError = :lastError where o.id = :id")
+    int scheduleRetry(@Param("id") Long id, @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    @Query("select o.id from NotificationOutbox o where o.status in :statuses and o.processedAt < :cutoff order by o.id")
+    List<Long> findProcessedIds(@Param("statuses") Collection<OutboxStatus> statuses,
+                                @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from NotificationOutbox o where o.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    long countByStatus(OutboxStatus status);
+}
@@ -39,15 +39,84 @@ public interface SpringPomodoroSessionJpaRepository extends JpaRepository<Pomodo
     @Query("select s from PomodoroSession s JOIN FETCH s.activity where s.activity.user.id=:userId and s.status = :status and s.activity.isDeleted = false order by s.completedAt desc")
     List<PomodoroSession> findRecentCompletedByUserId(@Param("userId") Long userId, @Param("status") SessionStatus status, Pageable pageable);
 
+    // Columns only, for the dashboard's recent list: avoids loading sessions, activities and notes as entities
+    @Query("select s.id, a.id, a.title, s.completedAt, s.cyclesCompleted, s.focusDuration, n.content " +
+           "from PomodoroSession s join s.activity a left join s.note n " +
+           "where a.user.id = :userId and s.status = :status and a.isDeleted = false order by s.completedAt desc")
+    List<Object[]> findRecentCompletedSummaries(@Param("userId") Long userId, @Param("status") SessionStatus status, Pageable pageable);
+
+    @Query("select cast(s.completedAt as LocalDate), s.status, s.focusDuration, s.breakDuration, sum(s.cyclesCompleted), count(s) " +
+           "from PomodoroSession s where s.activity.user.id = :userId and s.isDeleted = false " +
+           "and s.completedAt between :start and :end " +
+           "group by cast(s.completedAt as LocalDate), s.status, s.focusDuration, s.breakDuration")
+    List<Object[]> aggregateDailyByUserIdBetween(@Param("userId") Long userId, @Param("start") java.time.LocalDateTime start, @Param("end") java.time.LocalDateTime end);
+
+    @Query("select s.activity.title, s.focusDuration, sum(s.cyclesCompleted), count(s) " +
+           "from PomodoroSession s where s.activity.user.id = :userId and s.isDeleted = false " +
+           "and s.completedAt between :start and :end " +
+           "group by s.activity.title, s.focusDuration")
+    List<Object[]> aggregateByActivityTitleBetween(@Param("userId") Long userId, @Param("start") java.time.LocalDateTime start, @Param("end") java.time.LocalDateTime end);
+
+    @Query("select s.activity.id, s.status, count(s) from PomodoroSession s " +
+           "where s.activity.id in :activityIds and s.isDeleted = false and s.status in :statuses " +
+           "group by s.activity.id, s.status")
+    List<Object[]> countByActivityIdsAndStatuses(@Param("activityIds") java.util.Collection<Long> activityIds,
+                                                 @Param("statuses") java.util.Collection<SessionStatus> statuses);
+
     @Query("SELECT n.content FROM PomodoroSession s JOIN s.note n WHERE s.activity.id = :activityId AND n.content IS NOT NULL ORDER BY s.completedAt DESC")
     List<String> findRecentNotesByActivityId(@Param("activityId") Long activityId, Pageable pageable);
 
-    @Query("SELECT s FROM PomodoroSession s JOIN FETCH s.activity a JOIN FETCH a.user " +
-           "WHERE s.status = 'IN_PROGRESS' " +
+    @Query("SELECT s.id FROM PomodoroSession s " +
+           "WHERE s.isDeleted = false " +
+           "AND s.status = 'IN_PROGRESS' " +
            "AND s.phaseEndTime IS NOT NULL " +
            "AND s.phaseEndTime <= :now " +
+           "AND (s.phaseNotified = false OR s.phaseNotified IS NULL) " +
+           "AND (mod(s.id, :shardCount) = :shardIndex OR s.phaseEndTime < :staleBefore) " +
+           "ORDER BY s.phaseEndTime")
+    List<Long> findSessionIdsNeedingNotification(@Param("now") java.time.LocalDateTime now,
+                                                 @Param("staleBefore") java.time.LocalDateTime staleBefore,
+                                                 @Param("shardCount") long shardCount,
+                                                 @Param("shardIndex") long shardIndex,
+                                                 Pageable pageable);
+
+    // Compare-and-set on the flag: concurrent claimers serialize on the row lock and only one sees a match
+    @org.springframework.data.jpa.repository.Modifying
+    @Query("update PomodoroSession s set s.phaseNotified = true " +
+           "where s.id = :id and s.status = 'IN_PROGRESS' and s.phaseEndTime = :phaseEndTime " +
+           "and (s.phaseNotified = false or s.phaseNotified is null)")
+    int claimPhaseNotification(@Param("id") Long id, @Param("phaseEndTime") java.time.LocalDateTime phaseEndTime);
+
+    @Query("SELECT s.id, s.phaseEndTime FROM PomodoroSession s " +
+           "WHERE s.isDeleted = false " +
+           "AND s.status = 'IN_PROGRESS' " +
+           "AND s.phaseEndTime IS NOT NULL " +
            "AND (s.phaseNotified = false OR s.phaseNotified IS NULL)")
-    List<PomodoroSession> findSessionsNeedingNotification(@Param("now") java.time.LocalDateTime now);
+    List<Object[]> findPendingPhaseDeadlines();
+
+    @Query("select s.id from PomodoroSession s " +
+           "where s.isDeleted = false and s.status in :statuses " +
+           "and coalesce(s.updatedAt, s.startedAt) < :cutoff order by s.id")
+    List<Long> findExpiredSessionIds(@Param("statuses") java.util.Collection<SessionStatus> statuses,
+                                     @Param("cutoff") java.time.LocalDateTime cutoff, Pageable pageable);
+
+    // Conditions are re-checked so sessions touched since they were selected are left alone
+    @org.springframework.data.jpa.repository.Modifying(clearAutomatically = true)
+    @Query("update PomodoroSession s set s.status = :abandoned, s.phaseEndTime = null, s.updatedAt = :now " +
+           "where s.id in :ids and s.isDeleted = false and s.status in :statuses " +
+           "and coalesce(s.updatedAt, s.startedAt) < :cutoff")
+    int markAbandoned(@Param("ids") java.util.Collection<Long> ids,
+                      @Param("statuses") java.util.Collection<SessionStatus> statuses,
+                      @Param("abandoned") SessionStatus abandoned,
+                      @Param("cutoff") java.time.LocalDateTime cutoff,
+                      @Param("now") java.time.LocalDateTime now);
+
+    @Query("select s.activity.user.id, s.activity.id, count(s) from PomodoroSession s " +
+           "where s.id in :ids and s.status = :abandoned and s.updatedAt = :now " +
+           "group by s.activity.user.id, s.activity.id")
+    List<Object[]> countMarkedAbandonedByOwner(@Param("ids") java.util.Collection<Long> ids,
+                                               @Param("abandoned") SessionStatus abandoned,
+                                               @Param("now") java.time.LocalDateTime now);
 
     // Delete session todo items for all sessions belonging to a user
     @org.springframework.data.jpa.repository.Modifying
@@ -1,10 +1,17 @@
 package com.pomodify.backend.infrastructure.repository.spring;
 
 import com.pomodify.backend.domain.model.RevokedToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Spring Data JPA repository for RevokedToken entity.
@@ -13,18 +20,29 @@ import java.util.Optional;
 public interface SpringRevokedTokenJpaRepository extends JpaRepository<RevokedToken, Long> {
 
     /**
-     * Check if a token is revoked.
+     * Check if a token hash is revoked.
      *
-     * @param token the JWT token
+     * @param tokenHash the SHA-256 hash of the JWT
      * @return true if revoked, false otherwise
      */
-    boolean existsByToken(String token);
+    boolean existsByTokenHash(String tokenHash);
 
     /**
-     * Find a revoked token by token string.
-     *
-     * @param token the JWT token
-     * @return Optional of RevokedToken
+     * Find revocations recorded after the given instant, oldest first.
+     */
+    List<RevokedToken> findByRevokedAtAfterOrderByRevokedAtAsc(LocalDateTime since);
+
+    /**
+     * Ids of revocations whose token expired before the cutoff, oldest first.
+     */
+    @Query("select r.id from RevokedToken r where r.expiresAt < :cutoff order by r.id")
+    List<Long> findExpiredIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Delete revocations by id.
      */
-    Optional<RevokedToken> findByToken(String token);
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken r where r.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
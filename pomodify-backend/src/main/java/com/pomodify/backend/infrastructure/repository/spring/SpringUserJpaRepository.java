@@ -2,10 +2,15 @@
 
 import com.pomodify.backend.domain.model.User;
 import com.pomodify.backend.domain.valueobject.Email;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +37,40 @@ public interface SpringUserJpaRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.isActive = true")
     List<User> findAllActive();
 
+    /**
+     * Keyset page of active users, newest first.
+     */
+    @Query("SELECT u FROM User u WHERE u.isActive = true AND u.id < :beforeId ORDER BY u.id DESC")
+    List<User> findActivePage(@Param("beforeId") Long beforeId, Pageable pageable);
+
+    /**
+     * Keyset page of active users matching a lower-case LIKE pattern. The expression matches the
+     * trigram index {@code idx_app_user_search_trgm} (V24), so substring matches do not scan the table.
+     * Without pg_trgm that index is not created and the search is a sequential scan.
+     */
+    @Query("SELECT u FROM User u WHERE u.isActive = true AND u.id < :beforeId " +
+           "AND lower(concat(u.firstName, ' ', u.lastName, ' ', u.email.value)) LIKE :pattern ESCAPE '\\' " +
+           "ORDER BY u.id DESC")
+    List<User> searchActivePage(@Param("pattern") String pattern, @Param("beforeId") Long beforeId, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.profilePictureUploadId = :uploadId WHERE u.id = :userId")
+    void startProfilePictureUpload(@Param("userId") Long userId, @Param("uploadId") String uploadId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.profilePictureUrl = :url, u.profilePictureThumbUrl = :thumbUrl, " +
+           "u.profilePictureUploadId = null, u.updatedAt = :now " +
+           "WHERE u.id = :userId AND u.profilePictureUploadId = :uploadId")
+    int updateProfilePicture(@Param("userId") Long userId, @Param("uploadId") String uploadId, @Param("url") String url,
+                             @Param("thumbUrl") String thumbUrl, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.profilePictureUploadId = null WHERE u.id = :userId AND u.profilePictureUploadId = :uploadId")
+    void abandonProfilePictureUpload(@Param("userId") Long userId, @Param("uploadId") String uploadId);
+
     /**
      * Find user by backup email.
      */
@@ -0,0 +1,47 @@
+package com.pomodify.backend.infrastructure.repository.spring;
+
+import com.pomodify.backend.domain.model.UserStreak;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SpringUserStreakJpaRepository extends JpaRepository<UserStreak, Long> {
+
+    /**
+     * Creates the first-day row unless one already exists; returns 1 if it was inserted. Lets
+     * concurrent first completions of a user agree on a single row before locking it.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_streak (user_id, last_focus_day, current_streak, best_streak, " +
+           "calendar_origin, focus_calendar, updated_at) " +
+           "VALUES (:userId, :day, 1, 1, :calendarOrigin, :focusCalendar, :now) " +
+           "ON CONFLICT (user_id) DO NOTHING", nativeQuery = true)
+    int insertFirstDay(@Param("userId") Long userId, @Param("day") LocalDate day,
+                       @Param("calendarOrigin") LocalDate calendarOrigin,
+                       @Param("focusCalendar") byte[] focusCalendar,
+                       @Param("now") LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserStreak s where s.userId = :userId")
+    Optional<UserStreak> findForUpdate(@Param("userId") Long userId);
+
+    /** Locks in user id order so concurrent batches cannot deadlock on each other. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from UserStreak s where s.userId in :userIds order by s.userId")
+    List<UserStreak> findAllForUpdate(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_streak s WHERE NOT EXISTS (" +
+           "SELECT 1 FROM focus_daily_stat f JOIN activity a ON a.id = f.activity_id AND a.is_deleted = false " +
+           "WHERE f.user_id = s.user_id AND f.completed_sessions > 0)", nativeQuery = true)
+    int deleteWithoutFocusDays();
+}
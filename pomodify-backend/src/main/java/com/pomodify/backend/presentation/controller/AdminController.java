@@ -1,6 +1,7 @@
 package com.pomodify.backend.presentation.controller;
 
 import com.pomodify.backend.application.dto.AdminUserDto;
+import com.pomodify.backend.application.dto.AdminUserPage;
 import com.pomodify.backend.application.service.AdminService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,8 @@ import java.util.Map;
 @Slf4j
 public class AdminController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final AdminService adminService;
 
     @PostMapping("/login")
@@ -39,15 +42,27 @@ public class AdminController {
     }
 
     @GetMapping("/users")
-    public ResponseEntity<List<AdminUserDto>> getAllUsers() {
-        List<AdminUserDto> users = adminService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<List<AdminUserDto>> getAllUsers(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return toPageResponse(adminService.getAllUsers(cursor, limit));
     }
 
     @GetMapping("/users/search")
-    public ResponseEntity<List<AdminUserDto>> searchUsers(@RequestParam(required = false) String query) {
-        List<AdminUserDto> users = adminService.searchUsers(query);
-        return ResponseEntity.ok(users);
+    public ResponseEntity<List<AdminUserDto>> searchUsers(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return toPageResponse(adminService.searchUsers(query, cursor, limit));
+    }
+
+    /** The body stays a plain list; the cursor for the next page travels in {@code X-Next-Cursor}. */
+    private ResponseEntity<List<AdminUserDto>> toPageResponse(AdminUserPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+        }
+        return response.body(page.getUsers());
     }
 
     @DeleteMapping("/users/{userId}")
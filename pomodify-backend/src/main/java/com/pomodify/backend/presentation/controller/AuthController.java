@@ -23,6 +23,7 @@ import com.pomodify.backend.presentation.dto.response.CheckBackupEmailResponse;
 import com.pomodify.backend.presentation.mapper.AuthMapper;
 import com.pomodify.backend.presentation.mapper.UserMapper;
 import com.pomodify.backend.application.service.ProfilePictureService;
+import com.pomodify.backend.application.result.ProfilePictureContent;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.Cookie;
@@ -31,10 +32,14 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.MediaType;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 @RestController
 @RequestMapping("/auth")
@@ -384,7 +389,7 @@ public class AuthController {
 
     // ──────────────── Profile Picture ────────────────
     @PostMapping(value = "/users/me/profile-picture", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "Upload profile picture")
+    @Operation(summary = "Upload profile picture", description = "Accepted for background processing into 48/96/400px renditions")
     public ResponseEntity<UserResponse> uploadProfilePicture(
             @RequestParam("file") MultipartFile file,
             HttpServletRequest httpRequest) {
@@ -401,8 +406,9 @@ public class AuthController {
         }
         try {
             log.info("Profile picture upload request for user: {}", email);
+            // Processed in the background; the new picture arrives as a profile-picture-updated event
             UserResponse response = UserMapper.toUserResponse(profilePictureService.uploadProfilePicture(email, file));
-            return ResponseEntity.ok(response);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
         } catch (IllegalArgumentException e) {
             log.warn("Profile picture upload failed: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -433,13 +439,26 @@ public class AuthController {
 
     @GetMapping("/users/me/profile-picture/{fileName}")
     @Operation(summary = "Get profile picture by filename")
-    public ResponseEntity<byte[]> getProfilePicture(@PathVariable String fileName) {
+    public ResponseEntity<Resource> getProfilePicture(@PathVariable String fileName, WebRequest webRequest) {
         try {
-            byte[] imageData = profilePictureService.getProfilePicture(fileName);
-            String contentType = profilePictureService.getContentType(fileName);
+            ProfilePictureContent picture = profilePictureService.getProfilePicture(fileName);
+            // Content-addressed names never change; legacy names are revalidated daily
+            CacheControl cacheControl = picture.immutable()
+                    ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+                    : CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic();
+            if (webRequest.checkNotModified(picture.etag(), picture.lastModified().toEpochMilli())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(picture.etag())
+                        .cacheControl(cacheControl)
+                        .build();
+            }
             return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .body(imageData);
+                    .contentType(MediaType.parseMediaType(picture.contentType()))
+                    .contentLength(picture.size())
+                    .eTag(picture.etag())
+                    .lastModified(picture.lastModified())
+                    .cacheControl(cacheControl)
+                    .body(picture.content());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         } catch (IOException e) {
@@ -4,6 +4,7 @@ import com.pomodify.backend.application.command.dashboard.DashboardCommand;
 import com.pomodify.backend.application.service.DashboardService;
 import com.pomodify.backend.application.helper.UserHelper;
 import com.pomodify.backend.presentation.dto.response.DashboardResponse;
+import com.pomodify.backend.presentation.dto.response.HeatmapResponse;
 import com.pomodify.backend.presentation.mapper.DashboardMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -51,6 +52,28 @@ public class DashboardController {
             )
             @org.springframework.web.bind.annotation.RequestParam(name = "layout", defaultValue = "compact") String layout
     ) {
+        DashboardCommand cmd = DashboardCommand.of(resolveUserId(jwt), ZoneId.of(timezone));
+        return dashboardMapper.toResponse(dashboardService.getDashboard(cmd), layout);
+    }
+
+        @GetMapping("/heatmap")
+        @Operation(
+            summary = "Get focus heatmap",
+            description = "Returns the focus days of the last 365 days with the current and best streak."
+        )
+        public HeatmapResponse getHeatmap(
+            @AuthenticationPrincipal org.springframework.security.oauth2.jwt.Jwt jwt,
+            @Parameter(
+                name = "X-Timezone",
+                description = "IANA timezone ID used to determine today (e.g. Asia/Manila)",
+                in = ParameterIn.HEADER
+            )
+            @org.springframework.web.bind.annotation.RequestHeader(value = "X-Timezone", defaultValue = "Asia/Manila") String timezone
+    ) {
+        return dashboardMapper.toHeatmapResponse(dashboardService.getHeatmap(resolveUserId(jwt), ZoneId.of(timezone)));
+    }
+
+    private Long resolveUserId(Jwt jwt) {
         // Resolve Jwt from parameter or SecurityContext (tests may set principal directly)
         Jwt resolvedJwt = jwt;
         if (resolvedJwt == null) {
@@ -71,7 +94,6 @@ public class DashboardController {
             // Treat missing/invalid JWT claim as unauthorized
             throw new org.springframework.security.access.AccessDeniedException("Unauthorized: invalid user claim");
         }
-        DashboardCommand cmd = DashboardCommand.of(userId, ZoneId.of(timezone));
-        return dashboardMapper.toResponse(dashboardService.getDashboard(cmd), layout);
+        return userId;
     }
 }
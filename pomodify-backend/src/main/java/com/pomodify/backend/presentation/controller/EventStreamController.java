@@ -0,0 +1,47 @@
+package com.pomodify.backend.presentation.controller;
+
+import com.pomodify.backend.application.helper.UserHelper;
+import com.pomodify.backend.presentation.sse.SseHub;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/events")
+@RequiredArgsConstructor
+@Tag(name = "Events", description = "Real-time event stream for the current user")
+public class EventStreamController {
+
+    private final SseHub sseHub;
+    private final UserHelper userHelper;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Subscribe to user events",
+        description = "One Server-Sent Events stream per user carrying phase-change, session-completed, badge-awarded and settings-changed events for all of the user's sessions. Reconnect with Last-Event-ID to replay recently missed events."
+    )
+    public SseEmitter stream(
+            @AuthenticationPrincipal Jwt jwt,
+            @Parameter(name = "Last-Event-ID", description = "Id of the last event received, sent automatically by EventSource on reconnect", in = ParameterIn.HEADER)
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        if (jwt == null) {
+            throw new AuthenticationCredentialsNotFoundException("Missing authentication token");
+        }
+        Long userId = userHelper.extractUserId(jwt);
+        if (userId == null) {
+            throw new AuthenticationCredentialsNotFoundException("Invalid user claim");
+        }
+        return sseHub.subscribeToUser(userId, lastEventId);
+    }
+}
@@ -1,5 +1,6 @@
 package com.pomodify.backend.presentation.controller;
 
+import com.pomodify.backend.application.service.NotificationProfileService;
 import com.pomodify.backend.application.service.PushNotificationService;
 import com.pomodify.backend.domain.model.UserPushToken;
 import com.pomodify.backend.domain.repository.UserPushTokenRepository;
@@ -21,6 +22,7 @@ public class PushController {
 
     private final UserPushTokenRepository tokenRepo;
     private final PushNotificationService pushNotificationService;
+    private final NotificationProfileService notificationProfileService;
 
     @PostMapping("/register-token")
     @Operation(summary = "Register or update push token")
@@ -63,6 +65,7 @@ public class PushController {
                     .build();
             tokenRepo.save(upt);
         });
+        notificationProfileService.invalidate(finalUserId);
 
         return ResponseEntity.ok("Token registered");
     }
@@ -84,6 +87,7 @@ public class PushController {
             return ResponseEntity.status(401).body("Invalid user claim");
         }
         tokenRepo.deleteByUserId(userId);
+        notificationProfileService.invalidate(userId);
         return ResponseEntity.ok("Token unregistered");
     }
 
@@ -113,6 +117,7 @@ public class PushController {
                 .map(u -> {
                     u.setEnabled(true);
                     tokenRepo.save(u);
+                    notificationProfileService.invalidate(userId);
                     return ResponseEntity.ok("Push enabled");
                 })
                 .orElseGet(() -> ResponseEntity.badRequest().body("No token registered"));
@@ -128,6 +133,7 @@ public class PushController {
                 .map(u -> {
                     u.setEnabled(false);
                     tokenRepo.save(u);
+                    notificationProfileService.invalidate(userId);
                     return ResponseEntity.ok("Push disabled");
                 })
                 .orElseGet(() -> ResponseEntity.badRequest().body("No token registered"));
@@ -9,6 +9,7 @@ import com.pomodify.backend.presentation.dto.request.session.SessionRequest;
 import com.pomodify.backend.presentation.dto.request.session.UpdateSessionRequest;
 import com.pomodify.backend.presentation.dto.response.SessionResponse;
 import com.pomodify.backend.presentation.mapper.SessionMapper;
+import com.pomodify.backend.presentation.sse.SseHub;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -28,10 +29,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 @Slf4j
 @RestController
 @RequestMapping("/activities/{activityId}/sessions")
@@ -40,11 +38,12 @@ public class SessionController {
 
     private static final Logger logger = LoggerFactory.getLogger(SessionController.class);
 
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
     private final SessionService sessionService;
+    private final SseHub sseHub;
 
-    public SessionController(SessionService sessionService) {
+    public SessionController(SessionService sessionService, SseHub sseHub) {
             this.sessionService = sessionService;
+            this.sseHub = sseHub;
     }
 
     // ───── CRUD Operations ─────
@@ -239,7 +238,6 @@ public class SessionController {
                                                                                                                 @RequestParam(required = false) String note) {
         Long userId = requireUserId(jwt);
             SessionItem item = SessionMapper.toItem(sessionService.completePhase(CompletePhaseCommand.builder().user(userId).sessionId(id).note(note).build()));
-            notifyPhaseChange(id, item);
             String msg = "COMPLETED".equals(item.status()) ? "Session completed successfully" : "Phase completed: " + item.currentPhase();
             return ResponseEntity.ok(SessionMapper.toResponse(item, msg));
     }
@@ -389,39 +387,11 @@ public class SessionController {
     // ───── Server-Sent Events (SSE) ─────
 
     @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to session events", description = "Server-Sent Events for one session. Prefer GET /events, which carries all of the user's events on one connection.", deprecated = true)
     public SseEmitter subscribeToSessionEvents(@PathVariable Long activityId,
                                             @PathVariable Long id) {
         log.info("Client subscribing to events for session: {}", id);
-
-        SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
-        emitters.put(id, emitter);
-
-        emitter.onCompletion(() -> {
-            log.info("SSE completed for session: {}", id);
-            emitters.remove(id);
-        });
-
-        emitter.onTimeout(() -> {
-            log.warn("SSE timeout for session: {}", id);
-            emitters.remove(id);
-        });
-
-        emitter.onError((ex) -> {
-            log.error("SSE error for session: {}", id, ex);
-            emitters.remove(id);
-        });
-
-        // Send initial connection confirmation
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("connected")
-                    .data("Connected to session " + id + " events"));
-        } catch (IOException e) {
-            log.error("Error sending initial SSE event", e);
-            emitter.completeWithError(e);
-        }
-
-        return emitter;
+        return sseHub.subscribeToSession(id);
     }
 
     private Long requireUserId(Jwt jwt) {
@@ -444,29 +414,4 @@ public class SessionController {
         // Fallback for dev mode
         return 1L;
     }
-
-    private void notifyPhaseChange(Long sessionId, SessionItem session) {
-        SseEmitter emitter = emitters.get(sessionId);
-        if (emitter != null) {
-            try {
-                Map<String, Object> eventData = new HashMap<>();
-                eventData.put("sessionId", session.id());
-                eventData.put("currentPhase", session.currentPhase());
-                eventData.put("cyclesCompleted", session.cyclesCompleted());
-                eventData.put("totalCycles", session.cycles());
-                eventData.put("status", session.status());
-                eventData.put("timestamp", LocalDateTime.now());
-
-                emitter.send(SseEmitter.event()
-                        .name("phase-change")
-                        .data(eventData));
-
-                log.info("SSE notification sent for session: {}", sessionId);
-            } catch (IOException e) {
-                log.error("Error sending SSE notification", e);
-                emitter.completeWithError(e);
-                emitters.remove(sessionId);
-            }
-        }
-    }       
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.pomodify.backend.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeatmapResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private List<LocalDate> focusDays;
+    private int focusDayCount;
+    private int currentStreak;
+    private int bestStreak;
+}
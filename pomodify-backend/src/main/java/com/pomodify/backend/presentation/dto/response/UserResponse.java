@@ -6,5 +6,8 @@ public record UserResponse(
         String email,
         boolean isEmailVerified,
         String backupEmail,
-        String profilePictureUrl
+        String profilePictureUrl,
+        String profilePictureThumbUrl,
+        // Set while an uploaded picture is still being processed; cleared once it lands or fails
+        String profilePictureUploadId
 ) {}
\ No newline at end of file
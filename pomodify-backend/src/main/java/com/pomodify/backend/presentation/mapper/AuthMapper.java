@@ -17,7 +17,9 @@ public class AuthMapper {
             result.email(),
             result.isEmailVerified(),
             null, // backupEmail not available in auth context
-            null  // profilePictureUrl not available in auth context
+            null, // profilePictureUrl not available in auth context
+            null, // profilePictureThumbUrl not available in auth context
+            null  // profilePictureUploadId not available in auth context
         );
 
         return new AuthResponse(
@@ -1,8 +1,10 @@
 package com.pomodify.backend.presentation.mapper;
 
 import com.pomodify.backend.application.result.DashboardResult;
+import com.pomodify.backend.application.result.HeatmapResult;
 import com.pomodify.backend.presentation.dto.item.RecentSessionItem;
 import com.pomodify.backend.presentation.dto.response.DashboardResponse;
+import com.pomodify.backend.presentation.dto.response.HeatmapResponse;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -45,6 +47,17 @@ public class DashboardMapper {
                 .build();
     }
 
+    public HeatmapResponse toHeatmapResponse(HeatmapResult r) {
+        return HeatmapResponse.builder()
+                .from(r.getFrom())
+                .to(r.getTo())
+                .focusDays(r.getFocusDays())
+                .focusDayCount(r.getFocusDayCount())
+                .currentStreak(r.getCurrentStreak())
+                .bestStreak(r.getBestStreak())
+                .build();
+    }
+
     private String resolveNotePreview(String content, String layout) {
         if (content == null) return null;
         if (layout == null || layout.equalsIgnoreCase("compact")) {
@@ -15,7 +15,9 @@ public class UserMapper {
                 result.email(),
                 result.isEmailVerified(),
                 result.backupEmail(),
-                result.profilePictureUrl()
+                result.profilePictureUrl(),
+                result.profilePictureThumbUrl(),
+                result.profilePictureUploadId()
         );
     }
 }
@@ -0,0 +1,320 @@
+package com.pomodify.backend.presentation.sse;
+
+import com.pomodify.backend.application.port.out.UserEventBus;
+import com.pomodify.backend.application.port.out.UserEventBus.UserEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans out {@link UserEventBus} events to the SSE connections held by this node.
+ *
+ * <p>Clients either watch one session or, preferably, hold a single per-user stream that carries
+ * all of the user's events. The per-user stream supports {@code Last-Event-ID}: the last
+ * {@code app.sse.replay-size} events of each user are kept in memory and resent on reconnect; if
+ * the client missed more than that, or its last event predates the buffer (expired, evicted, or
+ * held by another node before a failover or restart), it gets a {@code resync} event telling it to
+ * reload state.
+ *
+ * <p>Any number of connections may watch the same session or user (several tabs or devices). Each
+ * connection gets a bounded send buffer drained by a shared pool of sender threads, so one slow
+ * client never delays the others: when its buffer is full it is disconnected and the browser's
+ * EventSource reconnects. Idle connections get a heartbeat comment so proxies keep them open.
+ */
+@Component
+@Slf4j
+public class SseHub {
+
+    private final Map<String, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+    private final Counter evictions;
+    private final Cache<Long, ReplayBuffer> replayBuffers;
+    private final int replaySize;
+
+    @Value("${app.sse.timeout-ms:1800000}")
+    private long timeoutMillis = 1_800_000;
+
+    @Value("${app.sse.buffer-size:32}")
+    private int bufferSize = 32;
+
+    public SseHub(UserEventBus userEventBus,
+                  MeterRegistry meterRegistry,
+                  @Value("${app.sse.sender-threads:4}") int senderThreads,
+                  @Value("${app.sse.replay-size:50}") int replaySize,
+                  @Value("${app.sse.replay-ttl-ms:300000}") long replayTtlMillis) {
+        this.replaySize = replaySize;
+        // Bounded by user count and idle time. A recreated buffer only vouches for events from its
+        // creation on, so a reconnect whose Last-Event-ID is older than that gets a resync
+        this.replayBuffers = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterAccess(Duration.ofMillis(replayTtlMillis))
+                .build();
+        AtomicInteger counter = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "sse-sender-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.evictions = Counter.builder("pomodify.sse.evicted")
+                .description("SSE connections dropped because their send buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("pomodify.sse.connections", this, SseHub::connectionCount).register(meterRegistry);
+        userEventBus.subscribe(this::onUserEvent);
+    }
+
+    public SseEmitter subscribeToSession(Long sessionId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        register(sessionTopic(sessionId), emitter)
+                .enqueue(Frame.event(null, "connected", "Connected to session " + sessionId + " events"));
+        return emitter;
+    }
+
+    /**
+     * Opens the user's event stream. With {@code lastEventId} from a previous connection, events the
+     * client missed are replayed first; registration and replay happen under the replay buffer's lock
+     * so no live event is lost or sent twice in between.
+     */
+    public SseEmitter subscribeToUser(Long userId, String lastEventId) {
+        return subscribeToUser(userId, lastEventId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribeToUser(Long userId, String lastEventId, SseEmitter emitter) {
+        // Without a buffer this node has seen none of the user's recent events
+        ReplayBuffer replay = replayBuffer(userId, System.currentTimeMillis() * 1000);
+        synchronized (replay) {
+            List<Frame> missed = List.of();
+            Long after = parseEventId(lastEventId);
+            if (after != null) {
+                missed = replay.since(after);
+                if (replay.lostSince(after)) {
+                    missed = List.of(Frame.event(null, "resync", Map.of("reason", "replay window exceeded")));
+                }
+            }
+            Subscription subscription = register(userTopic(userId), emitter, bufferSize + missed.size() + 1);
+            subscription.enqueue(Frame.event(null, "connected", "Connected to user events"));
+            missed.forEach(subscription::enqueue);
+        }
+        return emitter;
+    }
+
+    Subscription register(String topic, SseEmitter emitter) {
+        return register(topic, emitter, bufferSize);
+    }
+
+    private Subscription register(String topic, SseEmitter emitter, int capacity) {
+        Subscription subscription = new Subscription(topic, emitter, new ArrayBlockingQueue<>(capacity));
+        subscriptions.compute(topic, (t, set) -> {
+            Set<Subscription> subscribers = set != null ? set : ConcurrentHashMap.newKeySet();
+            subscribers.add(subscription);
+            return subscribers;
+        });
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(ex -> subscription.close());
+        return subscription;
+    }
+
+    void onUserEvent(UserEvent event) {
+        Frame frame = Frame.event(String.valueOf(event.id()), event.type(), event.data());
+        if (event.sessionId() != null) {
+            broadcast(sessionTopic(event.sessionId()), frame);
+        }
+        if (event.userId() != null) {
+            ReplayBuffer replay = replayBuffer(event.userId(), event.id() - 1);
+            synchronized (replay) {
+                replay.add(event.id(), frame);
+                broadcast(userTopic(event.userId()), frame);
+            }
+        }
+    }
+
+    void broadcast(String topic, Frame frame) {
+        Set<Subscription> subscribers = subscriptions.get(topic);
+        if (subscribers != null) {
+            subscribers.forEach(s -> s.enqueue(frame));
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        Frame ping = new Frame(null, null, null, "heartbeat");
+        subscriptions.values().forEach(set -> set.forEach(s -> s.enqueue(ping)));
+    }
+
+    public int connectionCount() {
+        return subscriptions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.values().forEach(set -> set.forEach(s -> s.emitter.complete()));
+        senders.shutdownNow();
+    }
+
+    private ReplayBuffer replayBuffer(Long userId, long completeAfter) {
+        return replayBuffers.get(userId, id -> new ReplayBuffer(replaySize, completeAfter));
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String sessionTopic(Long sessionId) {
+        return "session:" + sessionId;
+    }
+
+    private static String userTopic(Long userId) {
+        return "user:" + userId;
+    }
+
+    /** One SSE frame: a named event with data, or a bare comment (heartbeat). */
+    record Frame(String id, String name, Object data, String comment) {
+        static Frame event(String id, String name, Object data) {
+            return new Frame(id, name, data, null);
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event();
+            if (comment != null) {
+                return builder.comment(comment);
+            }
+            if (id != null) {
+                builder.id(id);
+            }
+            return builder.name(name).data(data);
+        }
+    }
+
+    /**
+     * The most recent events of one user; callers synchronize on the instance. Every event with an id
+     * above {@code completeAfter} is retained: it starts just below the first event the buffer saw (or
+     * at the current time, as event ids are microseconds since the epoch, when a reconnect created it)
+     * and moves up as old events are dropped.
+     */
+    static final class ReplayBuffer {
+        private final int capacity;
+        private final Deque<Map.Entry<Long, Frame>> events = new ArrayDeque<>();
+        private long completeAfter;
+
+        ReplayBuffer(int capacity, long completeAfter) {
+            this.capacity = capacity;
+            this.completeAfter = completeAfter;
+        }
+
+        void add(long id, Frame frame) {
+            if (events.size() == capacity) {
+                completeAfter = Math.max(completeAfter, events.removeFirst().getKey());
+            }
+            events.addLast(Map.entry(id, frame));
+        }
+
+        List<Frame> since(long lastEventId) {
+            return events.stream()
+                    .filter(e -> e.getKey() > lastEventId)
+                    .map(Map.Entry::getValue)
+                    .toList();
+        }
+
+        /**
+         * True if an event newer than {@code lastEventId} may be missing: it was dropped, or it was
+         * published before this buffer existed.
+         */
+        boolean lostSince(long lastEventId) {
+            return lastEventId < completeAfter;
+        }
+    }
+
+    final class Subscription {
+        private final String topic;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> buffer;
+        private final AtomicBoolean flushing = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscription(String topic, SseEmitter emitter, BlockingQueue<Frame> buffer) {
+            this.topic = topic;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        void enqueue(Frame frame) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(frame)) {
+                log.warn("SSE client on {} is not keeping up; disconnecting", topic);
+                evictions.increment();
+                close();
+                emitter.complete();
+                return;
+            }
+            scheduleFlush();
+        }
+
+        private void scheduleFlush() {
+            if (flushing.compareAndSet(false, true)) {
+                senders.execute(this::flush);
+            }
+        }
+
+        private void flush() {
+            try {
+                Frame frame;
+                while (!closed && (frame = buffer.poll()) != null) {
+                    emitter.send(frame.toEvent());
+                }
+            } catch (Exception e) {
+                // Client went away; the container reports completion separately
+                log.debug("SSE send on {} failed: {}", topic, e.getMessage());
+                close();
+            } finally {
+                flushing.set(false);
+                if (!closed && !buffer.isEmpty()) {
+                    scheduleFlush();
+                }
+            }
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        void close() {
+            closed = true;
+            buffer.clear();
+            subscriptions.computeIfPresent(topic, (t, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+}
@@ -0,0 +1,21 @@
+-- =====================================================
+-- V19 Migration - Per-day focus statistics rollup
+-- One row per (user, day, activity), incremented when a
+-- session is completed or abandoned. Populate existing data
+-- by starting the app once with APP_STATS_BACKFILL_ON_STARTUP=true
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS focus_daily_stat (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    stat_date DATE NOT NULL,
+    activity_id BIGINT NOT NULL,
+    focus_seconds BIGINT NOT NULL DEFAULT 0,
+    break_seconds BIGINT NOT NULL DEFAULT 0,
+    completed_sessions INTEGER NOT NULL DEFAULT 0,
+    abandoned_sessions INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT unique_focus_daily_stat UNIQUE (user_id, stat_date, activity_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_focus_daily_stat_user_date ON focus_daily_stat (user_id, stat_date);
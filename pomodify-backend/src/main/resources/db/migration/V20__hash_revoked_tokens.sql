@@ -0,0 +1,25 @@
+-- =====================================================
+-- V20 Migration - Store revoked tokens as fixed-width hashes
+-- Replaces the raw token (which did not fit VARCHAR(255) for
+-- longer JWTs) with its hex SHA-256, and records the token's
+-- own expiry so expired rows can be purged by RevokedTokenPurgeJob.
+-- Existing rows get revoked_at + 30 days, an upper bound on the
+-- refresh-token lifetime; the purge job removes them afterwards.
+-- =====================================================
+
+ALTER TABLE revoked_tokens ADD COLUMN IF NOT EXISTS token_hash VARCHAR(64);
+ALTER TABLE revoked_tokens ADD COLUMN IF NOT EXISTS expires_at TIMESTAMP(6);
+
+UPDATE revoked_tokens
+SET token_hash = encode(sha256(convert_to(token, 'UTF8')), 'hex'),
+    expires_at = COALESCE(revoked_at, CURRENT_TIMESTAMP) + INTERVAL '30 days'
+WHERE token_hash IS NULL;
+
+ALTER TABLE revoked_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE revoked_tokens ALTER COLUMN expires_at SET NOT NULL;
+ALTER TABLE revoked_tokens ADD CONSTRAINT unique_revoked_tokens_token_hash UNIQUE (token_hash);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+
+ALTER TABLE revoked_tokens DROP COLUMN IF EXISTS token;
@@ -0,0 +1,24 @@
+-- =====================================================
+-- V21 Migration - Transactional outbox for push notifications
+-- Rows are inserted in the same transaction as the session
+-- change that triggers them and delivered asynchronously by
+-- NotificationOutboxDispatcher (retry with backoff, DEAD after
+-- max attempts). Processed rows are purged after retention.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    body VARCHAR(1000) NOT NULL,
+    status VARCHAR(16) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_due ON notification_outbox (status, next_attempt_at);
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_processed ON notification_outbox (processed_at)
+    WHERE status IN ('SENT', 'SKIPPED');
@@ -0,0 +1,15 @@
+-- =====================================================
+-- V22 Migration - Persisted streak state per user
+-- Advanced on each session completion so badge checks and
+-- the dashboard no longer scan session history. Filled by
+-- FocusStatsBackfillJob on the first deploy and recomputed
+-- nightly by StreakRepairJob.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS user_streak (
+    user_id BIGINT PRIMARY KEY,
+    last_focus_day DATE NOT NULL,
+    current_streak INTEGER NOT NULL,
+    best_streak INTEGER NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
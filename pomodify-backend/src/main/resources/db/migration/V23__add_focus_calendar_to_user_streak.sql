@@ -0,0 +1,10 @@
+-- =====================================================
+-- V23 Migration - Focus-day bitmap per user
+-- One bit per day from calendar_origin (aligned to 64 days),
+-- stored as little-endian 64-bit words: day d is bit
+-- (d - origin) % 8 of byte (d - origin) / 8. Written with
+-- the rest of the row by FocusStatsService.rebuildStreaks.
+-- =====================================================
+
+ALTER TABLE user_streak ADD COLUMN IF NOT EXISTS calendar_origin DATE;
+ALTER TABLE user_streak ADD COLUMN IF NOT EXISTS focus_calendar BYTEA;
@@ -0,0 +1,20 @@
+-- =====================================================
+-- V24 Migration - Indexed admin user search
+-- Admin search matches lower(first_name || ' ' || last_name || ' ' || email)
+-- with LIKE '%term%' (SpringUserJpaRepository.searchActivePage).
+-- A pg_trgm GIN index serves those substring matches. Where the
+-- extension cannot be created, search stays unindexed (a B-tree
+-- cannot serve a leading wildcard) and the migration says so with
+-- a NOTICE. Pages are keyset-ordered by id, which the primary key
+-- already covers.
+-- =====================================================
+
+DO $$
+BEGIN
+    CREATE EXTENSION IF NOT EXISTS pg_trgm;
+    CREATE INDEX IF NOT EXISTS idx_app_user_search_trgm
+        ON app_user USING gin (lower(first_name || ' ' || last_name || ' ' || email) gin_trgm_ops);
+EXCEPTION WHEN insufficient_privilege OR undefined_file THEN
+    RAISE NOTICE 'pg_trgm unavailable (%): admin user search will scan app_user', SQLERRM;
+END
+$$;
@@ -0,0 +1,10 @@
+-- =====================================================
+-- V25 Migration - Small profile picture rendition
+-- Uploads are processed off the request thread into 48/96/400px
+-- renditions; list views use the smallest one. The pending
+-- upload id lets only the latest upload switch the picture,
+-- and is cleared when the picture is deleted.
+-- =====================================================
+
+ALTER TABLE app_user ADD COLUMN IF NOT EXISTS profile_picture_thumb_url VARCHAR(500);
+ALTER TABLE app_user ADD COLUMN IF NOT EXISTS profile_picture_upload_id VARCHAR(36);
@@ -32,4 +32,14 @@ class UserSettingsChangedListenerTest {
         verify(repo).save(captor.capture());
         assertFalse(captor.getValue().isEnabled());
     }
+
+    @Test
+    void ignoresChangesThatDoNotToggleNotifications() {
+        UserPushTokenRepository repo = Mockito.mock(UserPushTokenRepository.class);
+        UserSettingsChangedListener listener = new UserSettingsChangedListener(repo);
+
+        listener.onSettingsChanged(new UserSettingsChangedEvent(this, 201L, true, false));
+
+        verifyNoInteractions(repo);
+    }
 }
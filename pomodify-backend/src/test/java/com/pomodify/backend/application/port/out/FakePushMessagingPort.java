@@ -0,0 +1,44 @@
+package com.pomodify.backend.application.port.out;
+
+import com.google.firebase.messaging.Message;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * In-memory stand-in for FCM. Records every batch it is handed and answers with scripted
+ * per-message outcomes, in order, defaulting to SENT once the script runs out.
+ */
+public class FakePushMessagingPort implements PushMessagingPort {
+
+    private final Deque<SendOutcome> script = new ArrayDeque<>();
+    private final List<List<Message>> batches = new ArrayList<>();
+
+    public FakePushMessagingPort thenAnswer(Status status) {
+        script.add(new SendOutcome(status, status == Status.SENT ? null : status.name()));
+        return this;
+    }
+
+    @Override
+    public List<SendOutcome> sendEach(List<Message> messages) {
+        for (int from = 0; from < messages.size(); from += MAX_BATCH_SIZE) {
+            batches.add(List.copyOf(messages.subList(from, Math.min(from + MAX_BATCH_SIZE, messages.size()))));
+        }
+        List<SendOutcome> outcomes = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            SendOutcome next = script.poll();
+            outcomes.add(next != null ? next : SendOutcome.sent());
+        }
+        return outcomes;
+    }
+
+    public List<List<Message>> batches() {
+        return batches;
+    }
+
+    public int sentCount() {
+        return batches.stream().mapToInt(List::size).sum();
+    }
+}
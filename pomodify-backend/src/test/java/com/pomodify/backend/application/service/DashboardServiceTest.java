@@ -2,13 +2,11 @@ package com.pomodify.backend.application.service;
 
 import com.pomodify.backend.application.command.dashboard.DashboardCommand;
 import com.pomodify.backend.application.result.DashboardResult;
-import com.pomodify.backend.domain.enums.SessionStatus;
-import com.pomodify.backend.domain.model.Activity;
-import com.pomodify.backend.domain.model.PomodoroSession;
-import com.pomodify.backend.domain.model.User;
-import com.pomodify.backend.domain.repository.ActivityRepository;
+import com.pomodify.backend.application.result.HeatmapResult;
+import com.pomodify.backend.domain.model.UserStreak;
+import com.pomodify.backend.domain.repository.DashboardReadRepository;
 import com.pomodify.backend.domain.repository.PomodoroSessionRepository;
-import com.pomodify.backend.domain.repository.UserRepository;
+import com.pomodify.backend.domain.repository.UserStreakRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -16,6 +14,7 @@ import com.pomodify.backend.application.service.BadgeService;
 import org.mockito.MockitoAnnotations;
 
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
@@ -27,84 +26,90 @@ import static org.mockito.Mockito.when;
 
 public class DashboardServiceTest {
 
-    @Mock private UserRepository userRepository;
-    @Mock private ActivityRepository activityRepository;
-        @Mock private PomodoroSessionRepository sessionRepository;
-        @Mock private BadgeService badgeService;
+    @Mock private DashboardReadRepository dashboardReadRepository;
+    @Mock private PomodoroSessionRepository sessionRepository;
+    @Mock private BadgeService badgeService;
+    @Mock private UserStreakRepository streakRepository;
 
     private DashboardService service;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        service = new DashboardService(userRepository, activityRepository, sessionRepository, badgeService);
+        service = new DashboardService(dashboardReadRepository, sessionRepository, badgeService, streakRepository);
     }
 
     @Test
     void aggregates_totals_focus_and_streaks_with_recent_sessions() {
         Long userId = 42L;
         ZoneId zone = ZoneId.systemDefault();
-        User user = User.builder()
-                .id(userId)
-                .firstName("A")
-                .lastName("B")
-                .passwordHash("x")
-                .email(new com.pomodify.backend.domain.valueobject.Email("a@b.com"))
-                .authProvider(com.pomodify.backend.domain.enums.AuthProvider.LOCAL)
-                .build();
-
-        when(userRepository.findUser(userId)).thenReturn(Optional.of(user));
-        when(activityRepository.countActivities(userId, false, null)).thenReturn(3L);
-
-        Activity act = user.createActivity("Test", null, null, null);
-
-        // Completed yesterday and today for a 2-day streak
-        PomodoroSession sYesterday = PomodoroSession.builder()
-                .id(10L)
-                .activity(act)
-                .focusDuration(Duration.ofMinutes(25))
-                .breakDuration(Duration.ofMinutes(5))
-                .cyclesCompleted(4)
-                .status(SessionStatus.COMPLETED)
-                .completedAt(LocalDateTime.now(zone).minusDays(1))
-                .build();
-
-        PomodoroSession sToday = PomodoroSession.builder()
-                .id(11L)
-                .activity(act)
-                .focusDuration(Duration.ofMinutes(25))
-                .breakDuration(Duration.ofMinutes(5))
-                .cyclesCompleted(2)
-                .status(SessionStatus.COMPLETED)
-                .completedAt(LocalDateTime.now(zone))
-                .build();
-
-        // Stubs: the service computes date ranges; we return matching lists regardless of boundaries
-        when(sessionRepository.findCompletedByUserIdBetween(eq(userId), any(), any()))
-                .thenReturn(List.of(sToday)) // first call (today)
-                .thenReturn(List.of(sYesterday, sToday)); // second call (this week)
-
-        when(sessionRepository.findCompletedByUserId(userId)).thenReturn(List.of(sYesterday, sToday));
-        when(sessionRepository.findRecentCompletedByUserId(userId, 5)).thenReturn(List.of(sToday, sYesterday));
-        DashboardCommand cmd = DashboardCommand.of(userId, zone);
-        DashboardResult result = service.getDashboard(cmd);
-
+        LocalDate today = LocalDate.now(zone);
         long focusPerCycle = Duration.ofMinutes(25).getSeconds();
-        long todayFocus = 2 * focusPerCycle;
-        long weekFocus = (2 + 4) * focusPerCycle;
+
+        DashboardReadRepository.Windows windows = new DashboardReadRepository.Windows(
+                today, today.with(java.time.DayOfWeek.MONDAY), today.with(java.time.DayOfWeek.MONDAY).plusDays(6), today.minusDays(6));
+        when(dashboardReadRepository.loadTotals(userId, windows)).thenReturn(Optional.of(
+                new DashboardReadRepository.DashboardTotals(true, 3L, 2L,
+                        6 * focusPerCycle, 2 * focusPerCycle, 6 * focusPerCycle, 2L,
+                        2, 5, "Test", 6 * focusPerCycle)));
+        when(dashboardReadRepository.findRecentCompleted(userId, 5)).thenReturn(List.of(
+                new DashboardReadRepository.RecentSession(11L, 7L, "Test", LocalDateTime.now(zone), 2, 2 * focusPerCycle, "note"),
+                new DashboardReadRepository.RecentSession(10L, 7L, "Test", LocalDateTime.now(zone).minusDays(1), 4, 4 * focusPerCycle, null)));
+
+        DashboardResult result = service.getDashboard(DashboardCommand.of(userId, zone));
 
         assertEquals(3L, result.getTotalActivities());
         assertEquals(2L, result.getTotalSessions());
+        assertEquals(2 * focusPerCycle, result.getFocusSecondsToday());
+        assertEquals(6 * focusPerCycle, result.getFocusSecondsThisWeek());
+        assertEquals(6 * focusPerCycle, result.getFocusSecondsAllTime());
+
+        assertEquals(2, result.getCurrentStreak());
+        assertEquals(5, result.getBestStreak());
+        // 2 of the last 7 days, plus the streak boost
+        assertEquals(38.6, result.getConsistencyScore());
+        assertEquals("Test (2.5h)", result.getTopActivityName());
+
+        assertEquals(2, result.getRecentSessions().size());
+        assertEquals(11L, result.getRecentSessions().get(0).getId());
+        assertEquals("note", result.getRecentSessions().get(0).getNotePreview());
+        assertEquals(10L, result.getRecentSessions().get(1).getId());
+    }
+
+    @Test
+    void unknown_user_is_rejected() {
+        when(dashboardReadRepository.loadTotals(eq(99L), any())).thenReturn(Optional.empty());
 
-        assertEquals(todayFocus, result.getFocusSecondsToday());
-        assertEquals(weekFocus, result.getFocusSecondsThisWeek());
-        assertEquals(weekFocus, result.getFocusSecondsAllTime());
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getDashboard(DashboardCommand.of(99L, ZoneId.systemDefault())));
+    }
 
+    @Test
+    void heatmap_lists_focus_days_of_the_last_year() {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        UserStreak streak = UserStreak.firstDay(42L, today.minusDays(400));
+        streak.recordFocusDay(today.minusDays(3));
+        streak.recordFocusDay(today.minusDays(1));
+        streak.recordFocusDay(today);
+        when(streakRepository.findByUserId(42L)).thenReturn(Optional.of(streak));
+
+        HeatmapResult result = service.getHeatmap(42L, zone);
+
+        assertEquals(today.minusDays(364), result.getFrom());
+        assertEquals(List.of(today.minusDays(3), today.minusDays(1), today), result.getFocusDays());
+        assertEquals(3, result.getFocusDayCount());
         assertEquals(2, result.getCurrentStreak());
         assertEquals(2, result.getBestStreak());
+    }
 
-        assertEquals(2, result.getRecentSessions().size());
-        assertEquals(sToday.getId(), result.getRecentSessions().get(0).getId());
-        assertEquals(sYesterday.getId(), result.getRecentSessions().get(1).getId());
+    @Test
+    void heatmap_is_empty_without_focus_history() {
+        when(streakRepository.findByUserId(7L)).thenReturn(Optional.empty());
+
+        HeatmapResult result = service.getHeatmap(7L, ZoneId.systemDefault());
+
+        assertTrue(result.getFocusDays().isEmpty());
+        assertEquals(0, result.getCurrentStreak());
     }
 }
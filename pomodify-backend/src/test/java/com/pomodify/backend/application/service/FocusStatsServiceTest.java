@@ -0,0 +1,133 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.domain.enums.AuthProvider;
+import com.pomodify.backend.domain.enums.SessionStatus;
+import com.pomodify.backend.domain.model.Activity;
+import com.pomodify.backend.domain.model.FocusDailyStat;
+import com.pomodify.backend.domain.model.PomodoroSession;
+import com.pomodify.backend.domain.model.User;
+import com.pomodify.backend.domain.model.UserStreak;
+import com.pomodify.backend.domain.repository.FocusDailyStatRepository;
+import com.pomodify.backend.domain.repository.PomodoroSessionRepository;
+import com.pomodify.backend.domain.repository.UserStreakRepository;
+import com.pomodify.backend.domain.valueobject.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class FocusStatsServiceTest {
+
+    private FocusDailyStatRepository focusStatRepository;
+    private PomodoroSessionRepository sessionRepository;
+    private UserStreakRepository streakRepository;
+    private FocusStatsService service;
+    private Activity activity;
+
+    @BeforeEach
+    void setUp() {
+        focusStatRepository = mock(FocusDailyStatRepository.class);
+        sessionRepository = mock(PomodoroSessionRepository.class);
+        streakRepository = mock(UserStreakRepository.class);
+        service = new FocusStatsService(focusStatRepository, sessionRepository, streakRepository);
+
+        User user = User.builder()
+                .id(7L)
+                .firstName("A")
+                .lastName("B")
+                .passwordHash("x")
+                .email(new Email("a@b.com"))
+                .authProvider(AuthProvider.LOCAL)
+                .build();
+        activity = spy(user.createActivity("Reading", null, null, null));
+        doReturn(3L).when(activity).getId();
+    }
+
+    @Test
+    void records_completed_session_on_its_completion_day() {
+        LocalDateTime completedAt = LocalDateTime.of(2025, 3, 10, 21, 15);
+        PomodoroSession session = completed(2, completedAt);
+
+        service.recordSessionCompleted(session);
+
+        verify(focusStatRepository).increment(7L, completedAt.toLocalDate(), 3L,
+                2 * 25 * 60L, 2 * 5 * 60L, 1, 0);
+        verify(streakRepository).recordFocusDay(7L, completedAt.toLocalDate());
+    }
+
+    @Test
+    void rebuild_streaks_recomputes_existing_and_new_rows_from_focus_days() {
+        LocalDate monday = LocalDate.of(2025, 3, 10);
+        UserStreak stale = UserStreak.firstDay(7L, monday.minusDays(30));
+        when(focusStatRepository.findFocusDays(List.of(7L, 8L))).thenReturn(List.of(
+                new FocusDailyStatRepository.UserFocusDay(7L, monday),
+                new FocusDailyStatRepository.UserFocusDay(7L, monday.plusDays(1)),
+                new FocusDailyStatRepository.UserFocusDay(7L, monday.plusDays(2)),
+                new FocusDailyStatRepository.UserFocusDay(8L, monday.plusDays(5))));
+        when(streakRepository.findAllByUserIdsForUpdate(anyCollection())).thenReturn(List.of(stale));
+
+        int users = service.rebuildStreaks(List.of(7L, 8L));
+
+        assertThat(users).isEqualTo(2);
+        InOrder lockThenRead = inOrder(streakRepository, focusStatRepository);
+        lockThenRead.verify(streakRepository).findAllByUserIdsForUpdate(List.of(7L, 8L));
+        lockThenRead.verify(focusStatRepository).findFocusDays(List.of(7L, 8L));
+        ArgumentCaptor<UserStreak> saved = ArgumentCaptor.forClass(UserStreak.class);
+        verify(streakRepository, times(2)).save(saved.capture());
+        UserStreak seven = saved.getAllValues().get(0);
+        assertThat(seven).isSameAs(stale);
+        assertThat(seven.getLastFocusDay()).isEqualTo(monday.plusDays(2));
+        assertThat(seven.getCurrentStreak()).isEqualTo(3);
+        assertThat(seven.calendar().isFocusDay(monday.minusDays(30))).isFalse();
+        UserStreak eight = saved.getAllValues().get(1);
+        assertThat(eight.getUserId()).isEqualTo(8L);
+        assertThat(eight.getBestStreak()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_replaces_rows_with_one_entry_per_day_and_activity() {
+        LocalDateTime day1 = LocalDateTime.of(2025, 3, 10, 9, 0);
+        when(sessionRepository.findByUserId(7L)).thenReturn(List.of(
+                completed(1, day1),
+                completed(3, day1.plusHours(5)),
+                completed(2, day1.plusDays(1)),
+                PomodoroSession.builder().activity(activity).status(SessionStatus.NOT_STARTED)
+                        .focusDuration(Duration.ofMinutes(25)).breakDuration(Duration.ofMinutes(5)).build()));
+
+        int rows = service.rebuildForUser(7L);
+
+        assertThat(rows).isEqualTo(2);
+        verify(focusStatRepository).deleteAllByUserId(7L);
+        ArgumentCaptor<List<FocusDailyStat>> captor = ArgumentCaptor.forClass(List.class);
+        verify(focusStatRepository).saveAll(captor.capture());
+        FocusDailyStat first = captor.getValue().stream()
+                .filter(r -> r.getStatDate().equals(LocalDate.of(2025, 3, 10)))
+                .findFirst().orElseThrow();
+        assertThat(first.getCompletedSessions()).isEqualTo(2);
+        assertThat(first.getFocusSeconds()).isEqualTo(4 * 25 * 60L);
+        verify(focusStatRepository, never()).increment(anyLong(), any(), anyLong(), anyLong(), anyLong(), eq(1), eq(0));
+    }
+
+    private PomodoroSession completed(int cycles, LocalDateTime completedAt) {
+        return PomodoroSession.builder()
+                .activity(activity)
+                .focusDuration(Duration.ofMinutes(25))
+                .breakDuration(Duration.ofMinutes(5))
+                .cyclesCompleted(cycles)
+                .status(SessionStatus.COMPLETED)
+                .completedAt(completedAt)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.pomodify.backend.application.service;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String OLD_SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+    private static final String NEW_SECRET = "fedcba9876543210fedcba9876543210fedcba9876543210fedcba9876543210fedcba9876543210";
+
+    @Test
+    void tokens_signed_before_rotation_verify_while_old_key_is_listed() {
+        JwtKeyRing ring = new JwtKeyRing(OLD_SECRET, List.of(), "");
+        String oldToken = sign(ring);
+
+        ring.rotate(NEW_SECRET, List.of(OLD_SECRET));
+        String newToken = sign(ring);
+
+        assertThat(ring.decode(oldToken).getSubject()).isEqualTo("user@pomodify.site");
+        assertThat(ring.decode(newToken).getSubject()).isEqualTo("user@pomodify.site");
+        assertThat(ring.parseSignedClaims(oldToken).getPayload().getSubject()).isEqualTo("user@pomodify.site");
+
+        ring.rotate(NEW_SECRET, List.of());
+        assertThatThrownBy(() -> ring.decode(oldToken)).isInstanceOf(JwtException.class);
+        assertThat(ring.decode(newToken).getSubject()).isEqualTo("user@pomodify.site");
+    }
+
+    @Test
+    void legacy_tokens_without_kid_verify_against_current_key() {
+        JwtKeyRing ring = new JwtKeyRing(OLD_SECRET, List.of(), "");
+        String legacy = Jwts.builder()
+                .subject("user@pomodify.site")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(ring.currentKey(), Jwts.SIG.HS512)
+                .compact();
+
+        assertThat(ring.decode(legacy).getSubject()).isEqualTo("user@pomodify.site");
+        assertThat(ring.parseSignedClaims(legacy).getPayload().getSubject()).isEqualTo("user@pomodify.site");
+    }
+
+    @Test
+    void legacy_tokens_without_kid_stay_valid_for_jwt_service_after_rotation() {
+        JwtKeyRing ring = new JwtKeyRing(OLD_SECRET, List.of(), "");
+        JwtService jwtService = new JwtService(ring);
+        String legacy = Jwts.builder()
+                .subject("user@pomodify.site")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(ring.currentKey(), Jwts.SIG.HS512)
+                .compact();
+
+        ring.rotate(NEW_SECRET, List.of(OLD_SECRET));
+        assertThat(jwtService.validateToken(legacy)).isTrue();
+        assertThat(ring.decode(legacy).getSubject()).isEqualTo("user@pomodify.site");
+
+        ring.rotate(NEW_SECRET, List.of());
+        assertThat(jwtService.validateToken(legacy)).isFalse();
+    }
+
+    private String sign(JwtKeyRing ring) {
+        return Jwts.builder()
+                .subject("user@pomodify.site")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .header().keyId(ring.currentKeyId()).and()
+                .signWith(ring.currentKey(), Jwts.SIG.HS512)
+                .compact();
+    }
+}
@@ -0,0 +1,138 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.domain.enums.OutboxStatus;
+import com.pomodify.backend.domain.model.NotificationOutbox;
+import com.pomodify.backend.domain.repository.NotificationOutboxRepository;
+import com.pomodify.backend.infrastructure.config.AsyncExecutorConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class NotificationOutboxDispatcherTest {
+
+    private NotificationOutboxRepository repository;
+    private PushNotificationService pushNotificationService;
+    private SimpleMeterRegistry registry;
+    private ThreadPoolTaskExecutor senders;
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(NotificationOutboxRepository.class);
+        pushNotificationService = mock(PushNotificationService.class);
+        registry = new SimpleMeterRegistry();
+        senders = AsyncExecutorConfig.workloadExecutor("push", 2, 2, 10, new ThreadPoolExecutor.CallerRunsPolicy(), registry);
+        senders.initialize();
+        dispatcher = new NotificationOutboxDispatcher(repository, pushNotificationService, registry, senders, 10);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        when(repository.claimAll(any(), any(), any())).thenReturn(List.of(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+        senders.shutdown();
+    }
+
+    @Test
+    void marks_delivered_message_sent() {
+        when(pushNotificationService.deliverAll(any())).thenReturn(List.of(PushNotificationService.DeliveryResult.SENT));
+
+        dispatcher.dispatch(List.of(message(0)));
+
+        verify(repository).markProcessed(eq(1L), eq(OutboxStatus.SENT), eq(1), isNull(), any());
+        assertThat(registry.get("pomodify.outbox.dispatched").tag("result", "sent").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void schedules_retry_with_backoff_on_transient_failure() {
+        when(pushNotificationService.deliverAll(any())).thenThrow(new RuntimeException("UNAVAILABLE"));
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher.dispatch(List.of(message(1)));
+
+        verify(repository).scheduleRetry(eq(1L), eq(2), argThat(next -> next.isAfter(before.plusSeconds(3))), eq("UNAVAILABLE"));
+        verify(repository, never()).markProcessed(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void dead_letters_after_max_attempts() {
+        when(pushNotificationService.deliverAll(any())).thenReturn(List.of(PushNotificationService.DeliveryResult.RETRYABLE));
+
+        dispatcher.dispatch(List.of(message(2)));
+
+        verify(repository).markProcessed(eq(1L), eq(OutboxStatus.DEAD), eq(3), anyString(), any());
+        verify(repository, never()).scheduleRetry(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void does_not_send_when_another_node_holds_the_lease() {
+        when(repository.claimAll(any(), any(), any())).thenReturn(List.of());
+
+        dispatcher.dispatch(List.of(message(0)));
+
+        verifyNoInteractions(pushNotificationService);
+    }
+
+    @Test
+    void drain_dispatches_every_due_message() {
+        when(repository.findDue(any(), eq(10))).thenReturn(List.of(message(0)));
+        when(pushNotificationService.deliverAll(any())).thenReturn(List.of(PushNotificationService.DeliveryResult.SKIPPED));
+
+        dispatcher.drain();
+
+        verify(repository).markProcessed(eq(1L), eq(OutboxStatus.SKIPPED), eq(1), eq("SKIPPED"), any());
+    }
+
+    @Test
+    void sends_only_leased_messages_as_one_batch() {
+        NotificationOutbox other = message(0);
+        other.setId(2L);
+        when(pushNotificationService.deliverAll(any())).thenReturn(List.of(PushNotificationService.DeliveryResult.SENT));
+
+        dispatcher.dispatch(List.of(message(0), other));
+
+        // One lease statement for the whole chunk; message 2 was taken by another node
+        verify(repository).claimAll(eq(List.of(1L, 2L)), any(), any());
+        verify(pushNotificationService).deliverAll(List.of(new PushNotificationService.PushRequest(7L, "t", "b")));
+        verify(repository, never()).markProcessed(eq(2L), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void backoff_grows_exponentially_up_to_the_cap() {
+        ReflectionTestUtils.setField(dispatcher, "backoffBaseMillis", 1000L);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxMillis", 10_000L);
+
+        assertThat(dispatcher.backoff(1)).isBetween(Duration.ofMillis(800), Duration.ofMillis(1200));
+        assertThat(dispatcher.backoff(3)).isBetween(Duration.ofMillis(3200), Duration.ofMillis(4800));
+        assertThat(dispatcher.backoff(30)).isBetween(Duration.ofMillis(8000), Duration.ofMillis(12_000));
+    }
+
+    private NotificationOutbox message(int attempts) {
+        return NotificationOutbox.builder()
+                .id(1L)
+                .userId(7L)
+                .title("t")
+                .body("b")
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
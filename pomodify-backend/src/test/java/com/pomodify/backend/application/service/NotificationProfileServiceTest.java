@@ -0,0 +1,104 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.application.event.UserSettingsChangedEvent;
+import com.pomodify.backend.application.port.out.UserEventBus;
+import com.pomodify.backend.application.port.out.UserEventBus.UserEvent;
+import com.pomodify.backend.application.service.NotificationProfileService.NotificationProfile;
+import com.pomodify.backend.domain.enums.SoundType;
+import com.pomodify.backend.domain.model.UserPushToken;
+import com.pomodify.backend.domain.model.settings.UserSettings;
+import com.pomodify.backend.domain.repository.SettingsRepository;
+import com.pomodify.backend.domain.repository.UserPushTokenRepository;
+import com.pomodify.backend.infrastructure.adapter.events.LocalUserEventBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+class NotificationProfileServiceTest {
+
+    private SettingsRepository settingsRepository;
+    private UserPushTokenRepository tokenRepository;
+    private UserEventBus bus;
+    private NotificationProfileService service;
+
+    @BeforeEach
+    void setUp() {
+        settingsRepository = mock(SettingsRepository.class);
+        tokenRepository = mock(UserPushTokenRepository.class);
+        bus = new LocalUserEventBus();
+        service = new NotificationProfileService(settingsRepository, tokenRepository, new ConcurrentMapCacheManager(),
+                bus, new UserEventPublisher(bus));
+        UserSettings settings = UserSettings.defaultSettings(1L);
+        settings.setSoundType(SoundType.DIGITAL_BEEP);
+        when(settingsRepository.findById(1L)).thenReturn(Optional.of(settings));
+        when(tokenRepository.findByUserId(1L)).thenReturn(Optional.of(
+                UserPushToken.builder().userId(1L).token("browser-fallback-abc").build()));
+    }
+
+    @Test
+    void loads_once_then_serves_from_cache() {
+        NotificationProfile first = service.getProfile(1L);
+        NotificationProfile second = service.getProfile(1L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.soundType()).isEqualTo("digital");
+        assertThat(first.fallbackToken()).isTrue();
+        assertThat(first.pushEnabled()).isTrue();
+        verify(settingsRepository, times(1)).findById(1L);
+        verify(tokenRepository, times(1)).findByUserId(1L);
+    }
+
+    @Test
+    void settings_change_event_reloads_profile() {
+        service.getProfile(1L);
+
+        service.onSettingsChanged(new UserSettingsChangedEvent(this, 1L, true, false));
+        service.getProfile(1L);
+
+        verify(settingsRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void changes_made_on_other_nodes_reload_profile() {
+        service.getProfile(1L);
+
+        bus.publish(new UserEvent(1L, UserEventPublisher.SETTINGS_CHANGED, 1L, null, Map.of()));
+        service.getProfile(1L);
+        bus.publish(new UserEvent(2L, UserEventPublisher.PUSH_TOKEN_CHANGED, 1L, null, Map.of()));
+        service.getProfile(1L);
+
+        verify(settingsRepository, times(3)).findById(1L);
+        verify(tokenRepository, times(3)).findByUserId(1L);
+    }
+
+    @Test
+    void token_change_is_announced_to_other_nodes() {
+        List<UserEvent> published = new CopyOnWriteArrayList<>();
+        bus.subscribe(published::add);
+
+        service.invalidate(1L);
+
+        assertThat(published).extracting(UserEvent::type, UserEvent::userId)
+                .containsExactly(tuple(UserEventPublisher.PUSH_TOKEN_CHANGED, 1L));
+    }
+
+    @Test
+    void user_without_settings_or_token_gets_defaults() {
+        NotificationProfile profile = service.getProfile(2L);
+
+        assertThat(profile.notificationsEnabled()).isTrue();
+        assertThat(profile.soundEnabled()).isTrue();
+        assertThat(profile.soundType()).isEqualTo("bell");
+        assertThat(profile.token()).isNull();
+        assertThat(profile.pushEnabled()).isFalse();
+    }
+}
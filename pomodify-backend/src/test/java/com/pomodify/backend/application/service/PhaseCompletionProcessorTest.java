@@ -0,0 +1,90 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.domain.enums.CyclePhase;
+import com.pomodify.backend.domain.enums.SessionStatus;
+import com.pomodify.backend.domain.model.Activity;
+import com.pomodify.backend.domain.model.PomodoroSession;
+import com.pomodify.backend.domain.model.User;
+import com.pomodify.backend.domain.repository.PomodoroSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PhaseCompletionProcessorTest {
+
+    private PomodoroSessionRepository sessionRepository;
+    private PhaseTimerRegistry phaseTimerRegistry;
+    private NotificationOutboxService notificationOutboxService;
+    private PhaseCompletionProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository = mock(PomodoroSessionRepository.class);
+        phaseTimerRegistry = mock(PhaseTimerRegistry.class);
+        notificationOutboxService = mock(NotificationOutboxService.class);
+        processor = new PhaseCompletionProcessor(sessionRepository, mock(BadgeService.class), mock(FocusStatsService.class),
+                new UserCacheGenerations(), phaseTimerRegistry, notificationOutboxService, mock(UserEventPublisher.class));
+    }
+
+    @Test
+    void completes_due_phase_once_and_enqueues_the_push() {
+        LocalDateTime deadline = LocalDateTime.now().minusSeconds(1);
+        PomodoroSession session = runningSession(deadline);
+        when(sessionRepository.claimPhaseNotification(1L, deadline)).thenReturn(true);
+
+        assertThat(processor.completeIfDue(1L)).isEqualTo(PhaseCompletionProcessor.Outcome.COMPLETED);
+
+        assertThat(session.getStatus()).isEqualTo(SessionStatus.PAUSED);
+        assertThat(session.getCurrentPhase()).isEqualTo(CyclePhase.BREAK);
+        verify(sessionRepository, times(1)).save(session);
+        verify(notificationOutboxService).enqueue(eq(7L), any(), any());
+    }
+
+    @Test
+    void skips_phase_claimed_elsewhere() {
+        LocalDateTime deadline = LocalDateTime.now().minusSeconds(1);
+        runningSession(deadline);
+        when(sessionRepository.claimPhaseNotification(1L, deadline)).thenReturn(false);
+
+        assertThat(processor.completeIfDue(1L)).isEqualTo(PhaseCompletionProcessor.Outcome.SKIPPED);
+
+        verify(sessionRepository, never()).save(any());
+        verifyNoInteractions(notificationOutboxService);
+    }
+
+    @Test
+    void rearms_timer_when_deadline_moved_later() {
+        LocalDateTime deadline = LocalDateTime.now().plusMinutes(3);
+        runningSession(deadline);
+
+        assertThat(processor.completeIfDue(1L)).isEqualTo(PhaseCompletionProcessor.Outcome.NOT_DUE);
+
+        verify(phaseTimerRegistry).schedule(1L, deadline);
+        verify(sessionRepository, never()).claimPhaseNotification(any(), any());
+    }
+
+    private PomodoroSession runningSession(LocalDateTime phaseEndTime) {
+        Activity activity = mock(Activity.class);
+        when(activity.getUser()).thenReturn(User.builder().id(7L).build());
+        PomodoroSession session = new PomodoroSession();
+        session.setId(1L);
+        session.setActivity(activity);
+        session.setStatus(SessionStatus.IN_PROGRESS);
+        session.setCurrentPhase(CyclePhase.FOCUS);
+        session.setFocusDuration(Duration.ofMinutes(25));
+        session.setBreakDuration(Duration.ofMinutes(5));
+        session.setTotalCycles(4);
+        session.setCyclesCompleted(0);
+        session.setPhaseEndTime(phaseEndTime);
+        session.setPhaseNotified(false);
+        when(sessionRepository.findById(1L)).thenReturn(Optional.of(session));
+        return session;
+    }
+}
@@ -0,0 +1,88 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.application.event.PhaseDeadlineReachedEvent;
+import com.pomodify.backend.domain.enums.SessionStatus;
+import com.pomodify.backend.domain.model.PomodoroSession;
+import com.pomodify.backend.domain.repository.PomodoroSessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PhaseTimerRegistryTest {
+
+    private PomodoroSessionRepository sessionRepository;
+    private final List<Long> fired = new CopyOnWriteArrayList<>();
+    private PhaseTimerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository = mock(PomodoroSessionRepository.class);
+        ApplicationEventPublisher publisher = event -> fired.add(((PhaseDeadlineReachedEvent) event).getSessionId());
+        registry = new PhaseTimerRegistry(sessionRepository, publisher, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void fires_close_to_the_deadline() throws InterruptedException {
+        registry.schedule(1L, LocalDateTime.now().plusNanos(50_000_000));
+
+        Thread.sleep(250);
+
+        assertThat(fired).containsExactly(1L);
+        assertThat(registry.pendingCount()).isZero();
+    }
+
+    @Test
+    void sync_cancels_timer_when_session_is_no_longer_running() throws InterruptedException {
+        PomodoroSession session = mock(PomodoroSession.class);
+        when(session.getId()).thenReturn(2L);
+        when(session.getStatus()).thenReturn(SessionStatus.IN_PROGRESS);
+        when(session.getPhaseEndTime()).thenReturn(LocalDateTime.now().plusNanos(100_000_000));
+        registry.sync(session);
+        assertThat(registry.pendingCount()).isEqualTo(1);
+
+        when(session.getStatus()).thenReturn(SessionStatus.PAUSED);
+        registry.sync(session);
+        Thread.sleep(250);
+
+        assertThat(fired).isEmpty();
+        assertThat(registry.pendingCount()).isZero();
+    }
+
+    @Test
+    void rescheduling_replaces_the_earlier_timer() throws InterruptedException {
+        registry.schedule(3L, LocalDateTime.now().plusNanos(50_000_000));
+        registry.schedule(3L, LocalDateTime.now().plusSeconds(30));
+
+        Thread.sleep(250);
+
+        assertThat(fired).isEmpty();
+        assertThat(registry.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rebuild_arms_timers_from_the_database() throws InterruptedException {
+        when(sessionRepository.findPendingPhaseDeadlines()).thenReturn(List.of(
+                new PomodoroSessionRepository.PhaseDeadline(4L, LocalDateTime.now().minusSeconds(5)),
+                new PomodoroSessionRepository.PhaseDeadline(5L, LocalDateTime.now().plusMinutes(5))));
+
+        registry.rebuild();
+        Thread.sleep(100);
+
+        assertThat(fired).containsExactly(4L);
+        assertThat(registry.pendingCount()).isEqualTo(1);
+    }
+}
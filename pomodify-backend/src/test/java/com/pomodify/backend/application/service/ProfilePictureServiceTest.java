@@ -0,0 +1,241 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.application.result.ProfilePictureContent;
+import com.pomodify.backend.application.result.UserResult;
+import com.pomodify.backend.domain.enums.AuthProvider;
+import com.pomodify.backend.domain.model.User;
+import com.pomodify.backend.domain.repository.UserRepository;
+import com.pomodify.backend.domain.valueobject.Email;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProfilePictureServiceTest {
+
+    private static final String HASHED = "7-0123456789abcdef0123456789abcdef.png";
+
+    @TempDir Path uploadDir;
+
+    private UserRepository userRepository;
+    private UserEventPublisher userEventPublisher;
+    private ProfilePictureService service;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userEventPublisher = mock(UserEventPublisher.class);
+        // Tasks run inline so the pipeline can be asserted synchronously
+        TaskExecutor inline = Runnable::run;
+        service = new ProfilePictureService(userRepository, userEventPublisher, inline, new SimpleMeterRegistry(),
+                uploadDir.toString(), new int[] {48, 96, 400}, 1024, 100);
+    }
+
+    @Test
+    void upload_is_rendered_into_every_size_and_the_user_switched_over() throws Exception {
+        User user = user(7L, ProfilePictureService.URL_PREFIX + "7-old.jpg");
+        Files.write(uploadDir.resolve("7-old.jpg"), new byte[] {1});
+        when(userRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
+        when(userRepository.findUser(7L)).thenReturn(Optional.of(user));
+        when(userRepository.updateProfilePicture(eq(7L), anyString(), anyString(), anyString())).thenReturn(1);
+
+        UserResult accepted = service.uploadProfilePicture("a@b.com",
+                new MockMultipartFile("file", "me.png", "image/png", png(1200, 800, false)));
+
+        assertThat(accepted.profilePictureUrl()).endsWith("7-old.jpg");
+        ArgumentCaptor<String> url = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> thumb = ArgumentCaptor.forClass(String.class);
+        verify(userRepository).updateProfilePicture(eq(7L), anyString(), url.capture(), thumb.capture());
+        assertThat(url.getValue()).matches(".*/7-[0-9a-f]{32}-400\\.jpg");
+        assertThat(thumb.getValue()).matches(".*/7-[0-9a-f]{32}-48\\.jpg");
+        verify(userEventPublisher).profilePictureUpdated(7L, url.getValue(), thumb.getValue());
+
+        BufferedImage large = ImageIO.read(uploadDir.resolve(fileName(url.getValue())).toFile());
+        BufferedImage small = ImageIO.read(uploadDir.resolve(fileName(thumb.getValue())).toFile());
+        assertThat(large.getWidth()).isEqualTo(400);
+        assertThat(large.getHeight()).isEqualTo(267);
+        assertThat(small.getWidth()).isEqualTo(48);
+        assertThat(Files.exists(uploadDir.resolve("7-old.jpg"))).isFalse();
+        try (var staged = Files.list(uploadDir.resolve("staging"))) {
+            assertThat(staged).isEmpty();
+        }
+    }
+
+    @Test
+    void transparent_uploads_stay_png_and_are_not_scaled_up() throws Exception {
+        User user = user(7L, null);
+        when(userRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(user));
+        when(userRepository.findUser(7L)).thenReturn(Optional.of(user));
+        when(userRepository.updateProfilePicture(eq(7L), anyString(), anyString(), anyString())).thenReturn(1);
+
+        service.uploadProfilePicture("a@b.com", new MockMultipartFile("file", "me.png", "image/png", png(64, 64, true)));
+
+        ArgumentCaptor<String> url = ArgumentCaptor.forClass(String.class);
+        verify(userRepository).updateProfilePicture(eq(7L), anyString(), url.capture(), anyString());
+        assertThat(url.getValue()).endsWith("-400.png");
+        assertThat(ImageIO.read(uploadDir.resolve(fileName(url.getValue())).toFile()).getWidth()).isEqualTo(64);
+    }
+
+    @Test
+    void only_the_pending_upload_switches_the_user_over() throws Exception {
+        when(userRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(user(7L, null)));
+        when(userRepository.findUser(7L)).thenReturn(Optional.of(user(7L, null)));
+        when(userRepository.updateProfilePicture(eq(7L), anyString(), anyString(), anyString())).thenReturn(1);
+
+        UserResult accepted = service.uploadProfilePicture("a@b.com",
+                new MockMultipartFile("file", "me.png", "image/png", png(64, 64, false)));
+
+        ArgumentCaptor<String> started = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> applied = ArgumentCaptor.forClass(String.class);
+        verify(userRepository).startProfilePictureUpload(eq(7L), started.capture());
+        verify(userRepository).updateProfilePicture(eq(7L), applied.capture(), anyString(), anyString());
+        assertThat(applied.getValue()).isEqualTo(started.getValue());
+        assertThat(accepted.profilePictureUploadId()).isEqualTo(started.getValue());
+        verify(userRepository, never()).abandonProfilePictureUpload(anyLong(), anyString());
+    }
+
+    @Test
+    void renditions_of_an_upload_superseded_or_deleted_meanwhile_are_removed() throws Exception {
+        when(userRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(user(7L, null)));
+        when(userRepository.findUser(7L)).thenReturn(Optional.of(user(7L, null)));
+        when(userRepository.updateProfilePicture(eq(7L), anyString(), anyString(), anyString())).thenReturn(0);
+
+        service.uploadProfilePicture("a@b.com", new MockMultipartFile("file", "me.png", "image/png", png(64, 64, false)));
+
+        verify(userEventPublisher, never()).profilePictureUpdated(anyLong(), anyString(), anyString());
+        try (var files = Files.list(uploadDir)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    void discarded_upload_of_the_current_image_keeps_its_files() throws Exception {
+        byte[] image = png(64, 64, false);
+        when(userRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(user(7L, null)));
+        when(userRepository.findUser(7L)).thenReturn(Optional.of(user(7L, null)));
+        when(userRepository.updateProfilePicture(eq(7L), anyString(), anyString(), anyString())).thenReturn(1);
+        service.uploadProfilePicture("a@b.com", new MockMultipartFile("file", "me.png", "image/png", image));
+        ArgumentCaptor<String> url = ArgumentCaptor.forClass(String.class);
+        verify(userRepository).updateProfilePicture(eq(7L), anyString(), url.capture(), anyString());
+
+        // Same bytes again, but this time the upload does not land: the live files must survive
+        when(userRepository.findUser(7L)).thenReturn(Optional.of(user(7L, url.getValue())));
+        when(userRepository.updateProfilePicture(eq(7L), anyString(), anyString(), anyString())).thenReturn(0);
+        service.uploadProfilePicture("a@b.com", new MockMultipartFile("file", "me.png", "image/png", image));
+
+        assertThat(Files.exists(uploadDir.resolve(fileName(url.getValue())))).isTrue();
+    }
+
+    @Test
+    void undecodable_uploads_are_reported_and_leave_the_user_untouched() throws Exception {
+        when(userRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(user(7L, null)));
+
+        UserResult accepted = service.uploadProfilePicture("a@b.com",
+                new MockMultipartFile("file", "me.jpg", "image/jpeg", new byte[] {1, 2, 3}));
+
+        verify(userRepository, never()).updateProfilePicture(anyLong(), anyString(), anyString(), anyString());
+        verify(userEventPublisher).profilePictureFailed(eq(7L), anyString());
+        // The pending id is cleared so a client polling /users/me stops waiting
+        verify(userRepository).abandonProfilePictureUpload(7L, accepted.profilePictureUploadId());
+    }
+
+    @Test
+    void content_addressed_names_are_immutable_with_the_hash_as_etag() throws Exception {
+        Files.write(uploadDir.resolve(HASHED), new byte[] {1, 2, 3});
+
+        ProfilePictureContent picture = service.getProfilePicture(HASHED);
+
+        assertThat(picture.immutable()).isTrue();
+        assertThat(picture.etag()).isEqualTo("\"0123456789abcdef0123456789abcdef\"");
+        assertThat(picture.contentType()).isEqualTo("image/png");
+        assertThat(picture.size()).isEqualTo(3);
+    }
+
+    @Test
+    void small_pictures_are_served_from_memory_after_the_first_read() throws Exception {
+        Path file = uploadDir.resolve(HASHED);
+        Files.write(file, new byte[] {1, 2, 3});
+
+        ProfilePictureContent first = service.getProfilePicture(HASHED);
+        Files.delete(file);
+        ProfilePictureContent second = service.getProfilePicture(HASHED);
+
+        assertThat(first.content()).isInstanceOf(ByteArrayResource.class);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void large_and_legacy_pictures_are_streamed_from_disk() throws Exception {
+        Files.write(uploadDir.resolve("3f2a-legacy.jpg"), new byte[200]);
+
+        ProfilePictureContent picture = service.getProfilePicture("3f2a-legacy.jpg");
+
+        assertThat(picture.content()).isInstanceOf(FileSystemResource.class);
+        assertThat(picture.immutable()).isFalse();
+        assertThat(picture.etag()).startsWith("\"c8-");
+    }
+
+    @Test
+    void renditions_get_a_per_size_etag() throws Exception {
+        String name = "7-0123456789abcdef0123456789abcdef-48.jpg";
+        Files.write(uploadDir.resolve(name), new byte[] {1});
+
+        ProfilePictureContent picture = service.getProfilePicture(name);
+
+        assertThat(picture.immutable()).isTrue();
+        assertThat(picture.etag()).isEqualTo("\"0123456789abcdef0123456789abcdef-48\"");
+    }
+
+    @Test
+    void names_outside_the_upload_directory_are_not_found() {
+        assertThatThrownBy(() -> service.getProfilePicture("..")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getProfilePicture("missing.png")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static User user(Long id, String profilePictureUrl) {
+        User user = User.builder()
+                .id(id)
+                .firstName("A")
+                .lastName("B")
+                .passwordHash("x")
+                .email(new Email("a@b.com"))
+                .authProvider(AuthProvider.LOCAL)
+                .build();
+        user.setProfilePictureUrl(profilePictureUrl);
+        return user;
+    }
+
+    private static byte[] png(int width, int height, boolean alpha) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static String fileName(String url) {
+        return url.substring(url.lastIndexOf('/') + 1);
+    }
+}
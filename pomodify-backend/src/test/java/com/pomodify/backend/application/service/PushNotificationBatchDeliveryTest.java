@@ -0,0 +1,80 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.application.port.out.FakePushMessagingPort;
+import com.pomodify.backend.application.port.out.PushMessagingPort;
+import com.pomodify.backend.application.port.out.UserEventBus;
+import com.pomodify.backend.application.service.PushNotificationService.DeliveryResult;
+import com.pomodify.backend.application.service.PushNotificationService.PushRequest;
+import com.pomodify.backend.domain.model.UserPushToken;
+import com.pomodify.backend.domain.model.settings.UserSettings;
+import com.pomodify.backend.domain.repository.SettingsRepository;
+import com.pomodify.backend.domain.repository.UserPushTokenRepository;
+import com.pomodify.backend.infrastructure.adapter.events.LocalUserEventBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class PushNotificationBatchDeliveryTest {
+
+    private SettingsRepository settingsRepository;
+    private UserPushTokenRepository tokenRepository;
+    private FakePushMessagingPort fcm;
+    private PushNotificationService service;
+
+    @BeforeEach
+    void setUp() {
+        settingsRepository = mock(SettingsRepository.class);
+        tokenRepository = mock(UserPushTokenRepository.class);
+        fcm = new FakePushMessagingPort();
+        UserEventBus bus = new LocalUserEventBus();
+        service = new PushNotificationService(tokenRepository,
+                new NotificationProfileService(settingsRepository, tokenRepository, new ConcurrentMapCacheManager(),
+                        bus, new UserEventPublisher(bus)), fcm);
+        when(tokenRepository.findByUserId(anyLong())).thenAnswer(inv -> Optional.of(
+                UserPushToken.builder().userId(inv.getArgument(0)).token("fcm-token-" + inv.getArgument(0)).build()));
+    }
+
+    @Test
+    void sends_deliverable_messages_in_one_batch_and_handles_each_result() {
+        UserSettings muted = UserSettings.defaultSettings(2L);
+        muted.setNotificationsEnabled(false);
+        when(settingsRepository.findById(2L)).thenReturn(Optional.of(muted));
+        fcm.thenAnswer(PushMessagingPort.Status.SENT)
+                .thenAnswer(PushMessagingPort.Status.INVALID_TOKEN)
+                .thenAnswer(PushMessagingPort.Status.RETRYABLE);
+
+        List<DeliveryResult> results = service.deliverAll(List.of(
+                new PushRequest(1L, "t", "b"),
+                new PushRequest(2L, "t", "b"),
+                new PushRequest(3L, "t", "b"),
+                new PushRequest(4L, "t", "b")));
+
+        assertThat(results).containsExactly(
+                DeliveryResult.SENT, DeliveryResult.DISABLED, DeliveryResult.REJECTED, DeliveryResult.RETRYABLE);
+        assertThat(fcm.batches()).hasSize(1);
+        assertThat(fcm.sentCount()).isEqualTo(3);
+        verify(tokenRepository).deleteByUserId(3L);
+        verify(tokenRepository, never()).deleteByUserId(1L);
+        verify(tokenRepository, never()).deleteByUserId(4L);
+    }
+
+    @Test
+    void splits_large_bursts_into_fcm_sized_batches() {
+        List<PushRequest> burst = LongStream.rangeClosed(1, 650)
+                .mapToObj(id -> new PushRequest(id, "t", "b"))
+                .toList();
+
+        List<DeliveryResult> results = service.deliverAll(burst);
+
+        assertThat(results).hasSize(650).containsOnly(DeliveryResult.SENT);
+        assertThat(fcm.batches()).extracting(List::size).containsExactly(500, 150);
+    }
+}
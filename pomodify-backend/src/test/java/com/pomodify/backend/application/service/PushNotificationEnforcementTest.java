@@ -1,10 +1,14 @@
 package com.pomodify.backend.application.service;
 
+import com.pomodify.backend.application.port.out.FakePushMessagingPort;
+import com.pomodify.backend.application.port.out.UserEventBus;
 import com.pomodify.backend.domain.model.settings.UserSettings;
 import com.pomodify.backend.domain.repository.SettingsRepository;
 import com.pomodify.backend.domain.repository.UserPushTokenRepository;
+import com.pomodify.backend.infrastructure.adapter.events.LocalUserEventBus;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 import java.util.Optional;
 
@@ -14,11 +18,15 @@ import static org.mockito.Mockito.when;
 
 class PushNotificationEnforcementTest {
 
+    private final UserEventBus bus = new LocalUserEventBus();
+
     @Test
     void pushIsBlockedWhenNotificationsDisabled() {
         SettingsRepository settingsRepository = Mockito.mock(SettingsRepository.class);
         UserPushTokenRepository tokenRepository = Mockito.mock(UserPushTokenRepository.class);
-        PushNotificationService service = new PushNotificationService(tokenRepository, settingsRepository);
+        PushNotificationService service = new PushNotificationService(tokenRepository,
+                new NotificationProfileService(settingsRepository, tokenRepository, new ConcurrentMapCacheManager(),
+                        bus, new UserEventPublisher(bus)), new FakePushMessagingPort());
 
         Long userId = 55L;
         UserSettings settings = UserSettings.defaultSettings(userId);
@@ -32,7 +40,9 @@ class PushNotificationEnforcementTest {
     void pushSkipsWhenNoTokenEvenIfEnabled() {
         SettingsRepository settingsRepository = Mockito.mock(SettingsRepository.class);
         UserPushTokenRepository tokenRepository = Mockito.mock(UserPushTokenRepository.class);
-        PushNotificationService service = new PushNotificationService(tokenRepository, settingsRepository);
+        PushNotificationService service = new PushNotificationService(tokenRepository,
+                new NotificationProfileService(settingsRepository, tokenRepository, new ConcurrentMapCacheManager(),
+                        bus, new UserEventPublisher(bus)), new FakePushMessagingPort());
 
         Long userId = 56L;
         UserSettings settings = UserSettings.defaultSettings(userId);
@@ -0,0 +1,106 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.domain.model.RevokedToken;
+import com.pomodify.backend.domain.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RevokedTokenIndexTest {
+
+    private RevokedTokenRepository repository;
+    private RevokedTokenIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedTokenRepository.class);
+        index = new RevokedTokenIndex(repository);
+    }
+
+    @Test
+    void falls_back_to_repository_until_warmed() {
+        when(repository.existsByTokenHash(RevokedToken.hashOf("t1"))).thenReturn(true);
+
+        assertThat(index.isRevoked("t1")).isTrue();
+        verify(repository).existsByTokenHash(RevokedToken.hashOf("t1"));
+    }
+
+    @Test
+    void answers_from_memory_after_warm_up_and_picks_up_other_nodes() {
+        when(repository.findRevokedSince(any())).thenReturn(List.of(revoked("warm", LocalDateTime.now().minusMinutes(1))));
+        index.warmUp();
+
+        index.revoke(revoked("local", LocalDateTime.now()));
+        when(repository.findRevokedSince(any())).thenReturn(List.of(revoked("remote", LocalDateTime.now())));
+        index.pollRecentRevocations();
+
+        assertThat(index.isRevoked("warm")).isTrue();
+        assertThat(index.isRevoked("local")).isTrue();
+        assertThat(index.isRevoked("remote")).isTrue();
+        assertThat(index.isRevoked("never-revoked")).isFalse();
+        verify(repository, never()).existsByTokenHash(anyString());
+    }
+
+    @Test
+    void revocation_inside_a_transaction_is_indexed_only_after_commit() {
+        when(repository.findRevokedSince(any())).thenReturn(List.of());
+        index.warmUp();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.revoke(revoked("pending", LocalDateTime.now()));
+            assertThat(index.isRevoked("pending")).isFalse();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(index.isRevoked("pending")).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void expired_tokens_are_not_retained() {
+        when(repository.findRevokedSince(any())).thenReturn(List.of());
+        index.warmUp();
+
+        index.revoke(RevokedToken.builder()
+                .tokenHash(RevokedToken.hashOf("old"))
+                .expiresAt(LocalDateTime.now().minusSeconds(1))
+                .build());
+        index.compact();
+
+        assertThat(index.size()).isZero();
+        assertThat(index.isRevoked("old")).isFalse();
+    }
+
+    @Test
+    void bloom_filter_has_no_false_negatives_past_its_initial_capacity() {
+        when(repository.findRevokedSince(any())).thenReturn(List.of());
+        index.warmUp();
+
+        for (int i = 0; i < 2_000; i++) {
+            index.revoke(revoked("token-" + i, LocalDateTime.now()));
+        }
+
+        for (int i = 0; i < 2_000; i++) {
+            assertThat(index.isRevoked("token-" + i)).isTrue();
+        }
+    }
+
+    private RevokedToken revoked(String token, LocalDateTime at) {
+        return RevokedToken.builder()
+                .tokenHash(RevokedToken.hashOf(token))
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .revokedAt(at)
+                .build();
+    }
+}
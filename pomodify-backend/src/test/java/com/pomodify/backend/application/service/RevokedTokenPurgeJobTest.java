@@ -0,0 +1,49 @@
+package com.pomodify.backend.application.service;
+
+import com.pomodify.backend.domain.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RevokedTokenPurgeJobTest {
+
+    private RevokedTokenRepository repository;
+    private SimpleMeterRegistry registry;
+    private RevokedTokenPurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedTokenRepository.class);
+        registry = new SimpleMeterRegistry();
+        job = new RevokedTokenPurgeJob(repository, registry);
+        ReflectionTestUtils.setField(job, "batchSize", 100);
+        ReflectionTestUtils.setField(job, "maxBatchesPerRun", 3);
+    }
+
+    @Test
+    void deletes_in_batches_until_a_short_batch_and_records_metrics() {
+        when(repository.deleteExpiredBefore(any(), eq(100))).thenReturn(100, 40);
+        when(repository.count()).thenReturn(7L);
+
+        assertThat(job.purgeExpired()).isEqualTo(140);
+
+        verify(repository, times(2)).deleteExpiredBefore(any(), eq(100));
+        assertThat(registry.get("pomodify.revoked_tokens.purged").counter().count()).isEqualTo(140.0);
+        assertThat(registry.get("pomodify.revoked_tokens.rows").gauge().value()).isEqualTo(7.0);
+    }
+
+    @Test
+    void stops_after_max_batches_per_run() {
+        when(repository.deleteExpiredBefore(any(), eq(100))).thenReturn(100);
+
+        assertThat(job.purgeExpired()).isEqualTo(300);
+
+        verify(repository, times(3)).deleteExpiredBefore(any(), eq(100));
+    }
+}
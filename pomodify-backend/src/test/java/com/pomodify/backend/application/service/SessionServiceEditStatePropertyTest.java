@@ -32,17 +32,19 @@ class SessionServiceEditStatePropertyTest {
     private PomodoroSessionRepository sessionRepository;
     private DomainHelper domainHelper;
     private UserHelper userHelper;
-    private PushNotificationService pushNotificationService;
+    private NotificationOutboxService notificationOutboxService;
     private BadgeService badgeService;
+    private FocusStatsService focusStatsService;
     private SessionService sessionService;
 
     void setUp() {
         sessionRepository = mock(PomodoroSessionRepository.class);
         domainHelper = mock(DomainHelper.class);
         userHelper = mock(UserHelper.class);
-        pushNotificationService = mock(PushNotificationService.class);
+        notificationOutboxService = mock(NotificationOutboxService.class);
         badgeService = mock(BadgeService.class);
-        sessionService = new SessionService(sessionRepository, domainHelper, userHelper, pushNotificationService, badgeService);
+        focusStatsService = mock(FocusStatsService.class);
+        sessionService = new SessionService(sessionRepository, domainHelper, userHelper, notificationOutboxService, badgeService, focusStatsService, new UserCacheGenerations(), mock(PhaseTimerRegistry.class), mock(UserEventPublisher.class));
     }
 
     private PomodoroSession createFreestyleSession(SessionStatus status) {
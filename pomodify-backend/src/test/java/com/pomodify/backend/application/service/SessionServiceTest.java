@@ -31,8 +31,9 @@ class SessionServiceTest {
     private PomodoroSessionRepository sessionRepository;
     private DomainHelper domainHelper;
     private UserHelper userHelper;
-    private PushNotificationService pushNotificationService;
+    private NotificationOutboxService notificationOutboxService;
     private BadgeService badgeService;
+    private FocusStatsService focusStatsService;
     private SessionService sessionService;
 
     @BeforeEach
@@ -40,10 +41,11 @@ class SessionServiceTest {
         sessionRepository = mock(PomodoroSessionRepository.class);
         domainHelper = mock(DomainHelper.class);
         userHelper = mock(UserHelper.class);
-        pushNotificationService = mock(PushNotificationService.class);
+        notificationOutboxService = mock(NotificationOutboxService.class);
         badgeService = mock(BadgeService.class);
+        focusStatsService = mock(FocusStatsService.class);
 
-        sessionService = new SessionService(sessionRepository, domainHelper, userHelper, pushNotificationService, badgeService);
+        sessionService = new SessionService(sessionRepository, domainHelper, userHelper, notificationOutboxService, badgeService, focusStatsService, new UserCacheGenerations(), mock(PhaseTimerRegistry.class), mock(UserEventPublisher.class));
     }
 
     @Test
@@ -0,0 +1,39 @@
+package com.pomodify.backend.application.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCacheGenerationsTest {
+
+    private final UserCacheGenerations generations = new UserCacheGenerations();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void invalidating_one_user_leaves_others_untouched() {
+        generations.invalidate(1L);
+
+        assertThat(generations.of(1L)).isEqualTo(1L);
+        assertThat(generations.of(2L)).isZero();
+    }
+
+    @Test
+    void bump_is_deferred_until_the_transaction_commits() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        generations.invalidate(1L);
+        assertThat(generations.of(1L)).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(generations.of(1L)).isEqualTo(1L);
+    }
+}
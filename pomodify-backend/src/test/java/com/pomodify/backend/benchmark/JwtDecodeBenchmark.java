@@ -0,0 +1,79 @@
+package com.pomodify.backend.benchmark;
+
+import com.pomodify.backend.application.service.JwtKeyRing;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding a token with a decoder rebuilt per call (the previous CustomJwtDecoder
+ * behaviour) against the cached decoders held by {@link JwtKeyRing}.
+ *
+ * Not part of the test phase. Run after {@code mvn test-compile} via {@link #main} with the
+ * test classpath (e.g. {@code mvn dependency:build-classpath -Dmdep.includeScope=test}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtDecodeBenchmark {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private JwtKeyRing keyRing;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        keyRing = new JwtKeyRing(SECRET, List.of(), "");
+        token = Jwts.builder()
+                .subject("bench@pomodify.site")
+                .claim("user", 1L)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .header().keyId(keyRing.currentKeyId()).and()
+                .signWith(keyRing.currentKey(), Jwts.SIG.HS512)
+                .compact();
+    }
+
+    @Benchmark
+    public Jwt rebuildDecoderPerCall() {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return NimbusJwtDecoder.withSecretKey(key)
+                .macAlgorithm(MacAlgorithm.HS512)
+                .build()
+                .decode(token);
+    }
+
+    @Benchmark
+    public Jwt cachedKeyRingDecoder() {
+        return keyRing.decode(token);
+    }
+
+    @Benchmark
+    public Object cachedJjwtParser() {
+        return keyRing.parseSignedClaims(token).getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtDecodeBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,69 @@
+package com.pomodify.backend.domain;
+
+import com.pomodify.backend.domain.valueobject.FocusCalendar;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FocusCalendarTest {
+
+    @Test
+    void currentStreak_counts_consecutive_days_until_today() {
+        LocalDate today = LocalDate.now();
+        FocusCalendar calendar = FocusCalendar.of(List.of(today.minusDays(2), today.minusDays(1), today));
+        assertEquals(3, calendar.runEndingAt(today));
+    }
+
+    @Test
+    void currentStreak_stops_on_gap() {
+        LocalDate today = LocalDate.now();
+        FocusCalendar calendar = FocusCalendar.of(List.of(today.minusDays(3), today.minusDays(1), today));
+        assertEquals(2, calendar.runEndingAt(today)); // today and yesterday only
+        assertEquals(0, calendar.runEndingAt(today.minusDays(2)));
+    }
+
+    @Test
+    void bestStreak_finds_longest_run() {
+        LocalDate base = LocalDate.of(2025, 1, 1);
+        FocusCalendar calendar = FocusCalendar.of(List.of(
+                // streak1: 2 days
+                base, base.plusDays(1),
+                // gap
+                base.plusDays(3),
+                // streak2: 3 days
+                base.plusDays(10), base.plusDays(11), base.plusDays(12)));
+        assertEquals(3, calendar.longestRun());
+    }
+
+    @Test
+    void runs_and_counts_cross_word_boundaries() {
+        // 100 consecutive days span at least two 64-day words
+        LocalDate start = LocalDate.of(2024, 11, 20);
+        FocusCalendar calendar = FocusCalendar.empty();
+        for (int i = 99; i >= 0; i--) {
+            calendar.mark(start.plusDays(i)); // newest first, so earlier days prepend words
+        }
+        LocalDate last = start.plusDays(99);
+        assertEquals(100, calendar.runEndingAt(last));
+        assertEquals(100, calendar.longestRun());
+        assertEquals(100, calendar.countInRange(start.minusDays(30), last.plusDays(30)));
+        assertEquals(7, calendar.countInRange(last.minusDays(6), last));
+        assertEquals(0, calendar.countInRange(last.plusDays(1), last.plusDays(400)));
+    }
+
+    @Test
+    void survives_a_round_trip_through_bytes() {
+        LocalDate day = LocalDate.of(2025, 6, 2);
+        FocusCalendar calendar = FocusCalendar.of(List.of(day, day.plusDays(1), day.plusDays(70)));
+
+        FocusCalendar restored = FocusCalendar.of(calendar.origin(), calendar.toBytes());
+
+        assertEquals(0, Math.floorMod(restored.origin().toEpochDay(), 64));
+        assertEquals(List.of(day, day.plusDays(1), day.plusDays(70)),
+                restored.focusDaysBetween(day.minusDays(5), day.plusDays(80)));
+        assertTrue(FocusCalendar.of(null, null).isEmpty());
+    }
+}
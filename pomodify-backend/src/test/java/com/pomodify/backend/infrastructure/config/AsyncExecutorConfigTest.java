@@ -0,0 +1,86 @@
+package com.pomodify.backend.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncExecutorConfigTest {
+
+    private final AsyncExecutorConfig config = new AsyncExecutorConfig();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MockEnvironment env = new MockEnvironment()
+            .withProperty("app.async.ai.core-size", "1")
+            .withProperty("app.async.ai.max-size", "1")
+            .withProperty("app.async.ai.queue-capacity", "1")
+            .withProperty("app.async.mail.core-size", "1")
+            .withProperty("app.async.mail.max-size", "1")
+            .withProperty("app.async.mail.queue-capacity", "1");
+
+    @Test
+    void ai_executor_rejects_once_pool_and_queue_are_full() throws Exception {
+        ThreadPoolTaskExecutor ai = config.aiExecutor(env, registry);
+        ai.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            ai.execute(() -> await(release));
+            ai.execute(() -> await(release));
+
+            assertThatThrownBy(() -> ai.execute(() -> { })).isInstanceOf(TaskRejectedException.class);
+            assertThat(gauge("pomodify.executor.pool.size", "ai")).isEqualTo(1);
+            assertThat(gauge("pomodify.executor.queued", "ai")).isEqualTo(1);
+            assertThat(registry.get("pomodify.executor.rejected").tag("executor", "ai").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            // The ai executor drops queued work on shutdown, so wait for both tasks before stopping it
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (ai.getThreadPoolExecutor().getCompletedTaskCount() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(registry.get("pomodify.executor.completed").tag("executor", "ai").functionCounter().count()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            ai.shutdown();
+        }
+    }
+
+    @Test
+    void mail_executor_runs_overflow_on_the_caller() {
+        ThreadPoolTaskExecutor mail = config.mailExecutor(env, registry);
+        mail.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        try {
+            mail.execute(() -> await(release));
+            mail.execute(() -> await(release));
+
+            mail.execute(() -> ranOn.set(Thread.currentThread()));
+
+            assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+            assertThat(registry.get("pomodify.executor.rejected").tag("executor", "mail").counter().count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            mail.shutdown();
+        }
+    }
+
+    private double gauge(String name, String executor) {
+        return registry.get(name).tag("executor", executor).gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
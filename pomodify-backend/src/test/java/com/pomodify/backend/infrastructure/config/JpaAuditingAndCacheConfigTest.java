@@ -0,0 +1,40 @@
+package com.pomodify.backend.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JpaAuditingAndCacheConfigTest {
+
+    @Test
+    void caches_are_bounded_per_name_and_record_stats() {
+        MockEnvironment env = new MockEnvironment()
+                .withProperty("app.cache.default-spec", "maximumSize=50")
+                .withProperty("app.cache.activities.spec", "maximumSize=2");
+
+        CaffeineCacheManager manager = new JpaAuditingAndCacheConfig().cacheManager(env);
+
+        assertThat(manager.getCacheNames()).containsExactlyInAnyOrderElementsOf(JpaAuditingAndCacheConfig.CACHE_NAMES);
+        Cache<Object, Object> activities = nativeCache(manager, "activities");
+        assertThat(activities.policy().eviction().orElseThrow().getMaximum()).isEqualTo(2);
+        assertThat(nativeCache(manager, "categories").policy().eviction().orElseThrow().getMaximum()).isEqualTo(50);
+
+        manager.getCache("activities").get("missing");
+        assertThat(activities.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unknown_cache_names_are_not_created_on_demand() {
+        CaffeineCacheManager manager = new JpaAuditingAndCacheConfig().cacheManager(new MockEnvironment());
+
+        assertThat(manager.getCache("somethingElse")).isNull();
+    }
+
+    private Cache<Object, Object> nativeCache(CaffeineCacheManager manager, String name) {
+        return ((CaffeineCache) manager.getCache(name)).getNativeCache();
+    }
+}
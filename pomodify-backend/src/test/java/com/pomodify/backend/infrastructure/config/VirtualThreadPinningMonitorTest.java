@@ -0,0 +1,47 @@
+package com.pomodify.backend.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object monitor = new Object();
+
+    @Test
+    void counts_virtual_threads_that_block_inside_synchronized() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor pinningMonitor = new VirtualThreadPinningMonitor(registry);
+        pinningMonitor.start();
+        try {
+            Thread.ofVirtual().start(this::sleepWhilePinned).join();
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (pinnedCount(registry) == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(pinnedCount(registry)).isPositive();
+            assertThat(registry.find("pomodify.vthreads.pinned").counter().getId().getTag("site"))
+                    .isEqualTo("VirtualThreadPinningMonitorTest.sleepWhilePinned");
+        } finally {
+            pinningMonitor.stop();
+        }
+    }
+
+    private void sleepWhilePinned() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static double pinnedCount(SimpleMeterRegistry registry) {
+        Counter counter = registry.find("pomodify.vthreads.pinned").counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
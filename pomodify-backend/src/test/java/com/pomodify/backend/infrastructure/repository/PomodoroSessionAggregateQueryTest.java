@@ -0,0 +1,207 @@
+package com.pomodify.backend.infrastructure.repository;
+
+import com.pomodify.backend.domain.enums.AuthProvider;
+import com.pomodify.backend.domain.enums.SessionStatus;
+import com.pomodify.backend.domain.enums.SessionType;
+import com.pomodify.backend.domain.model.Activity;
+import com.pomodify.backend.domain.model.PomodoroSession;
+import com.pomodify.backend.domain.model.User;
+import com.pomodify.backend.domain.repository.ActivityRepository;
+import com.pomodify.backend.domain.repository.PomodoroSessionRepository;
+import com.pomodify.backend.domain.repository.UserRepository;
+import com.pomodify.backend.domain.valueobject.Email;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+@Transactional
+class PomodoroSessionAggregateQueryTest {
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private ActivityRepository activityRepository;
+    @Autowired private PomodoroSessionRepository sessionRepository;
+    @Autowired private EntityManager entityManager;
+
+    @Test
+    void groups_finished_sessions_by_day_status_and_activity() {
+        User user = userRepository.save(User.builder()
+                .firstName("Agg")
+                .lastName("Test")
+                .passwordHash("x")
+                .email(new Email("aggregate@pomodify.test"))
+                .authProvider(AuthProvider.LOCAL)
+                .build());
+        Activity activity = activityRepository.save(user.createActivity("Reading", null, null, null));
+
+        LocalDateTime day1 = LocalDateTime.of(2025, 3, 10, 9, 0);
+        sessionWith(activity, SessionStatus.COMPLETED, 2, day1);
+        sessionWith(activity, SessionStatus.COMPLETED, 3, day1.plusHours(10));
+        sessionWith(activity, SessionStatus.ABANDONED, 0, day1.plusDays(1));
+        PomodoroSession deleted = sessionWith(activity, SessionStatus.COMPLETED, 4, day1);
+        deleted.delete();
+        sessionRepository.save(deleted);
+
+        List<PomodoroSessionRepository.DailySessionAggregate> daily = sessionRepository.aggregateDailyByUserIdBetween(
+                user.getId(), day1.toLocalDate().atStartOfDay(), day1.plusDays(2));
+
+        assertThat(daily).hasSize(2);
+        PomodoroSessionRepository.DailySessionAggregate first = daily.stream()
+                .filter(b -> b.day().equals(LocalDate.of(2025, 3, 10)))
+                .findFirst().orElseThrow();
+        assertThat(first.status()).isEqualTo(SessionStatus.COMPLETED);
+        assertThat(first.sessions()).isEqualTo(2);
+        assertThat(first.focusSeconds()).isEqualTo(5 * 25 * 60L);
+        assertThat(first.breakSeconds()).isEqualTo(5 * 5 * 60L);
+
+        List<PomodoroSessionRepository.ActivitySessionAggregate> byActivity = sessionRepository.aggregateByActivityTitleBetween(
+                user.getId(), day1.toLocalDate().atStartOfDay(), day1.plusDays(2));
+
+        assertThat(byActivity).singleElement().satisfies(a -> {
+            assertThat(a.title()).isEqualTo("Reading");
+            assertThat(a.sessions()).isEqualTo(3);
+            assertThat(a.focusMinutes()).isEqualTo(5 * 25L);
+        });
+    }
+
+    @Test
+    void counts_completed_and_abandoned_sessions_per_activity() {
+        User user = userRepository.save(User.builder()
+                .firstName("Rate")
+                .lastName("Test")
+                .passwordHash("x")
+                .email(new Email("rate@pomodify.test"))
+                .authProvider(AuthProvider.LOCAL)
+                .build());
+        Activity reading = activityRepository.save(user.createActivity("Reading", null, null, null));
+        Activity writing = activityRepository.save(user.createActivity("Writing", null, null, null));
+        Activity idle = activityRepository.save(user.createActivity("Idle", null, null, null));
+
+        LocalDateTime now = LocalDateTime.now();
+        sessionWith(reading, SessionStatus.COMPLETED, 1, now);
+        sessionWith(reading, SessionStatus.COMPLETED, 1, now);
+        sessionWith(reading, SessionStatus.ABANDONED, 0, now);
+        sessionWith(writing, SessionStatus.ABANDONED, 0, now);
+        sessionWith(writing, SessionStatus.PAUSED, 0, now);
+
+        Map<Long, PomodoroSessionRepository.ActivityOutcomeCounts> counts = sessionRepository.countOutcomesByActivityIds(
+                List.of(reading.getId(), writing.getId(), idle.getId()));
+
+        assertThat(counts.get(reading.getId())).isEqualTo(new PomodoroSessionRepository.ActivityOutcomeCounts(2, 1));
+        assertThat(counts.get(reading.getId()).completionRate()).isEqualTo(67);
+        assertThat(counts.get(writing.getId()).completionRate()).isZero();
+        assertThat(counts).doesNotContainKey(idle.getId());
+    }
+
+    @Test
+    void bulk_abandons_only_sessions_untouched_past_the_cutoff() {
+        User user = userRepository.save(User.builder()
+                .firstName("Sweep")
+                .lastName("Test")
+                .passwordHash("x")
+                .email(new Email("sweep@pomodify.test"))
+                .authProvider(AuthProvider.LOCAL)
+                .build());
+        Activity activity = activityRepository.save(user.createActivity("Reading", null, null, null));
+
+        LocalDateTime now = LocalDateTime.now();
+        PomodoroSession stale = sessionWith(activity, SessionStatus.PAUSED, 1, null);
+        PomodoroSession fresh = sessionWith(activity, SessionStatus.PAUSED, 1, null);
+        PomodoroSession done = sessionWith(activity, SessionStatus.COMPLETED, 1, now.minusDays(2));
+        entityManager.flush();
+        entityManager.createQuery("update PomodoroSession s set s.updatedAt = :old where s.id in :ids")
+                .setParameter("old", now.minusHours(13))
+                .setParameter("ids", List.of(stale.getId(), done.getId()))
+                .executeUpdate();
+
+        List<PomodoroSessionRepository.AbandonedByActivity> flipped =
+                sessionRepository.abandonExpiredSessions(now.minusHours(12), 100);
+
+        assertThat(flipped).containsExactly(
+                new PomodoroSessionRepository.AbandonedByActivity(user.getId(), activity.getId(), 1));
+        assertThat(sessionRepository.findById(stale.getId()).orElseThrow().getStatus()).isEqualTo(SessionStatus.ABANDONED);
+        assertThat(sessionRepository.findById(fresh.getId()).orElseThrow().getStatus()).isEqualTo(SessionStatus.PAUSED);
+        assertThat(sessionRepository.findById(done.getId()).orElseThrow().getStatus()).isEqualTo(SessionStatus.COMPLETED);
+    }
+
+    @Test
+    void phase_notification_can_be_claimed_only_once() {
+        User user = userRepository.save(User.builder()
+                .firstName("Claim")
+                .lastName("Test")
+                .passwordHash("x")
+                .email(new Email("claim@pomodify.test"))
+                .authProvider(AuthProvider.LOCAL)
+                .build());
+        Activity activity = activityRepository.save(user.createActivity("Reading", null, null, null));
+
+        LocalDateTime deadline = LocalDateTime.now().minusSeconds(1).withNano(0);
+        PomodoroSession running = sessionWith(activity, SessionStatus.IN_PROGRESS, 0, null);
+        running.setPhaseEndTime(deadline);
+        running.setPhaseNotified(false);
+        sessionRepository.save(running);
+        entityManager.flush();
+
+        assertThat(sessionRepository.claimPhaseNotification(running.getId(), deadline.plusMinutes(5))).isFalse();
+        assertThat(sessionRepository.claimPhaseNotification(running.getId(), deadline)).isTrue();
+        assertThat(sessionRepository.claimPhaseNotification(running.getId(), deadline)).isFalse();
+    }
+
+    @Test
+    void due_sessions_are_partitioned_by_shard_except_stale_ones() {
+        User user = userRepository.save(User.builder()
+                .firstName("Shard")
+                .lastName("Test")
+                .passwordHash("x")
+                .email(new Email("shard@pomodify.test"))
+                .authProvider(AuthProvider.LOCAL)
+                .build());
+        Activity activity = activityRepository.save(user.createActivity("Reading", null, null, null));
+
+        LocalDateTime now = LocalDateTime.now();
+        PomodoroSession a = dueSession(activity, now.minusSeconds(5));
+        PomodoroSession b = dueSession(activity, now.minusSeconds(5));
+        PomodoroSession stale = dueSession(activity, now.minusMinutes(10));
+        entityManager.flush();
+
+        List<Long> shard0 = sessionRepository.findSessionIdsNeedingNotification(now, now.minusMinutes(2), 2, 0, 100);
+        List<Long> shard1 = sessionRepository.findSessionIdsNeedingNotification(now, now.minusMinutes(2), 2, 1, 100);
+
+        assertThat(shard0).contains(stale.getId());
+        assertThat(shard1).contains(stale.getId());
+        for (PomodoroSession fresh : List.of(a, b)) {
+            List<Long> owner = fresh.getId() % 2 == 0 ? shard0 : shard1;
+            List<Long> other = fresh.getId() % 2 == 0 ? shard1 : shard0;
+            assertThat(owner).contains(fresh.getId());
+            assertThat(other).doesNotContain(fresh.getId());
+        }
+    }
+
+    private PomodoroSession dueSession(Activity activity, LocalDateTime phaseEndTime) {
+        PomodoroSession session = sessionWith(activity, SessionStatus.IN_PROGRESS, 0, null);
+        session.setPhaseEndTime(phaseEndTime);
+        session.setPhaseNotified(false);
+        return sessionRepository.save(session);
+    }
+
+    private PomodoroSession sessionWith(Activity activity, SessionStatus status, int cycles, LocalDateTime completedAt) {
+        PomodoroSession session = PomodoroSession.create(activity, SessionType.CLASSIC,
+                Duration.ofMinutes(25), Duration.ofMinutes(5), 4, null);
+        session.setStatus(status);
+        session.setCyclesCompleted(cycles);
+        session.setCompletedAt(completedAt);
+        return sessionRepository.save(session);
+    }
+}
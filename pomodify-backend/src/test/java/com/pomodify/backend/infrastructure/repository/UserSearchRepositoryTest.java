@@ -0,0 +1,72 @@
+package com.pomodify.backend.infrastructure.repository;
+
+import com.pomodify.backend.domain.enums.AuthProvider;
+import com.pomodify.backend.domain.model.User;
+import com.pomodify.backend.domain.repository.UserRepository;
+import com.pomodify.backend.domain.valueobject.Email;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("h2")
+@Transactional
+class UserSearchRepositoryTest {
+
+    @Autowired private UserRepository userRepository;
+
+    private User ada;
+    private User alan;
+    private User grace;
+
+    @BeforeEach
+    void setUp() {
+        ada = save("Ada", "Lovelace", "ada@engine.org");
+        alan = save("Alan", "Turing", "alan_t@bletchley.uk");
+        grace = save("Grace", "Hopper", "grace@navy.mil");
+        User gone = save("Adam", "Gone", "adam@deleted.com");
+        userRepository.delete(gone);
+    }
+
+    @Test
+    void pages_active_users_newest_first_by_id_cursor() {
+        List<User> first = userRepository.findActivePage(null, null, 2);
+        assertThat(first).extracting(User::getId).containsExactly(grace.getId(), alan.getId());
+
+        List<User> second = userRepository.findActivePage(null, first.get(1).getId(), 2);
+        assertThat(second).extracting(User::getId).startsWith(ada.getId());
+    }
+
+    @Test
+    void matches_name_full_name_and_email_case_insensitively() {
+        assertThat(userRepository.findActivePage("LOVE", null, 10)).containsExactly(ada);
+        assertThat(userRepository.findActivePage("grace hop", null, 10)).containsExactly(grace);
+        assertThat(userRepository.findActivePage("@engine", null, 10)).containsExactly(ada);
+        assertThat(userRepository.findActivePage("ada", null, 10)).containsExactly(ada);
+    }
+
+    @Test
+    void treats_like_wildcards_literally() {
+        assertThat(userRepository.findActivePage("n_t@", null, 10)).containsExactly(alan);
+        // As a wildcard, "_" would match "ada"
+        assertThat(userRepository.findActivePage("a_a", null, 10)).isEmpty();
+        assertThat(userRepository.findActivePage("%", null, 10)).isEmpty();
+    }
+
+    private User save(String firstName, String lastName, String email) {
+        return userRepository.save(User.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .passwordHash("x")
+                .email(new Email(email))
+                .authProvider(AuthProvider.LOCAL)
+                .build());
+    }
+}
@@ -2,6 +2,7 @@ package com.pomodify.backend.presentation.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pomodify.backend.application.dto.AdminUserDto;
+import com.pomodify.backend.application.dto.AdminUserPage;
 import com.pomodify.backend.application.service.AdminService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,6 +23,7 @@ import java.util.Map;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -52,6 +54,10 @@ class AdminControllerWebMvcTest {
                 .build();
     }
 
+    private AdminUserPage page(List<AdminUserDto> users, Long nextCursor) {
+        return AdminUserPage.builder().users(users).nextCursor(nextCursor).build();
+    }
+
     @Nested
     @DisplayName("POST /admin/login")
     class AdminLoginTests {
@@ -106,26 +112,39 @@ class AdminControllerWebMvcTest {
                     createTestUserDto(1L, "John", "Doe", "john@test.com"),
                     createTestUserDto(2L, "Jane", "Smith", "jane@test.com")
             );
-            when(adminService.getAllUsers()).thenReturn(users);
+            when(adminService.getAllUsers(null, 50)).thenReturn(page(users, null));
 
             mockMvc.perform(get("/admin/users"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(2)))
                     .andExpect(jsonPath("$[0].firstName").value("John"))
-                    .andExpect(jsonPath("$[1].firstName").value("Jane"));
+                    .andExpect(jsonPath("$[1].firstName").value("Jane"))
+                    .andExpect(header().doesNotExist("X-Next-Cursor"));
 
-            verify(adminService).getAllUsers();
+            verify(adminService).getAllUsers(null, 50);
         }
 
         @Test
         @DisplayName("Should return empty list when no users")
         void shouldReturnEmptyListWhenNoUsers() throws Exception {
-            when(adminService.getAllUsers()).thenReturn(Collections.emptyList());
+            when(adminService.getAllUsers(null, 50)).thenReturn(page(Collections.emptyList(), null));
 
             mockMvc.perform(get("/admin/users"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$", hasSize(0)));
         }
+
+        @Test
+        @DisplayName("Should pass the cursor through and expose the next one")
+        void shouldPageWithCursor() throws Exception {
+            when(adminService.getAllUsers(120L, 1)).thenReturn(
+                    page(List.of(createTestUserDto(119L, "John", "Doe", "john@test.com")), 119L));
+
+            mockMvc.perform(get("/admin/users").param("cursor", "120").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(header().string("X-Next-Cursor", "119"));
+        }
     }
 
     @Nested
@@ -138,7 +157,7 @@ class AdminControllerWebMvcTest {
             List<AdminUserDto> users = Arrays.asList(
                     createTestUserDto(1L, "John", "Doe", "john@test.com")
             );
-            when(adminService.searchUsers("John")).thenReturn(users);
+            when(adminService.searchUsers(eq("John"), isNull(), eq(50))).thenReturn(page(users, null));
 
             mockMvc.perform(get("/admin/users/search")
                             .param("query", "John"))
@@ -146,13 +165,13 @@ class AdminControllerWebMvcTest {
                     .andExpect(jsonPath("$", hasSize(1)))
                     .andExpect(jsonPath("$[0].firstName").value("John"));
 
-            verify(adminService).searchUsers("John");
+            verify(adminService).searchUsers("John", null, 50);
         }
 
         @Test
         @DisplayName("Should return empty list for non-matching query")
         void shouldReturnEmptyListForNonMatchingQuery() throws Exception {
-            when(adminService.searchUsers("nonexistent")).thenReturn(Collections.emptyList());
+            when(adminService.searchUsers(eq("nonexistent"), isNull(), eq(50))).thenReturn(page(Collections.emptyList(), null));
 
             mockMvc.perform(get("/admin/users/search")
                             .param("query", "nonexistent"))
@@ -167,7 +186,7 @@ class AdminControllerWebMvcTest {
                     createTestUserDto(1L, "John", "Doe", "john@test.com"),
                     createTestUserDto(2L, "Jane", "Smith", "jane@test.com")
             );
-            when(adminService.searchUsers("")).thenReturn(allUsers);
+            when(adminService.searchUsers(eq(""), isNull(), eq(50))).thenReturn(page(allUsers, null));
 
             mockMvc.perform(get("/admin/users/search")
                             .param("query", ""))
@@ -213,7 +232,7 @@ class AdminControllerWebMvcTest {
         @DisplayName("Should return correct DTO fields")
         void shouldReturnCorrectDtoFields() throws Exception {
             AdminUserDto user = createTestUserDto(1L, "Test", "User", "test@example.com");
-            when(adminService.searchUsers("test@example.com")).thenReturn(List.of(user));
+            when(adminService.searchUsers(eq("test@example.com"), isNull(), eq(50))).thenReturn(page(List.of(user), null));
 
             mockMvc.perform(get("/admin/users/search")
                             .param("query", "test@example.com"))
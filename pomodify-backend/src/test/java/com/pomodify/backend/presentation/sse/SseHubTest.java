@@ -0,0 +1,155 @@
+package com.pomodify.backend.presentation.sse;
+
+import com.pomodify.backend.application.port.out.UserEventBus.UserEvent;
+import com.pomodify.backend.infrastructure.adapter.events.LocalUserEventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseHubTest {
+
+    private LocalUserEventBus bus;
+    private SimpleMeterRegistry registry;
+    private SseHub hub;
+
+    @BeforeEach
+    void setUp() {
+        bus = new LocalUserEventBus();
+        registry = new SimpleMeterRegistry();
+        hub = new SseHub(bus, registry, 2, 3, 60_000);
+        ReflectionTestUtils.setField(hub, "bufferSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void every_subscriber_of_a_session_receives_bus_events() throws Exception {
+        RecordingEmitter firstTab = new RecordingEmitter(null);
+        RecordingEmitter secondTab = new RecordingEmitter(null);
+        hub.register("session:5", firstTab);
+        hub.register("session:5", secondTab);
+        RecordingEmitter otherSession = new RecordingEmitter(null);
+        hub.register("session:6", otherSession);
+
+        bus.publish(new UserEvent(1L, "phase-change", 1L, 5L, Map.of("status", "PAUSED")));
+
+        waitUntil(() -> firstTab.sent.size() == 1 && secondTab.sent.size() == 1);
+        assertThat(otherSession.sent).isEmpty();
+        assertThat(hub.connectionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void slow_consumer_is_evicted_without_affecting_others() throws Exception {
+        CountDownLatch stuck = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(stuck);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        SseHub.Subscription slowSubscription = hub.register("session:5", slow);
+        hub.register("session:5", fast);
+
+        for (int i = 0; i < 5; i++) {
+            bus.publish(new UserEvent(1L, "phase-change", 1L, 5L, Map.of("n", i)));
+            int delivered = i + 1;
+            waitUntil(() -> fast.sent.size() == delivered);
+        }
+
+        waitUntil(slowSubscription::isClosed);
+        assertThat(hub.connectionCount()).isEqualTo(1);
+        assertThat(registry.get("pomodify.sse.evicted").counter().count()).isEqualTo(1.0);
+        stuck.countDown();
+    }
+
+    @Test
+    void user_stream_carries_all_event_types_and_replays_after_last_event_id() throws Exception {
+        bus.publish(new UserEvent(10L, "phase-change", 1L, 5L, Map.of()));
+        bus.publish(new UserEvent(11L, "badge-awarded", 1L, null, Map.of()));
+        bus.publish(new UserEvent(12L, "settings-changed", 1L, null, Map.of()));
+        bus.publish(new UserEvent(13L, "badge-awarded", 2L, null, Map.of()));
+
+        RecordingEmitter reconnect = new RecordingEmitter(null);
+        hub.subscribeToUser(1L, "10", reconnect);
+        bus.publish(new UserEvent(14L, "session-completed", 1L, 5L, Map.of()));
+
+        // connected + replayed 11, 12 + live 14; nothing from user 2
+        waitUntil(() -> reconnect.sent.size() == 4);
+    }
+
+    @Test
+    void user_stream_asks_for_resync_when_replay_window_was_exceeded() throws Exception {
+        for (long id = 1; id <= 5; id++) {
+            bus.publish(new UserEvent(id, "phase-change", 1L, 5L, Map.of()));
+        }
+
+        RecordingEmitter reconnect = new RecordingEmitter(null);
+        hub.subscribeToUser(1L, "1", reconnect);
+
+        // connected + resync instead of a partial replay (event 2 was dropped from the 3-event window)
+        waitUntil(() -> reconnect.sent.size() == 2);
+        Thread.sleep(50);
+        assertThat(reconnect.sent).hasSize(2);
+    }
+
+    @Test
+    void user_stream_asks_for_resync_when_this_node_has_no_replay_buffer() throws Exception {
+        // e.g. the buffer expired, or the client reconnected to another node or after a restart
+        RecordingEmitter reconnect = new RecordingEmitter(null);
+        hub.subscribeToUser(1L, "42", reconnect);
+
+        // connected + resync, although nothing was ever dropped from this node's buffer
+        waitUntil(() -> reconnect.sent.size() == 2);
+    }
+
+    @Test
+    void heartbeat_reaches_idle_connections() throws Exception {
+        RecordingEmitter idle = new RecordingEmitter(null);
+        hub.register("session:9", idle);
+
+        hub.heartbeat();
+
+        waitUntil(() -> idle.sent.size() == 1);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 2s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /** Captures sends instead of writing to a response; optionally blocks to simulate a stalled client. */
+    private static class RecordingEmitter extends SseEmitter {
+        final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch block;
+
+        RecordingEmitter(CountDownLatch block) {
+            this.block = block;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (block != null) {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(builder);
+        }
+    }
+}
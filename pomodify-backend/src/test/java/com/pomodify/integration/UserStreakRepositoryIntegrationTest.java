@@ -0,0 +1,99 @@
+package com.pomodify.integration;
+
+import com.pomodify.backend.domain.model.UserStreak;
+import com.pomodify.backend.domain.repository.UserStreakRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streak persistence against PostgreSQL; recording a focus day relies on INSERT ... ON CONFLICT.
+ */
+@SpringBootTest(classes = com.pomodify.backend.PomodifyApiApplication.class)
+@ActiveProfiles("test")
+@Testcontainers
+@Transactional
+class UserStreakRepositoryIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("pomodifydb_test")
+            .withUsername("postgres")
+            .withPassword("postgres");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    private static final Long USER_ID = 501L;
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 10);
+
+    @Autowired private UserStreakRepository streakRepository;
+    @Autowired private EntityManager entityManager;
+
+    @Test
+    void consecutive_days_extend_the_streak_and_same_day_is_counted_once() {
+        record(MONDAY);
+        record(MONDAY.plusDays(1));
+        record(MONDAY.plusDays(1));
+        record(MONDAY.plusDays(2));
+
+        UserStreak streak = load();
+        assertThat(streak.getCurrentStreak()).isEqualTo(3);
+        assertThat(streak.getBestStreak()).isEqualTo(3);
+        assertThat(streak.getLastFocusDay()).isEqualTo(MONDAY.plusDays(2));
+        assertThat(streak.currentStreakOn(MONDAY.plusDays(2))).isEqualTo(3);
+        assertThat(streak.currentStreakOn(MONDAY.plusDays(3))).isZero();
+    }
+
+    @Test
+    void a_gap_restarts_the_streak_but_keeps_the_best() {
+        record(MONDAY);
+        record(MONDAY.plusDays(1));
+        record(MONDAY.plusDays(4));
+
+        UserStreak streak = load();
+        assertThat(streak.getCurrentStreak()).isEqualTo(1);
+        assertThat(streak.getBestStreak()).isEqualTo(2);
+        assertThat(streak.getLastFocusDay()).isEqualTo(MONDAY.plusDays(4));
+    }
+
+    @Test
+    void an_earlier_day_arriving_late_is_merged_from_the_calendar() {
+        record(MONDAY);
+        record(MONDAY.plusDays(1));
+        record(MONDAY.plusDays(4));
+        record(MONDAY.plusDays(2));
+
+        UserStreak streak = load();
+        assertThat(streak.getCurrentStreak()).isEqualTo(1);
+        assertThat(streak.getBestStreak()).isEqualTo(3);
+        assertThat(streak.calendar().countInRange(MONDAY, MONDAY.plusDays(6))).isEqualTo(4);
+    }
+
+    private void record(LocalDate day) {
+        streakRepository.recordFocusDay(USER_ID, day);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private UserStreak load() {
+        return streakRepository.findByUserId(USER_ID).orElseThrow();
+    }
+}
@@ -1,6 +1,6 @@
 import { Injectable, inject } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
-import { Observable } from 'rxjs';
+import { Observable, map } from 'rxjs';
 import { API } from '../config/api.config';
 
 export interface AdminUser {
@@ -13,6 +13,12 @@ export interface AdminUser {
   createdAt: string;
 }
 
+/** One page of users; pass nextCursor back to get the following page (null on the last one). */
+export interface AdminUserPage {
+  users: AdminUser[];
+  nextCursor: number | null;
+}
+
 export interface AdminLoginResponse {
   success: boolean;
   message: string;
@@ -35,20 +41,32 @@ export class AdminService {
     return this.http.post<AdminLoginResponse>(ADMIN_API.LOGIN, { username, password });
   }
 
-  getAllUsers(): Observable<AdminUser[]> {
-    return this.http.get<AdminUser[]>(ADMIN_API.USERS);
+  getAllUsers(cursor?: number | null): Observable<AdminUserPage> {
+    return this.getPage(ADMIN_API.USERS, cursor != null ? { cursor } : {});
   }
 
-  searchUsers(query: string): Observable<AdminUser[]> {
-    return this.http.get<AdminUser[]>(ADMIN_API.SEARCH, {
-      params: query ? { query } : {}
-    });
+  searchUsers(query: string, cursor?: number | null): Observable<AdminUserPage> {
+    const params: Record<string, string | number> = query ? { query } : {};
+    if (cursor != null) {
+      params['cursor'] = cursor;
+    }
+    return this.getPage(ADMIN_API.SEARCH, params);
   }
 
   deleteUser(userId: number): Observable<{ success: boolean; message: string }> {
     return this.http.delete<{ success: boolean; message: string }>(ADMIN_API.DELETE(userId));
   }
 
+  // The server pages by id and sends the cursor for the next page in X-Next-Cursor
+  private getPage(url: string, params: Record<string, string | number>): Observable<AdminUserPage> {
+    return this.http.get<AdminUser[]>(url, { params, observe: 'response' }).pipe(
+      map(response => {
+        const next = response.headers.get('X-Next-Cursor');
+        return { users: response.body ?? [], nextCursor: next ? Number(next) : null };
+      })
+    );
+  }
+
   isLoggedIn(): boolean {
     return sessionStorage.getItem('adminAuth') === 'true';
   }
@@ -385,7 +385,8 @@ export class Auth {
   }
 
   /**
-   * Uploads a profile picture for the authenticated user.
+   * Uploads a profile picture for the authenticated user. The server answers 202 with the current
+   * picture and a profilePictureUploadId; see waitForProfilePicture for the processed result.
    * @param file - The image file to upload
    */
   uploadProfilePicture(file: File): Promise<any> {
@@ -395,6 +396,24 @@ export class Auth {
     return lastValueFrom(this.http.post<any>(url, formData, { withCredentials: true }));
   }
 
+  /**
+   * Waits for a profile picture upload to be processed by polling the profile until its pending
+   * upload id changes. Resolves with the latest profile, or null if it is still pending at the timeout.
+   * @param uploadId - The profilePictureUploadId returned by uploadProfilePicture
+   * @param timeoutMs - How long to keep polling
+   */
+  async waitForProfilePicture(uploadId: string, timeoutMs = 30000): Promise<any | null> {
+    const deadline = Date.now() + timeoutMs;
+    while (Date.now() < deadline) {
+      await new Promise(resolve => setTimeout(resolve, 1000));
+      const user = await lastValueFrom(this.http.get<any>(API.USER.PROFILE, { withCredentials: true }));
+      if (user?.profilePictureUploadId !== uploadId) {
+        return user;
+      }
+    }
+    return null;
+  }
+
   /**
    * Deletes the profile picture for the authenticated user.
    */
@@ -21,7 +21,9 @@ export class AdminDashboard implements OnInit {
 
   searchQuery = '';
   isLoading = false;
+  isLoadingMore = false;
   filteredUsers: AdminUser[] = [];
+  nextCursor: number | null = null;
   private searchSubject = new Subject<string>();
 
   ngOnInit(): void {
@@ -46,25 +48,49 @@ export class AdminDashboard implements OnInit {
   private performSearch(query: string): void {
     if (!query.trim()) {
       this.filteredUsers = [];
+      this.nextCursor = null;
       return;
     }
 
     this.isLoading = true;
     this.adminService.searchUsers(query).subscribe({
-      next: (users) => {
-        this.filteredUsers = users;
+      next: (page) => {
+        this.filteredUsers = page.users;
+        this.nextCursor = page.nextCursor;
         this.isLoading = false;
       },
       error: (_err) => {
         this.filteredUsers = [];
+        this.nextCursor = null;
         this.isLoading = false;
       }
     });
   }
 
+  loadMore(): void {
+    if (this.nextCursor == null || this.isLoadingMore) return;
+
+    const query = this.searchQuery;
+    this.isLoadingMore = true;
+    this.adminService.searchUsers(query, this.nextCursor).subscribe({
+      next: (page) => {
+        // Ignore a page that arrives after the query changed
+        if (query === this.searchQuery) {
+          this.filteredUsers = [...this.filteredUsers, ...page.users];
+          this.nextCursor = page.nextCursor;
+        }
+        this.isLoadingMore = false;
+      },
+      error: (_err) => {
+        this.isLoadingMore = false;
+      }
+    });
+  }
+
   clearSearch(): void {
     this.searchQuery = '';
     this.filteredUsers = [];
+    this.nextCursor = null;
   }
 
   onDeleteUser(user: AdminUser): void {
@@ -276,15 +276,21 @@ export class Profile implements OnInit {
       this.isUploadingImage.set(true);
       this.imageUploadError.set(null);
       
-      this.auth.uploadProfilePicture(file).then((response: any) => {
-        if (response.profilePictureUrl) {
+      this.auth.uploadProfilePicture(file).then(async (response: any) => {
+        // The server resizes the picture in the background; wait for it before showing it
+        const user = await this.auth.waitForProfilePicture(response.profilePictureUploadId);
+        if (!user) {
+          this.imageUploadError.set('Your picture is still being processed. It will appear shortly.');
+        } else if (user.profilePictureUrl && user.profilePictureUrl !== response.profilePictureUrl) {
           const baseUrl = API.ROOT.replace('/api/v2', '');
-          const fullUrl = baseUrl + response.profilePictureUrl;
+          const fullUrl = baseUrl + user.profilePictureUrl;
           this.profileImage.set(fullUrl);
           this.hasCustomProfilePicture.set(true);
           // Update shared profile service so all components reflect the change
-          this.userProfileService.updateProfilePicture(response.profilePictureUrl);
+          this.userProfileService.updateProfilePicture(user.profilePictureUrl);
           this.notificationService.showSuccess('Profile Updated', 'Your profile picture has been updated successfully.');
+        } else {
+          this.imageUploadError.set('Failed to process image. Please try another one.');
         }
         this.isUploadingImage.set(false);
       }).catch((_error) => {